@@ -0,0 +1,110 @@
+package com.strengthhub.strength_hub_api.benchmark;
+
+import com.strengthhub.strength_hub_api.security.JwtAuthenticationFilter;
+import com.strengthhub.strength_hub_api.security.JwtUtil;
+import com.strengthhub.strength_hub_api.security.SecurityUtils;
+import com.strengthhub.strength_hub_api.security.TokenClaims;
+import com.strengthhub.strength_hub_api.security.UserPrincipal;
+import com.strengthhub.strength_hub_api.security.VerifiedTokenCache;
+import com.strengthhub.strength_hub_api.model.User;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the pieces of authentication that run on every API request: token issue, token
+ * verification, the servlet filter end to end (with and without a verified-token cache hit)
+ * and the {@link SecurityUtils} role checks used by the services, for both token formats.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthHotPathBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"false", "true"})
+    public boolean compactTokens;
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String accessToken;
+    private VerifiedTokenCache tokenCache;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletResponse response;
+    private UUID otherUserId;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(compactTokens);
+        user = BenchmarkFixtures.lifterUser();
+        accessToken = jwtUtil.generateAccessToken(user);
+        tokenCache = new VerifiedTokenCache(10_000, 16);
+        filter = new JwtAuthenticationFilter(jwtUtil, tokenCache, (request, response, handler, ex) -> null);
+        response = new MockHttpServletResponse();
+        otherUserId = UUID.randomUUID();
+
+        UserPrincipal principal = new UserPrincipal(jwtUtil.parseToken(accessToken));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public void validateAndExtractClaims(Blackhole bh) {
+        jwtUtil.validateToken(accessToken);
+        TokenClaims claims = jwtUtil.parseToken(accessToken);
+        bh.consume(claims.getUserId());
+        bh.consume(claims.isAdmin());
+        bh.consume(claims.isCoach());
+        bh.consume(claims.isLifter());
+    }
+
+    @Benchmark
+    public Object filterWithCachedToken() throws Exception {
+        filter.doFilter(bearerRequest(), response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object filterWithColdCache() throws Exception {
+        tokenCache.invalidateAll();
+        filter.doFilter(bearerRequest(), response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public void securityUtilsRoleChecks(Blackhole bh) {
+        bh.consume(SecurityUtils.getCurrentUserId());
+        bh.consume(SecurityUtils.isCurrentUserAdmin());
+        bh.consume(SecurityUtils.isCurrentUserCoach());
+        bh.consume(SecurityUtils.isCurrentUserLifter());
+        bh.consume(SecurityUtils.isCurrentUserOrAdmin(otherUserId));
+    }
+
+    // A fresh request per call: OncePerRequestFilter marks requests it has already seen
+    private MockHttpServletRequest bearerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/workout-plans");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        return request;
+    }
+}
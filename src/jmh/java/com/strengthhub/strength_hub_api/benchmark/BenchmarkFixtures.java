@@ -0,0 +1,52 @@
+package com.strengthhub.strength_hub_api.benchmark;
+
+import com.strengthhub.strength_hub_api.model.Lifter;
+import com.strengthhub.strength_hub_api.model.User;
+import com.strengthhub.strength_hub_api.security.JwtUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Shared, Spring-free fixtures for the JMH benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET = "benchmark-jwt-secret-that-is-long-enough-for-hmac-sha256-algorithm";
+    static final String ISSUER = "strength-hub-benchmark";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        return jwtUtil(false);
+    }
+
+    static JwtUtil jwtUtil(boolean compactTokens) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "issuer", ISSUER);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpirationMs", 604_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "compactTokens", compactTokens);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    static User lifterUser() {
+        UUID userId = UUID.randomUUID();
+        User user = User.builder()
+                .userId(userId)
+                .username("bench-lifter")
+                .email("bench-lifter@strengthhub.com")
+                .passwordHash("unused")
+                .firstName("Bench")
+                .lastName("Lifter")
+                .isAdmin(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+        user.setLifterProfile(Lifter.builder().lifterId(userId).app_user(user).build());
+        return user;
+    }
+}
@@ -0,0 +1,61 @@
+package com.strengthhub.strength_hub_api.benchmark;
+
+import com.strengthhub.strength_hub_api.security.JwtUtil;
+import com.strengthhub.strength_hub_api.security.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of turning a bearer token into authentication data.
+ * {@code sevenParsesPerRequest} reproduces the old filter, which verified the token once
+ * per claim with a freshly built key and parser; {@code parseOncePerRequest} is the
+ * current {@link JwtUtil#parseToken(String)} path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtClaimsParsingBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        accessToken = jwtUtil.generateAccessToken(BenchmarkFixtures.lifterUser());
+    }
+
+    @Benchmark
+    public void sevenParsesPerRequest(Blackhole bh) {
+        String issuer = claimsOf(accessToken).getIssuer();
+        bh.consume(issuer.equals(BenchmarkFixtures.ISSUER));
+        bh.consume("access".equals(claimsOf(accessToken).get("tokenType", String.class)));
+        bh.consume(claimsOf(accessToken).getSubject());
+        bh.consume(UUID.fromString(claimsOf(accessToken).get("userId", String.class)));
+        bh.consume(claimsOf(accessToken).get("isAdmin", Boolean.class));
+        bh.consume(claimsOf(accessToken).get("isCoach", Boolean.class));
+        bh.consume(claimsOf(accessToken).get("isLifter", Boolean.class));
+    }
+
+    @Benchmark
+    public TokenClaims parseOncePerRequest() {
+        return jwtUtil.parseToken(accessToken);
+    }
+
+    private static Claims claimsOf(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(BenchmarkFixtures.SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -1,15 +1,38 @@
 package com.strengthhub.strength_hub_api.config;
 
+import com.strengthhub.strength_hub_api.security.BoundedPasswordEncoder;
+import com.strengthhub.strength_hub_api.security.CalibratedBCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordEncoderConfig {
 
+    @Value("${app.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.password-hashing.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    @Value("${app.password-hashing.target-latency-ms:80}")
+    private long targetLatencyMs;
+
+    @Value("${app.password-hashing.min-cost:10}")
+    private int minCost;
+
+    @Value("${app.password-hashing.max-cost:14}")
+    private int maxCost;
+
+    // BCrypt runs on its own bounded pool instead of the request threads (threads <= 0 means one per core),
+    // with a cost calibrated to this machine
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        CalibratedBCryptPasswordEncoder bcrypt = new CalibratedBCryptPasswordEncoder(targetLatencyMs, minCost, maxCost);
+        return new BoundedPasswordEncoder(bcrypt, poolSize, queueCapacity, retryAfterSeconds);
     }
-}
\ No newline at end of file
+}
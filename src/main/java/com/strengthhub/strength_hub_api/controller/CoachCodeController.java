@@ -20,7 +20,7 @@ public class CoachCodeController {
     private final CoachCodeService coachCodeService;
 
     @PostMapping("/generate")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("principal.admin")
     public ResponseEntity<CoachCodeResponse> generateCoachCode() {
         CoachCodeResponse generatedCode = coachCodeService.generateCoachCode();
         return new ResponseEntity<>(generatedCode, HttpStatus.CREATED);
@@ -2,9 +2,11 @@ package com.strengthhub.strength_hub_api.controller;
 
 import com.strengthhub.strength_hub_api.dto.request.coach.CoachRegistrationRequest;
 import com.strengthhub.strength_hub_api.dto.request.coach.CoachUpdateRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachDetailResponse;
 import com.strengthhub.strength_hub_api.dto.response.lifter.LifterSummaryResponse;
+import com.strengthhub.strength_hub_api.service.PageCursor;
 import com.strengthhub.strength_hub_api.service.CoachService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -14,6 +16,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,7 +30,7 @@ public class CoachController {
     private final CoachService coachService;
 
     @PostMapping("/{userId}")
-    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.userId")
+    @PreAuthorize("principal.admin or #id == principal.userId")
     public ResponseEntity<CoachResponse> createCoach(@PathVariable UUID userId,
                                                      @Valid @RequestBody CoachRegistrationRequest request) {
         CoachResponse coach = coachService.createCoach(userId, request);
@@ -40,13 +44,14 @@ public class CoachController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CoachResponse>> getAllCoaches() {
-        List<CoachResponse> coaches = coachService.getAllCoaches();
+    public ResponseEntity<CursorPageResponse<CoachResponse>> getAllCoaches(@RequestParam(defaultValue = "20") @Min(1) @Max(PageCursor.MAX_LIMIT) int limit,
+                                                                           @RequestParam(required = false) String after) {
+        CursorPageResponse<CoachResponse> coaches = coachService.getAllCoaches(limit, after);
         return ResponseEntity.ok(coaches);
     }
 
     @PutMapping("/{coachId}")
-    @PreAuthorize("hasRole('ADMIN') or #coachId == authentication.principal.userId")
+    @PreAuthorize("principal.admin or #coachId == principal.userId")
     public ResponseEntity<CoachResponse> updateCoach(@PathVariable UUID coachId,
                                                      @Valid @RequestBody CoachUpdateRequest request) {
         CoachResponse updatedCoach = coachService.updateCoach(coachId, request);
@@ -54,7 +59,7 @@ public class CoachController {
     }
 
     @DeleteMapping("/{coachId}")
-    @PreAuthorize("hasRole('ADMIN') or #coachId == authentication.principal.userId")
+    @PreAuthorize("principal.admin or #coachId == principal.userId")
     public ResponseEntity<Void> deleteCoach(@PathVariable UUID coachId) {
         coachService.deleteCoach(coachId);
         return ResponseEntity.noContent().build();
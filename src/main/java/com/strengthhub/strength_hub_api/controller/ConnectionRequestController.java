@@ -2,8 +2,10 @@ package com.strengthhub.strength_hub_api.controller;
 
 import com.strengthhub.strength_hub_api.dto.request.connection.ConnectionRequestCreateRequest;
 import com.strengthhub.strength_hub_api.dto.request.connection.ConnectionRequestResponseRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.connection.ConnectionRequestResponse;
 import com.strengthhub.strength_hub_api.security.SecurityUtils;
+import com.strengthhub.strength_hub_api.service.PageCursor;
 import com.strengthhub.strength_hub_api.service.ConnectionRequestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -13,7 +15,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import java.util.List;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.UUID;
 
 @RestController
@@ -51,25 +54,28 @@ public class ConnectionRequestController {
 
     @GetMapping("/sent")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<ConnectionRequestResponse>> getSentRequests() {
+    public ResponseEntity<CursorPageResponse<ConnectionRequestResponse>> getSentRequests(@RequestParam(defaultValue = "20") @Min(1) @Max(PageCursor.MAX_LIMIT) int limit,
+                                                                                         @RequestParam(required = false) String after) {
         UUID currentUserId = SecurityUtils.getCurrentUserId();
-        List<ConnectionRequestResponse> requests = connectionRequestService.getSentRequests(currentUserId);
+        CursorPageResponse<ConnectionRequestResponse> requests = connectionRequestService.getSentRequests(currentUserId, limit, after);
         return ResponseEntity.ok(requests);
     }
 
     @GetMapping("/received")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<ConnectionRequestResponse>> getReceivedRequests() {
+    public ResponseEntity<CursorPageResponse<ConnectionRequestResponse>> getReceivedRequests(@RequestParam(defaultValue = "20") @Min(1) @Max(PageCursor.MAX_LIMIT) int limit,
+                                                                                             @RequestParam(required = false) String after) {
         UUID currentUserId = SecurityUtils.getCurrentUserId();
-        List<ConnectionRequestResponse> requests = connectionRequestService.getReceivedRequests(currentUserId);
+        CursorPageResponse<ConnectionRequestResponse> requests = connectionRequestService.getReceivedRequests(currentUserId, limit, after);
         return ResponseEntity.ok(requests);
     }
 
     @GetMapping("/pending")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<ConnectionRequestResponse>> getPendingReceivedRequests() {
+    public ResponseEntity<CursorPageResponse<ConnectionRequestResponse>> getPendingReceivedRequests(@RequestParam(defaultValue = "20") @Min(1) @Max(PageCursor.MAX_LIMIT) int limit,
+                                                                                                    @RequestParam(required = false) String after) {
         UUID currentUserId = SecurityUtils.getCurrentUserId();
-        List<ConnectionRequestResponse> requests = connectionRequestService.getPendingReceivedRequests(currentUserId);
+        CursorPageResponse<ConnectionRequestResponse> requests = connectionRequestService.getPendingReceivedRequests(currentUserId, limit, after);
         return ResponseEntity.ok(requests);
     }
 
@@ -1,7 +1,9 @@
 package com.strengthhub.strength_hub_api.controller;
 
 import com.strengthhub.strength_hub_api.dto.request.coach.CoachAssignmentRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.lifter.LifterResponse;
+import com.strengthhub.strength_hub_api.service.PageCursor;
 import com.strengthhub.strength_hub_api.service.LifterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +12,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,13 +32,14 @@ public class LifterController {
     }
 
     @GetMapping
-    public ResponseEntity<List<LifterResponse>> getAllLifters() {
-        List<LifterResponse> lifters = lifterService.getAllLifters();
+    public ResponseEntity<CursorPageResponse<LifterResponse>> getAllLifters(@RequestParam(defaultValue = "20") @Min(1) @Max(PageCursor.MAX_LIMIT) int limit,
+                                                                            @RequestParam(required = false) String after) {
+        CursorPageResponse<LifterResponse> lifters = lifterService.getAllLifters(limit, after);
         return ResponseEntity.ok(lifters);
     }
 
     @DeleteMapping("/{lifterId}")
-    @PreAuthorize("hasRole('ADMIN') or #lifterId == authentication.principal.userId")
+    @PreAuthorize("principal.admin or #lifterId == principal.userId")
     public ResponseEntity<Void> deleteLifter(@PathVariable UUID lifterId) {
         lifterService.deleteLifter(lifterId);
         return ResponseEntity.noContent().build();
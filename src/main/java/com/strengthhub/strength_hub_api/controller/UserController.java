@@ -2,7 +2,9 @@ package com.strengthhub.strength_hub_api.controller;
 
 import com.strengthhub.strength_hub_api.dto.request.user.UserRegistrationRequest;
 import com.strengthhub.strength_hub_api.dto.request.user.UserUpdateRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.user.UserResponse;
+import com.strengthhub.strength_hub_api.service.PageCursor;
 import com.strengthhub.strength_hub_api.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,7 +14,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import java.util.List;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.UUID;
 
 @RestController
@@ -30,13 +33,14 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.getAllUsers();
+    public ResponseEntity<CursorPageResponse<UserResponse>> getAllUsers(@RequestParam(defaultValue = "20") @Min(1) @Max(PageCursor.MAX_LIMIT) int limit,
+                                                                        @RequestParam(required = false) String after) {
+        CursorPageResponse<UserResponse> users = userService.getAllUsers(limit, after);
         return ResponseEntity.ok(users);
     }
 
     @PatchMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.userId")
+    @PreAuthorize("principal.admin or #id == principal.userId")
     public ResponseEntity<UserResponse> updateUser(@PathVariable UUID id,
                                                    @Valid @RequestBody UserUpdateRequest request) {
         UserResponse updatedUser = userService.updateUser(id, request);
@@ -44,7 +48,7 @@ public class UserController {
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.userId")
+    @PreAuthorize("principal.admin or #id == principal.userId")
     public ResponseEntity<Void> deleteUser(@PathVariable UUID id) {
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
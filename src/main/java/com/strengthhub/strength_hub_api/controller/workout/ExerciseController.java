@@ -23,31 +23,35 @@ public class ExerciseController {
     private final ExerciseService exerciseService;
 
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditDay(principal, #request.dayId)")
     public ResponseEntity<ExerciseResponse> createExercise(@Valid @RequestBody ExerciseRequest request) {
         ExerciseResponse createdExercise = exerciseService.createExercise(request);
         return new ResponseEntity<>(createdExercise, HttpStatus.CREATED);
     }
 
     @GetMapping("/{exerciseId}")
+    @PreAuthorize("@workoutAccess.canViewExercise(principal, #exerciseId)")
     public ResponseEntity<ExerciseResponse> getExerciseById(@PathVariable UUID exerciseId) {
         ExerciseResponse exercise = exerciseService.getExerciseById(exerciseId);
         return ResponseEntity.ok(exercise);
     }
 
     @GetMapping("/day/{dayId}")
+    @PreAuthorize("@workoutAccess.canViewDay(principal, #dayId)")
     public ResponseEntity<List<ExerciseResponse>> getExercisesByDay(@PathVariable UUID dayId) {
         List<ExerciseResponse> exercises = exerciseService.getExercisesByDay(dayId);
         return ResponseEntity.ok(exercises);
     }
 
     @GetMapping("/plan/{planId}")
+    @PreAuthorize("@workoutAccess.canViewPlan(principal, #planId)")
     public ResponseEntity<List<ExerciseResponse>> getExercisesByPlan(@PathVariable UUID planId) {
         List<ExerciseResponse> exercises = exerciseService.getExercisesByPlan(planId);
         return ResponseEntity.ok(exercises);
     }
 
     @GetMapping("/day/{dayId}/search")
+    @PreAuthorize("@workoutAccess.canViewDay(principal, #dayId)")
     public ResponseEntity<List<ExerciseResponse>> searchExercisesByDayAndName(@PathVariable UUID dayId,
                                                                               @RequestParam String searchTerm) {
         List<ExerciseResponse> exercises = exerciseService.searchExercisesByDayAndName(dayId, searchTerm);
@@ -55,6 +59,7 @@ public class ExerciseController {
     }
 
     @PutMapping("/{exerciseId}")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditExercise(principal, #exerciseId)")
     public ResponseEntity<ExerciseResponse> updateExercise(@PathVariable UUID exerciseId,
                                                            @Valid @RequestBody ExerciseRequest request) {
         ExerciseResponse updatedExercise = exerciseService.updateExercise(exerciseId, request);
@@ -62,6 +67,7 @@ public class ExerciseController {
     }
 
     @PutMapping("/{exerciseId}/reorder")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditExercise(principal, #exerciseId)")
     public ResponseEntity<ExerciseResponse> reorderExercise(@PathVariable UUID exerciseId,
                                                             @RequestParam Integer newOrder) {
         ExerciseResponse reorderedExercise = exerciseService.reorderExercise(exerciseId, newOrder);
@@ -69,19 +75,21 @@ public class ExerciseController {
     }
 
     @DeleteMapping("/{exerciseId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditExercise(principal, #exerciseId)")
     public ResponseEntity<Void> deleteExercise(@PathVariable UUID exerciseId) {
         exerciseService.deleteExercise(exerciseId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/day/{dayId}/next-exercise-order")
+    @PreAuthorize("@workoutAccess.canViewDay(principal, #dayId)")
     public ResponseEntity<Integer> getNextExerciseOrder(@PathVariable UUID dayId) {
         Integer nextExerciseOrder = exerciseService.getNextExerciseOrder(dayId);
         return ResponseEntity.ok(nextExerciseOrder);
     }
 
     @GetMapping("/{exerciseId}/completion-status")
+    @PreAuthorize("@workoutAccess.canViewExercise(principal, #exerciseId)")
     public ResponseEntity<Boolean> isExerciseCompleted(@PathVariable UUID exerciseId) {
         Boolean isCompleted = exerciseService.isExerciseCompleted(exerciseId);
         return ResponseEntity.ok(isCompleted);
@@ -0,0 +1,35 @@
+package com.strengthhub.strength_hub_api.controller.workout;
+
+/**
+ * Strong ETags derived from a workout plan's revision. Weeks and days share their plan's ETag, so any
+ * change in the plan tree invalidates every cached read beneath it.
+ */
+final class RevisionETag {
+
+    private RevisionETag() {
+    }
+
+    static String of(long revision) {
+        return "\"" + revision + "\"";
+    }
+
+    // If-None-Match uses weak comparison (RFC 9110 13.1.2), so a W/ prefix on the client's tag is ignored
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
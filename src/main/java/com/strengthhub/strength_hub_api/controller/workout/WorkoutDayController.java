@@ -4,6 +4,7 @@ import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutDayRequest;
 import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutDayResponse;
 import com.strengthhub.strength_hub_api.service.workout.WorkoutDayService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,25 +24,34 @@ public class WorkoutDayController {
     private final WorkoutDayService workoutDayService;
 
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditWeek(principal, #request.weekId)")
     public ResponseEntity<WorkoutDayResponse> createWorkoutDay(@Valid @RequestBody WorkoutDayRequest request) {
         WorkoutDayResponse createdDay = workoutDayService.createWorkoutDay(request);
         return new ResponseEntity<>(createdDay, HttpStatus.CREATED);
     }
 
     @GetMapping("/{dayId}")
-    public ResponseEntity<WorkoutDayResponse> getWorkoutDayById(@PathVariable UUID dayId) {
+    @PreAuthorize("@workoutAccess.canViewDay(principal, #dayId)")
+    public ResponseEntity<WorkoutDayResponse> getWorkoutDayById(@PathVariable UUID dayId,
+                                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Resolve the revision before the body so the ETag is never newer than what is returned
+        String eTag = RevisionETag.of(workoutDayService.getPlanRevisionForDay(dayId));
+        if (RevisionETag.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         WorkoutDayResponse day = workoutDayService.getWorkoutDayById(dayId);
-        return ResponseEntity.ok(day);
+        return ResponseEntity.ok().eTag(eTag).body(day);
     }
 
     @GetMapping("/week/{weekId}")
+    @PreAuthorize("@workoutAccess.canViewWeek(principal, #weekId)")
     public ResponseEntity<List<WorkoutDayResponse>> getWorkoutDaysByWeek(@PathVariable UUID weekId) {
         List<WorkoutDayResponse> days = workoutDayService.getWorkoutDaysByWeek(weekId);
         return ResponseEntity.ok(days);
     }
 
     @GetMapping("/week/{weekId}/day/{dayNumber}")
+    @PreAuthorize("@workoutAccess.canViewWeek(principal, #weekId)")
     public ResponseEntity<WorkoutDayResponse> getWorkoutDayByWeekAndNumber(@PathVariable UUID weekId,
                                                                            @PathVariable Integer dayNumber) {
         WorkoutDayResponse day = workoutDayService.getWorkoutDayByWeekAndNumber(weekId, dayNumber);
@@ -49,6 +59,7 @@ public class WorkoutDayController {
     }
 
     @GetMapping("/plan/{planId}/week/{weekNumber}")
+    @PreAuthorize("@workoutAccess.canViewPlan(principal, #planId)")
     public ResponseEntity<List<WorkoutDayResponse>> getWorkoutDaysByPlanAndWeek(@PathVariable UUID planId,
                                                                                 @PathVariable Integer weekNumber) {
         List<WorkoutDayResponse> days = workoutDayService.getWorkoutDaysByPlanAndWeek(planId, weekNumber);
@@ -56,7 +67,7 @@ public class WorkoutDayController {
     }
 
     @PutMapping("/{dayId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditDay(principal, #dayId)")
     public ResponseEntity<WorkoutDayResponse> updateWorkoutDay(@PathVariable UUID dayId,
                                                                @Valid @RequestBody WorkoutDayRequest request) {
         WorkoutDayResponse updatedDay = workoutDayService.updateWorkoutDay(dayId, request);
@@ -64,19 +75,21 @@ public class WorkoutDayController {
     }
 
     @DeleteMapping("/{dayId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditDay(principal, #dayId)")
     public ResponseEntity<Void> deleteWorkoutDay(@PathVariable UUID dayId) {
         workoutDayService.deleteWorkoutDay(dayId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/week/{weekId}/next-day-number")
+    @PreAuthorize("@workoutAccess.canViewWeek(principal, #weekId)")
     public ResponseEntity<Integer> getNextDayNumber(@PathVariable UUID weekId) {
         Integer nextDayNumber = workoutDayService.getNextDayNumber(weekId);
         return ResponseEntity.ok(nextDayNumber);
     }
 
     @GetMapping("/{dayId}/completion-status")
+    @PreAuthorize("@workoutAccess.canViewDay(principal, #dayId)")
     public ResponseEntity<Boolean> isDayCompleted(@PathVariable UUID dayId) {
         Boolean isCompleted = workoutDayService.isDayCompleted(dayId);
         return ResponseEntity.ok(isCompleted);
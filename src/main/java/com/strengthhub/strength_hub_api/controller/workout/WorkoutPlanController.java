@@ -1,11 +1,18 @@
 package com.strengthhub.strength_hub_api.controller.workout;
 
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanCreateRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanInstantiateRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanTreeRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanUpdateRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanAssignmentRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.workout.*;
+import com.strengthhub.strength_hub_api.security.SecurityUtils;
+import com.strengthhub.strength_hub_api.service.PageCursor;
+import com.strengthhub.strength_hub_api.service.workout.LifterProgressService;
 import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,6 +20,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,23 +32,58 @@ import java.util.UUID;
 public class WorkoutPlanController {
 
     private final WorkoutPlanService workoutPlanService;
+    private final LifterProgressService lifterProgressService;
 
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach")
     public ResponseEntity<WorkoutPlanResponse> createWorkoutPlan(@Valid @RequestBody WorkoutPlanCreateRequest request) {
         WorkoutPlanResponse createdPlan = workoutPlanService.createWorkoutPlan(request);
         return new ResponseEntity<>(createdPlan, HttpStatus.CREATED);
     }
 
+    @PostMapping("/full")
+    @PreAuthorize("principal.adminOrCoach")
+    public ResponseEntity<WorkoutPlanTreeResponse> createWorkoutPlanTree(@Valid @RequestBody WorkoutPlanTreeRequest request) {
+        WorkoutPlanTreeResponse createdPlan = workoutPlanService.createWorkoutPlanTree(request);
+        return new ResponseEntity<>(createdPlan, HttpStatus.CREATED);
+    }
+
+    // A coach may only copy templates they can see, and owns the copy; an admin's copy keeps the template's coach
+    @PostMapping("/{templateId}/instantiate")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canViewPlan(principal, #templateId)")
+    public ResponseEntity<WorkoutPlanSummaryResponse> instantiateTemplate(@PathVariable UUID templateId,
+                                                                          @Valid @RequestBody(required = false) WorkoutPlanInstantiateRequest request) {
+        UUID coachId = SecurityUtils.isCurrentUserCoach() ? SecurityUtils.getCurrentUserId() : null;
+        WorkoutPlanSummaryResponse createdPlan = workoutPlanService.instantiateTemplate(templateId, coachId,
+                request != null ? request : new WorkoutPlanInstantiateRequest());
+        return new ResponseEntity<>(createdPlan, HttpStatus.CREATED);
+    }
+
     @GetMapping("/{planId}")
-    public ResponseEntity<WorkoutPlanDetailResponse> getWorkoutPlanById(@PathVariable UUID planId) {
+    @PreAuthorize("@workoutAccess.canViewPlan(principal, #planId)")
+    public ResponseEntity<WorkoutPlanDetailResponse> getWorkoutPlanById(@PathVariable UUID planId,
+                                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Resolve the revision before the body so the ETag is never newer than what is returned
+        String eTag = RevisionETag.of(workoutPlanService.getWorkoutPlanRevision(planId));
+        if (RevisionETag.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         WorkoutPlanDetailResponse plan = workoutPlanService.getWorkoutPlanById(planId);
-        return ResponseEntity.ok(plan);
+        return ResponseEntity.ok().eTag(eTag).body(plan);
+    }
+
+    @GetMapping("/{planId}/tree")
+    @PreAuthorize("@workoutAccess.canViewPlan(principal, #planId)")
+    public ResponseEntity<WorkoutPlanTreeResponse> getWorkoutPlanTree(@PathVariable UUID planId) {
+        WorkoutPlanTreeResponse tree = workoutPlanService.getWorkoutPlanTree(planId);
+        return ResponseEntity.ok(tree);
     }
 
     @GetMapping("/coach/{coachId}")
-    public ResponseEntity<List<WorkoutPlanSummaryResponse>> getWorkoutPlansByCoach(@PathVariable UUID coachId) {
-        List<WorkoutPlanSummaryResponse> plans = workoutPlanService.getWorkoutPlansByCoach(coachId);
+    public ResponseEntity<CursorPageResponse<WorkoutPlanSummaryResponse>> getWorkoutPlansByCoach(@PathVariable UUID coachId,
+                                                                                                 @RequestParam(defaultValue = "20") @Min(1) @Max(PageCursor.MAX_LIMIT) int limit,
+                                                                                                 @RequestParam(required = false) String after) {
+        CursorPageResponse<WorkoutPlanSummaryResponse> plans = workoutPlanService.getWorkoutPlansByCoach(coachId, limit, after);
         return ResponseEntity.ok(plans);
     }
 
@@ -49,8 +93,15 @@ public class WorkoutPlanController {
         return ResponseEntity.ok(plans);
     }
 
+    @GetMapping("/lifter/{lifterId}/progress")
+    @PreAuthorize("@workoutAccess.canViewLifterProgress(principal, #lifterId)")
+    public ResponseEntity<WorkoutProgressResponse> getLifterProgress(@PathVariable UUID lifterId) {
+        WorkoutProgressResponse progress = lifterProgressService.getProgressByLifter(lifterId);
+        return ResponseEntity.ok(progress);
+    }
+
     @PutMapping("/{planId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditPlan(principal, #planId)")
     public ResponseEntity<WorkoutPlanResponse> updateWorkoutPlan(@PathVariable UUID planId,
                                                                  @Valid @RequestBody WorkoutPlanUpdateRequest request) {
         WorkoutPlanResponse updatedPlan = workoutPlanService.updateWorkoutPlan(planId, request);
@@ -58,6 +109,7 @@ public class WorkoutPlanController {
     }
 
     @PostMapping("/{planId}/assign-lifter")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditPlan(principal, #planId)")
     public ResponseEntity<Void> assignLifterToWorkoutPlan(@PathVariable UUID planId,
                                                           @Valid @RequestBody WorkoutPlanAssignmentRequest request) {
         workoutPlanService.assignLifterToWorkoutPlan(planId, request);
@@ -65,19 +117,21 @@ public class WorkoutPlanController {
     }
 
     @DeleteMapping("/{planId}/unassign-lifter")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditPlan(principal, #planId)")
     public ResponseEntity<Void> unassignLifterFromWorkoutPlan(@PathVariable UUID planId) {
         workoutPlanService.unassignLifterFromWorkoutPlan(planId);
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/{planId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditPlan(principal, #planId)")
     public ResponseEntity<Void> deleteWorkoutPlan(@PathVariable UUID planId) {
         workoutPlanService.deleteWorkoutPlan(planId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/{planId}/stats")
+    @PreAuthorize("@workoutAccess.canViewPlan(principal, #planId)")
     public ResponseEntity<WorkoutStatsResponse> getWorkoutPlanStats(@PathVariable UUID planId) {
         WorkoutStatsResponse stats = workoutPlanService.getWorkoutPlanStats(planId);
         return ResponseEntity.ok(stats);
@@ -2,6 +2,8 @@ package com.strengthhub.strength_hub_api.controller.workout;
 
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutSetRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionBatchRequest;
+import com.strengthhub.strength_hub_api.dto.response.workout.SetCompletionBatchResponse;
 import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutSetResponse;
 import com.strengthhub.strength_hub_api.service.workout.WorkoutSetService;
 import lombok.RequiredArgsConstructor;
@@ -24,25 +26,28 @@ public class WorkoutSetController {
     private final WorkoutSetService workoutSetService;
 
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditExercise(principal, #request.exerciseId)")
     public ResponseEntity<WorkoutSetResponse> createWorkoutSet(@Valid @RequestBody WorkoutSetRequest request) {
         WorkoutSetResponse createdSet = workoutSetService.createWorkoutSet(request);
         return new ResponseEntity<>(createdSet, HttpStatus.CREATED);
     }
 
     @GetMapping("/{setId}")
+    @PreAuthorize("@workoutAccess.canViewSet(principal, #setId)")
     public ResponseEntity<WorkoutSetResponse> getWorkoutSetById(@PathVariable UUID setId) {
         WorkoutSetResponse workoutSet = workoutSetService.getWorkoutSetById(setId);
         return ResponseEntity.ok(workoutSet);
     }
 
     @GetMapping("/exercise/{exerciseId}")
+    @PreAuthorize("@workoutAccess.canViewExercise(principal, #exerciseId)")
     public ResponseEntity<List<WorkoutSetResponse>> getWorkoutSetsByExercise(@PathVariable UUID exerciseId) {
         List<WorkoutSetResponse> sets = workoutSetService.getWorkoutSetsByExercise(exerciseId);
         return ResponseEntity.ok(sets);
     }
 
     @GetMapping("/exercise/{exerciseId}/set/{setNumber}")
+    @PreAuthorize("@workoutAccess.canViewExercise(principal, #exerciseId)")
     public ResponseEntity<WorkoutSetResponse> getWorkoutSetByExerciseAndNumber(@PathVariable UUID exerciseId,
                                                                                @PathVariable Integer setNumber) {
         WorkoutSetResponse workoutSet = workoutSetService.getWorkoutSetByExerciseAndNumber(exerciseId, setNumber);
@@ -50,25 +55,36 @@ public class WorkoutSetController {
     }
 
     @GetMapping("/exercise/{exerciseId}/completed")
+    @PreAuthorize("@workoutAccess.canViewExercise(principal, #exerciseId)")
     public ResponseEntity<List<WorkoutSetResponse>> getCompletedSetsByExercise(@PathVariable UUID exerciseId) {
         List<WorkoutSetResponse> completedSets = workoutSetService.getCompletedSetsByExercise(exerciseId);
         return ResponseEntity.ok(completedSets);
     }
 
     @GetMapping("/exercise/{exerciseId}/with-notes")
+    @PreAuthorize("@workoutAccess.canViewExercise(principal, #exerciseId)")
     public ResponseEntity<List<WorkoutSetResponse>> getSetsWithNotesByExercise(@PathVariable UUID exerciseId) {
         List<WorkoutSetResponse> setsWithNotes = workoutSetService.getSetsWithNotesByExercise(exerciseId);
         return ResponseEntity.ok(setsWithNotes);
     }
 
     @PutMapping("/{setId}")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditSet(principal, #setId)")
     public ResponseEntity<WorkoutSetResponse> updateWorkoutSet(@PathVariable UUID setId,
                                                                @Valid @RequestBody WorkoutSetRequest request) {
         WorkoutSetResponse updatedSet = workoutSetService.updateWorkoutSet(setId, request);
         return ResponseEntity.ok(updatedSet);
     }
 
+    @PutMapping("/complete-batch")
+    @PreAuthorize("@workoutAccess.canLogSets(principal, #request.sets)")
+    public ResponseEntity<SetCompletionBatchResponse> completeWorkoutSets(@Valid @RequestBody SetCompletionBatchRequest request) {
+        SetCompletionBatchResponse result = workoutSetService.completeWorkoutSets(request);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{setId}/complete")
+    @PreAuthorize("@workoutAccess.canLogSet(principal, #setId)")
     public ResponseEntity<WorkoutSetResponse> completeWorkoutSet(@PathVariable UUID setId,
                                                                  @Valid @RequestBody SetCompletionRequest request) {
         WorkoutSetResponse completedSet = workoutSetService.completeWorkoutSet(setId, request);
@@ -76,12 +92,14 @@ public class WorkoutSetController {
     }
 
     @PutMapping("/{setId}/uncomplete")
+    @PreAuthorize("@workoutAccess.canLogSet(principal, #setId)")
     public ResponseEntity<WorkoutSetResponse> uncompleteWorkoutSet(@PathVariable UUID setId) {
         WorkoutSetResponse uncompletedSet = workoutSetService.uncompleteWorkoutSet(setId);
         return ResponseEntity.ok(uncompletedSet);
     }
 
     @PutMapping("/{setId}/reorder")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditSet(principal, #setId)")
     public ResponseEntity<WorkoutSetResponse> reorderWorkoutSet(@PathVariable UUID setId,
                                                                 @RequestParam Integer newSetNumber) {
         WorkoutSetResponse reorderedSet = workoutSetService.reorderWorkoutSet(setId, newSetNumber);
@@ -89,25 +107,28 @@ public class WorkoutSetController {
     }
 
     @DeleteMapping("/{setId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditSet(principal, #setId)")
     public ResponseEntity<Void> deleteWorkoutSet(@PathVariable UUID setId) {
         workoutSetService.deleteWorkoutSet(setId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/exercise/{exerciseId}/next-set-number")
+    @PreAuthorize("@workoutAccess.canViewExercise(principal, #exerciseId)")
     public ResponseEntity<Integer> getNextSetNumber(@PathVariable UUID exerciseId) {
         Integer nextSetNumber = workoutSetService.getNextSetNumber(exerciseId);
         return ResponseEntity.ok(nextSetNumber);
     }
 
     @GetMapping("/exercise/{exerciseId}/completed-count")
+    @PreAuthorize("@workoutAccess.canViewExercise(principal, #exerciseId)")
     public ResponseEntity<Long> getCompletedSetCount(@PathVariable UUID exerciseId) {
         Long completedCount = workoutSetService.getCompletedSetCount(exerciseId);
         return ResponseEntity.ok(completedCount);
     }
 
     @GetMapping("/exercise/{exerciseId}/total-count")
+    @PreAuthorize("@workoutAccess.canViewExercise(principal, #exerciseId)")
     public ResponseEntity<Long> getTotalSetCount(@PathVariable UUID exerciseId) {
         Long totalCount = workoutSetService.getTotalSetCount(exerciseId);
         return ResponseEntity.ok(totalCount);
@@ -5,6 +5,7 @@ import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutWeekResponse
 import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutWeekSummaryResponse;
 import com.strengthhub.strength_hub_api.service.workout.WorkoutWeekService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,25 +25,34 @@ public class WorkoutWeekController {
     private final WorkoutWeekService workoutWeekService;
 
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditPlan(principal, #request.workoutPlanId)")
     public ResponseEntity<WorkoutWeekResponse> createWorkoutWeek(@Valid @RequestBody WorkoutWeekRequest request) {
         WorkoutWeekResponse createdWeek = workoutWeekService.createWorkoutWeek(request);
         return new ResponseEntity<>(createdWeek, HttpStatus.CREATED);
     }
 
     @GetMapping("/{weekId}")
-    public ResponseEntity<WorkoutWeekResponse> getWorkoutWeekById(@PathVariable UUID weekId) {
+    @PreAuthorize("@workoutAccess.canViewWeek(principal, #weekId)")
+    public ResponseEntity<WorkoutWeekResponse> getWorkoutWeekById(@PathVariable UUID weekId,
+                                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Resolve the revision before the body so the ETag is never newer than what is returned
+        String eTag = RevisionETag.of(workoutWeekService.getPlanRevisionForWeek(weekId));
+        if (RevisionETag.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         WorkoutWeekResponse week = workoutWeekService.getWorkoutWeekById(weekId);
-        return ResponseEntity.ok(week);
+        return ResponseEntity.ok().eTag(eTag).body(week);
     }
 
     @GetMapping("/plan/{planId}")
+    @PreAuthorize("@workoutAccess.canViewPlan(principal, #planId)")
     public ResponseEntity<List<WorkoutWeekSummaryResponse>> getWorkoutWeeksByPlan(@PathVariable UUID planId) {
         List<WorkoutWeekSummaryResponse> weeks = workoutWeekService.getWorkoutWeeksByPlan(planId);
         return ResponseEntity.ok(weeks);
     }
 
     @GetMapping("/plan/{planId}/week/{weekNumber}")
+    @PreAuthorize("@workoutAccess.canViewPlan(principal, #planId)")
     public ResponseEntity<WorkoutWeekResponse> getWorkoutWeekByPlanAndNumber(@PathVariable UUID planId,
                                                                              @PathVariable Integer weekNumber) {
         WorkoutWeekResponse week = workoutWeekService.getWorkoutWeekByPlanAndNumber(planId, weekNumber);
@@ -50,7 +60,7 @@ public class WorkoutWeekController {
     }
 
     @PutMapping("/{weekId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditWeek(principal, #weekId)")
     public ResponseEntity<WorkoutWeekResponse> updateWorkoutWeek(@PathVariable UUID weekId,
                                                                  @Valid @RequestBody WorkoutWeekRequest request) {
         WorkoutWeekResponse updatedWeek = workoutWeekService.updateWorkoutWeek(weekId, request);
@@ -58,13 +68,14 @@ public class WorkoutWeekController {
     }
 
     @DeleteMapping("/{weekId}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('COACH')")
+    @PreAuthorize("principal.adminOrCoach and @workoutAccess.canEditWeek(principal, #weekId)")
     public ResponseEntity<Void> deleteWorkoutWeek(@PathVariable UUID weekId) {
         workoutWeekService.deleteWorkoutWeek(weekId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/plan/{planId}/next-week-number")
+    @PreAuthorize("@workoutAccess.canViewPlan(principal, #planId)")
     public ResponseEntity<Integer> getNextWeekNumber(@PathVariable UUID planId) {
         Integer nextWeekNumber = workoutWeekService.getNextWeekNumber(planId);
         return ResponseEntity.ok(nextWeekNumber);
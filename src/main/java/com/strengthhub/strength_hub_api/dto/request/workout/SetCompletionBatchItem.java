@@ -0,0 +1,23 @@
+package com.strengthhub.strength_hub_api.dto.request.workout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Builder;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SetCompletionBatchItem {
+
+    @NotNull(message = "Set ID is required")
+    private UUID setId;
+
+    @NotNull(message = "Completion data is required")
+    @Valid
+    private SetCompletionRequest completion;
+}
@@ -0,0 +1,21 @@
+package com.strengthhub.strength_hub_api.dto.request.workout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Builder;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SetCompletionBatchRequest {
+
+    @NotEmpty(message = "At least one set completion is required")
+    @Size(max = 200, message = "Cannot complete more than 200 sets at once")
+    private List<@Valid SetCompletionBatchItem> sets;
+}
@@ -0,0 +1,20 @@
+package com.strengthhub.strength_hub_api.dto.request.workout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Builder;
+import jakarta.validation.constraints.*;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkoutPlanInstantiateRequest {
+
+    @Size(max = 100, message = "Plan name cannot exceed 100 characters")
+    private String name; // Optional - defaults to the template's name
+
+    private UUID assignedLifterId; // Optional - can be assigned later
+}
@@ -0,0 +1,29 @@
+package com.strengthhub.strength_hub_api.dto.request.workout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Builder;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkoutWeekTreeRequest {
+
+    @NotNull(message = "Week number is required")
+    @Min(value = 1, message = "Week number must be at least 1")
+    @Max(value = 16, message = "Week number cannot exceed 16")
+    private Integer weekNumber;
+
+    @Size(max = 200, message = "Week notes cannot exceed 200 characters")
+    private String notes;
+
+    @Size(max = 7, message = "Week cannot have more than 7 days")
+    @Builder.Default
+    private List<@Valid WorkoutDayTreeRequest> days = new ArrayList<>();
+}
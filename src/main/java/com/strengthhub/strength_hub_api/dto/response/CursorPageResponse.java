@@ -0,0 +1,18 @@
+package com.strengthhub.strength_hub_api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> items;
+    // Pass back as ?after= to fetch the next page; null on the last page
+    private String nextCursor;
+}
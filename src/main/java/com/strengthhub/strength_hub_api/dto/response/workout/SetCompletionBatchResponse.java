@@ -0,0 +1,20 @@
+package com.strengthhub.strength_hub_api.dto.response.workout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Builder;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SetCompletionBatchResponse {
+    private Integer requested;
+    private Integer completed;
+    private Integer failed;
+
+    // One entry per requested item, in request order
+    private List<SetCompletionResult> results;
+}
@@ -0,0 +1,19 @@
+package com.strengthhub.strength_hub_api.dto.response.workout;
+
+import com.strengthhub.strength_hub_api.enums.SetCompletionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Builder;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SetCompletionResult {
+    private UUID setId;
+    private SetCompletionStatus status;
+    private String message;
+    private WorkoutSetResponse set;
+}
@@ -0,0 +1,5 @@
+package com.strengthhub.strength_hub_api.enums;
+
+public enum SetCompletionStatus {
+    COMPLETED, NOT_FOUND, PLAN_INACTIVE, DUPLICATE
+}
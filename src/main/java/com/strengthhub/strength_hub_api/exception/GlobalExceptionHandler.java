@@ -2,12 +2,14 @@ package com.strengthhub.strength_hub_api.exception;
 
 import com.strengthhub.strength_hub_api.dto.response.ErrorResponse;
 import com.strengthhub.strength_hub_api.exception.auth.AuthenticationFailedException;
+import com.strengthhub.strength_hub_api.exception.auth.PasswordHashingUnavailableException;
 import com.strengthhub.strength_hub_api.exception.auth.TokenRefreshException;
 import com.strengthhub.strength_hub_api.exception.coach.CoachAlreadyExistsException;
 import com.strengthhub.strength_hub_api.exception.coach.CoachNotFoundException;
 import com.strengthhub.strength_hub_api.exception.coach.InvalidCoachAssignmentException;
 import com.strengthhub.strength_hub_api.exception.coach.InvalidCoachCodeException;
 import com.strengthhub.strength_hub_api.exception.common.ForbiddenAccessException;
+import com.strengthhub.strength_hub_api.exception.common.InvalidPageCursorException;
 import com.strengthhub.strength_hub_api.exception.connection.ConnectionRequestNotFoundException;
 import com.strengthhub.strength_hub_api.exception.connection.DuplicateConnectionRequestException;
 import com.strengthhub.strength_hub_api.exception.connection.InvalidConnectionRequestException;
@@ -19,9 +21,11 @@ import com.strengthhub.strength_hub_api.exception.user.UserNotFoundException;
 import com.strengthhub.strength_hub_api.exception.workout.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
@@ -91,6 +95,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException e) {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(e.getMessage())
+                .build();
+        log.warn("Password hashing unavailable: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentialsException(BadCredentialsException e) {
         ErrorResponse error = ErrorResponse.builder()
@@ -127,6 +145,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(InvalidPageCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageCursorException(InvalidPageCursorException e) {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Invalid Page Cursor")
+                .message(e.getMessage())
+                .build();
+        log.warn("Invalid page cursor: {}", e.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(TokenRefreshException.class)
     public ResponseEntity<ErrorResponse> handleTokenRefreshException(TokenRefreshException e) {
         ErrorResponse error = ErrorResponse.builder()
@@ -462,6 +492,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Concurrent Modification")
+                .message("The resource was modified by another request, reload it and try again")
+                .build();
+        log.warn("Optimistic locking failure: {}", e.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
         ErrorResponse error = ErrorResponse.builder()
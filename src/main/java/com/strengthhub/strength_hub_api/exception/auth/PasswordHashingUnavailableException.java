@@ -0,0 +1,23 @@
+package com.strengthhub.strength_hub_api.exception.auth;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when the password hashing executor is saturated (503 Service Unavailable).
+ * Carries the number of seconds clients should wait before retrying.
+ */
+@Getter
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public PasswordHashingUnavailableException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public PasswordHashingUnavailableException(String message, int retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,10 @@
+package com.strengthhub.strength_hub_api.exception.common;
+
+/**
+ * Exception thrown when an ?after= cursor was not issued by this API or has been tampered with.
+ */
+public class InvalidPageCursorException extends RuntimeException {
+    public InvalidPageCursorException(String cursor) {
+        super("Invalid page cursor: " + cursor);
+    }
+}
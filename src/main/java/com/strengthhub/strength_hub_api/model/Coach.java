@@ -8,7 +8,8 @@ import jakarta.validation.constraints.*;
 import java.util.ArrayList;
 
 @Entity
-@Table(name = "coach")
+@Table(name = "coach",
+        indexes = @Index(name = "idx_coach_lifter_count", columnList = "lifter_count, coach_id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -41,9 +42,10 @@ public class Coach {
     @ToString.Exclude // Prevent circular references and lazy loading issues
     private List<Lifter> lifters = new ArrayList<>();
 
-    public int getLifterCount() {
-        return lifters != null ? lifters.size() : 0;
-    }
+    // Denormalized size of lifters. Only written by CoachLifterCountService's bulk updates, never by entity flushes
+    @Column(name = "lifter_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer lifterCount = 0;
 
     public void addLifter(Lifter lifter) {
         if (lifters == null) {
@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "connection_requests")
+@Table(name = "connection_requests", indexes = {
+        @Index(name = "idx_connection_requests_sender_created_at", columnList = "sender_id, createdAt, requestId"),
+        @Index(name = "idx_connection_requests_receiver_created_at", columnList = "receiver_id, createdAt, requestId"),
+        @Index(name = "idx_connection_requests_receiver_status_created_at",
+                columnList = "receiver_id, status, createdAt, requestId")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
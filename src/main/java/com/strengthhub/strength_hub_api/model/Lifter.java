@@ -6,7 +6,8 @@ import lombok.*;
 import java.util.UUID;
 
 @Entity
-@Table(name = "lifter")
+@Table(name = "lifter",
+        indexes = @Index(name = "idx_lifter_coach_id", columnList = "coach_id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
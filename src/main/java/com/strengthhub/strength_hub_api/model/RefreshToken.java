@@ -9,7 +9,13 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        // Keyset order for TokenCleanupService's expired pass; the revoked pass uses the partial
+        // idx_refresh_tokens_revoked index from db/refresh_token_expiry_index.sql
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expiresAt, tokenId"),
+        // Per-user lookups, and the newest-first scan in insertTokenAndTrimToLimit
+        @Index(name = "idx_refresh_tokens_user_created_at", columnList = "user_id, createdAt")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -22,8 +28,9 @@ public class RefreshToken {
     @Column(columnDefinition = "UUID")
     private UUID tokenId;
 
-    @Column(nullable = false, unique = true, length = 512)
-    private String token;
+    // SHA-256 of the issued refresh token; the raw token is never stored
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
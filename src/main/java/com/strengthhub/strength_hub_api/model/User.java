@@ -16,7 +16,8 @@ import org.hibernate.annotations.CreationTimestamp;
 @Builder
 @Getter
 @Setter
-@Table(name = "app_user")
+@Table(name = "app_user",
+        indexes = @Index(name = "idx_app_user_created_at", columnList = "createdAt, userId"))
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
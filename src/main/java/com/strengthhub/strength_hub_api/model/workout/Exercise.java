@@ -2,13 +2,16 @@ package com.strengthhub.strength_hub_api.model.workout;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import jakarta.validation.constraints.*;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.UUID;
 
 @Entity
-@Table(name = "exercise")
+@Table(name = "exercise",
+        indexes = @Index(name = "idx_exercise_day_sort_key", columnList = "day_id, sortKey"))
 @Setter
 @Getter
 @NoArgsConstructor
@@ -26,16 +29,26 @@ public class Exercise {
     @Column(nullable = false)
     private String name;
 
-    @Min(value = 1, message = "Exercise order must be at least 1")
+    // Gapped position within the day; the public exercise order is the 1-based rank by this key
     @Column(nullable = false)
-    private Integer exerciseOrder; // Order within the day
+    private Long sortKey;
 
     @Size(max = 500, message = "Exercise notes cannot exceed 500 characters")
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    // Denormalized set counters. Only written by WorkoutCounterService's bulk updates, never by entity flushes
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer totalSets = 0;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer completedSets = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "day_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @ToString.Exclude
     private WorkoutDay workoutDay;
 
@@ -43,6 +56,7 @@ public class Exercise {
             cascade = CascadeType.ALL,
             fetch = FetchType.LAZY,
             orphanRemoval = true)
+    @OrderBy("sortKey")
     @Builder.Default
     @ToString.Exclude
     private List<WorkoutSet> sets = new ArrayList<>();
@@ -65,4 +79,8 @@ public class Exercise {
     public int getSetCount() {
         return sets != null ? sets.size() : 0;
     }
+
+    public boolean isAllSetsCompleted() {
+        return totalSets != null && totalSets > 0 && totalSets.equals(completedSets);
+    }
 }
@@ -0,0 +1,78 @@
+package com.strengthhub.strength_hub_api.model.workout;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Materialized progress snapshot of a lifter's active plan, keyed by lifter (a lifter has at most
+ * one active plan). Rebuilt by LifterProgressService whenever set counters or the plan assignment
+ * change, so reads are a single primary-key lookup that never touches workout_set.
+ */
+@Entity
+@Table(name = "lifter_progress",
+        indexes = @Index(name = "idx_lifter_progress_plan_id", columnList = "plan_id"))
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LifterProgress {
+
+    @Id
+    @Column(name = "lifter_id", columnDefinition = "UUID")
+    private UUID lifterId;
+
+    @Column(name = "plan_id", nullable = false, columnDefinition = "UUID")
+    private UUID planId;
+
+    @Column(nullable = false)
+    private String planName;
+
+    // Copied from the lifter's user so the read needs no join
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    private String firstName;
+
+    @Column(nullable = false)
+    private String lastName;
+
+    @Column(nullable = false)
+    private Integer totalWeeks;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer completedWeeks = 0;
+
+    private Integer currentWeek;
+
+    private Integer currentDay;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer totalSets = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer completedSets = 0;
+
+    // Time of the last set completion or uncompletion
+    private LocalDateTime lastActivity;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public double getOverallProgress() {
+        return totalSets > 0 ? ((double) completedSets / totalSets) * 100 : 0.0;
+    }
+
+    public boolean isPlanCompleted() {
+        return totalSets > 0 && totalSets.equals(completedSets);
+    }
+}
@@ -2,13 +2,16 @@ package com.strengthhub.strength_hub_api.model.workout;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import jakarta.validation.constraints.*;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.UUID;
 
 @Entity
-@Table(name = "workout_day")
+@Table(name = "workout_day",
+        indexes = @Index(name = "idx_workout_day_week_id", columnList = "week_id"))
 @Setter
 @Getter
 @NoArgsConstructor
@@ -34,8 +37,18 @@ public class WorkoutDay {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    // Denormalized set counters. Only written by WorkoutCounterService's bulk updates, never by entity flushes
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer totalSets = 0;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer completedSets = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "week_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @ToString.Exclude
     private WorkoutWeek workoutWeek;
 
@@ -43,6 +56,7 @@ public class WorkoutDay {
             cascade = CascadeType.ALL,
             fetch = FetchType.LAZY,
             orphanRemoval = true)
+    @OrderBy("sortKey")
     @Builder.Default
     @ToString.Exclude
     private List<Exercise> exercises = new ArrayList<>();
@@ -65,4 +79,8 @@ public class WorkoutDay {
     public int getExerciseCount() {
         return exercises != null ? exercises.size() : 0;
     }
+
+    public boolean isAllSetsCompleted() {
+        return totalSets != null && totalSets > 0 && totalSets.equals(completedSets);
+    }
 }
\ No newline at end of file
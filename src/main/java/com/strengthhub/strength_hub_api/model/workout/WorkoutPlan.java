@@ -12,7 +12,8 @@ import java.util.UUID;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
-@Table(name = "workout_plan")
+@Table(name = "workout_plan",
+        indexes = @Index(name = "idx_workout_plan_coach_created_at", columnList = "coach_id, createdAt, planId"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -57,6 +58,21 @@ public class WorkoutPlan {
     @Builder.Default
     private Boolean isTemplate = false; // Templates can be reused
 
+    // Denormalized set counters. Only written by WorkoutCounterService's bulk updates, never by entity flushes
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer totalSets = 0;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer completedSets = 0;
+
+    // Revision of the whole plan tree, used as the ETag of plan/week/day reads. Entity updates bump it through
+    // @Version; week, day, exercise and set changes bump it through WorkoutPlanRepository.bumpRevision
+    @Version
+    @Column(nullable = false)
+    private Long revision;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -83,4 +99,8 @@ public class WorkoutPlan {
             week.setWorkoutPlan(null);
         }
     }
+
+    public boolean isAllSetsCompleted() {
+        return totalSets != null && totalSets > 0 && totalSets.equals(completedSets);
+    }
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package com.strengthhub.strength_hub_api.model.workout;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
-@Table(name = "workout_set")
+@Table(name = "workout_set",
+        indexes = @Index(name = "idx_workout_set_exercise_sort_key", columnList = "exercise_id, sortKey"))
 @Setter
 @Getter
 @NoArgsConstructor
@@ -20,9 +23,9 @@ public class WorkoutSet {
     @Column(columnDefinition = "UUID")
     private UUID setId;
 
-    @Min(value = 1, message = "Set number must be at least 1")
+    // Gapped position within the exercise; the public set number is the 1-based rank by this key
     @Column(nullable = false)
-    private Integer setNumber;
+    private Long sortKey;
 
     // Target values (set by coach)
     @Min(value = 1, message = "Target reps must be at least 1")
@@ -61,6 +64,7 @@ public class WorkoutSet {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "exercise_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @ToString.Exclude
     private Exercise exercise;
 
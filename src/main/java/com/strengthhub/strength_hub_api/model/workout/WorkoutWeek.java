@@ -2,13 +2,16 @@ package com.strengthhub.strength_hub_api.model.workout;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import jakarta.validation.constraints.*;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.UUID;
 
 @Entity
-@Table(name = "workout_week")
+@Table(name = "workout_week",
+        indexes = @Index(name = "idx_workout_week_plan_id", columnList = "plan_id"))
 @Setter
 @Getter
 @NoArgsConstructor
@@ -30,8 +33,20 @@ public class WorkoutWeek {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    // Denormalized set counters. Only written by WorkoutCounterService's bulk updates, never by entity flushes
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer totalSets = 0;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer completedSets = 0;
+
+    // ON DELETE CASCADE down the whole tree: deleting a plan, week, day or exercise is one DELETE on that row
+    // and the database removes the descendants without Hibernate loading them
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "plan_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @ToString.Exclude
     private WorkoutPlan workoutPlan;
 
@@ -61,4 +76,8 @@ public class WorkoutWeek {
     public int getDayCount() {
         return days != null ? days.size() : 0;
     }
+
+    public boolean isAllSetsCompleted() {
+        return totalSets != null && totalSets > 0 && totalSets.equals(completedSets);
+    }
 }
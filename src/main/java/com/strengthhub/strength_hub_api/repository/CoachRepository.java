@@ -1,11 +1,14 @@
 package com.strengthhub.strength_hub_api.repository;
 
 import com.strengthhub.strength_hub_api.model.Coach;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,9 +21,61 @@ public interface CoachRepository extends JpaRepository<Coach, UUID> {
             "LOWER(c.app_user.username) LIKE LOWER(CONCAT('%', :search, '%'))")
     List<Coach> findByNameContaining(@Param("search") String search);
 
-    @Query("SELECT c FROM Coach c ORDER BY SIZE(c.lifters) DESC")
-    List<Coach> findAllOrderByLifterCountDesc();
+    // Leaderboard and empty-roster lookups read the maintained lifter_count, so both are scans of idx_coach_lifter_count.
+    // Both sort keys descend so the leaderboard is a bounded backward scan of (lifter_count, coach_id).
+    @Query("SELECT c FROM Coach c JOIN FETCH c.app_user ORDER BY c.lifterCount DESC, c.coachId DESC")
+    List<Coach> findAllOrderByLifterCountDesc(Limit limit);
 
-    @Query("SELECT c FROM Coach c WHERE SIZE(c.lifters) = 0")
+    @Query("SELECT c FROM Coach c JOIN FETCH c.app_user WHERE c.lifterCount = 0")
     List<Coach> findCoachesWithoutLifters();
+
+    // Apply a lifter count delta to a single coach
+    @Modifying
+    @Query("UPDATE Coach c SET c.lifterCount = c.lifterCount + :delta WHERE c.coachId = :coachId")
+    int adjustLifterCount(@Param("coachId") UUID coachId, @Param("delta") int delta);
+
+    // Recount every coach's lifters, rewriting only the rows that disagree; returns the number of drifted coaches
+    @Modifying
+    @Query("UPDATE Coach c SET c.lifterCount = (SELECT COUNT(l) FROM Lifter l WHERE l.coach = c) " +
+            "WHERE c.lifterCount <> (SELECT COUNT(l) FROM Lifter l WHERE l.coach = c)")
+    int repairLifterCounts();
+
+    // Keyset pages in the owning user's (createdAt, userId) order; coachId is the user id. The lifter count is
+    // the maintained column, so no lifters are joined or loaded
+    @Query("SELECT c.coachId AS coachId, u.username AS username, u.email AS email, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.createdAt AS createdAt, c.bio AS bio, c.certifications AS certifications, " +
+            "c.lifterCount AS lifterCount " +
+            "FROM Coach c JOIN c.app_user u " +
+            "ORDER BY u.createdAt, u.userId")
+    List<CoachListView> findFirstPage(Limit limit);
+
+    @Query("SELECT c.coachId AS coachId, u.username AS username, u.email AS email, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.createdAt AS createdAt, c.bio AS bio, c.certifications AS certifications, " +
+            "c.lifterCount AS lifterCount " +
+            "FROM Coach c JOIN c.app_user u " +
+            "WHERE (u.createdAt, u.userId) > (:afterCreatedAt, :afterId) " +
+            "ORDER BY u.createdAt, u.userId")
+    List<CoachListView> findPageAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                      @Param("afterId") UUID afterId,
+                                      Limit limit);
+
+    interface CoachListView {
+        UUID getCoachId();
+
+        String getUsername();
+
+        String getEmail();
+
+        String getFirstName();
+
+        String getLastName();
+
+        LocalDateTime getCreatedAt();
+
+        String getBio();
+
+        String getCertifications();
+
+        Integer getLifterCount();
+    }
 }
@@ -3,11 +3,13 @@ package com.strengthhub.strength_hub_api.repository;
 import com.strengthhub.strength_hub_api.enums.ConnectionRequestStatus;
 import com.strengthhub.strength_hub_api.enums.ConnectionRequestType;
 import com.strengthhub.strength_hub_api.model.ConnectionRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,14 +17,53 @@ import java.util.UUID;
 @Repository
 public interface ConnectionRequestRepository extends JpaRepository<ConnectionRequest, UUID> {
 
-    // Find requests sent by a user
-    List<ConnectionRequest> findBySender_UserIdOrderByCreatedAtDesc(UUID senderId);
+    // Newest-first keyset pages of requests sent by a user, seeking on idx_connection_requests_sender_created_at
+    @Query("SELECT cr FROM ConnectionRequest cr JOIN FETCH cr.sender JOIN FETCH cr.receiver " +
+            "WHERE cr.sender.userId = :senderId " +
+            "ORDER BY cr.createdAt DESC, cr.requestId DESC")
+    List<ConnectionRequest> findFirstSentPage(@Param("senderId") UUID senderId, Limit limit);
 
-    // Find requests received by a user
-    List<ConnectionRequest> findByReceiver_UserIdOrderByCreatedAtDesc(UUID receiverId);
+    @Query("SELECT cr FROM ConnectionRequest cr JOIN FETCH cr.sender JOIN FETCH cr.receiver " +
+            "WHERE cr.sender.userId = :senderId " +
+            "AND (cr.createdAt, cr.requestId) < (:afterCreatedAt, :afterId) " +
+            "ORDER BY cr.createdAt DESC, cr.requestId DESC")
+    List<ConnectionRequest> findSentPageAfter(@Param("senderId") UUID senderId,
+                                              @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                              @Param("afterId") UUID afterId,
+                                              Limit limit);
 
-    // Find pending requests received by a user
-    List<ConnectionRequest> findByReceiver_UserIdAndStatusOrderByCreatedAtDesc(UUID receiverId, ConnectionRequestStatus status);
+    // Newest-first keyset pages of requests received by a user, seeking on idx_connection_requests_receiver_created_at
+    @Query("SELECT cr FROM ConnectionRequest cr JOIN FETCH cr.sender JOIN FETCH cr.receiver " +
+            "WHERE cr.receiver.userId = :receiverId " +
+            "ORDER BY cr.createdAt DESC, cr.requestId DESC")
+    List<ConnectionRequest> findFirstReceivedPage(@Param("receiverId") UUID receiverId, Limit limit);
+
+    @Query("SELECT cr FROM ConnectionRequest cr JOIN FETCH cr.sender JOIN FETCH cr.receiver " +
+            "WHERE cr.receiver.userId = :receiverId " +
+            "AND (cr.createdAt, cr.requestId) < (:afterCreatedAt, :afterId) " +
+            "ORDER BY cr.createdAt DESC, cr.requestId DESC")
+    List<ConnectionRequest> findReceivedPageAfter(@Param("receiverId") UUID receiverId,
+                                                  @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                  @Param("afterId") UUID afterId,
+                                                  Limit limit);
+
+    // Same for received requests in one status, seeking on idx_connection_requests_receiver_status_created_at
+    @Query("SELECT cr FROM ConnectionRequest cr JOIN FETCH cr.sender JOIN FETCH cr.receiver " +
+            "WHERE cr.receiver.userId = :receiverId AND cr.status = :status " +
+            "ORDER BY cr.createdAt DESC, cr.requestId DESC")
+    List<ConnectionRequest> findFirstReceivedPageByStatus(@Param("receiverId") UUID receiverId,
+                                                          @Param("status") ConnectionRequestStatus status,
+                                                          Limit limit);
+
+    @Query("SELECT cr FROM ConnectionRequest cr JOIN FETCH cr.sender JOIN FETCH cr.receiver " +
+            "WHERE cr.receiver.userId = :receiverId AND cr.status = :status " +
+            "AND (cr.createdAt, cr.requestId) < (:afterCreatedAt, :afterId) " +
+            "ORDER BY cr.createdAt DESC, cr.requestId DESC")
+    List<ConnectionRequest> findReceivedPageByStatusAfter(@Param("receiverId") UUID receiverId,
+                                                          @Param("status") ConnectionRequestStatus status,
+                                                          @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                          @Param("afterId") UUID afterId,
+                                                          Limit limit);
 
     // Find pending requests sent by a user
     List<ConnectionRequest> findBySender_UserIdAndStatusOrderByCreatedAtDesc(UUID senderId, ConnectionRequestStatus status);
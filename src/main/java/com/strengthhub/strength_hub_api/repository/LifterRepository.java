@@ -1,11 +1,13 @@
 package com.strengthhub.strength_hub_api.repository;
 
 import com.strengthhub.strength_hub_api.model.Lifter;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +24,76 @@ public interface LifterRepository extends JpaRepository<Lifter, UUID> {
             "LOWER(l.app_user.username) LIKE LOWER(CONCAT('%', :search, '%'))")
     List<Lifter> findByNameContaining(@Param("search") String search);
 
-    @Query("SELECT COUNT(l) FROM Lifter l WHERE l.coach.coachId = :coachId")
-    Long countByCoachId(@Param("coachId") UUID coachId);
+    // Keyset pages in the owning user's (createdAt, userId) order; lifterId is the user id
+    @Query("SELECT l.lifterId AS lifterId, u.username AS username, u.email AS email, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.createdAt AS createdAt, c.coachId AS coachId, " +
+            "cu.firstName AS coachFirstName, cu.lastName AS coachLastName, cu.username AS coachUsername " +
+            "FROM Lifter l JOIN l.app_user u LEFT JOIN l.coach c LEFT JOIN c.app_user cu " +
+            "ORDER BY u.createdAt, u.userId")
+    List<LifterListView> findFirstPage(Limit limit);
+
+    @Query("SELECT l.lifterId AS lifterId, u.username AS username, u.email AS email, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.createdAt AS createdAt, c.coachId AS coachId, " +
+            "cu.firstName AS coachFirstName, cu.lastName AS coachLastName, cu.username AS coachUsername " +
+            "FROM Lifter l JOIN l.app_user u LEFT JOIN l.coach c LEFT JOIN c.app_user cu " +
+            "WHERE (u.createdAt, u.userId) > (:afterCreatedAt, :afterId) " +
+            "ORDER BY u.createdAt, u.userId")
+    List<LifterListView> findPageAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                       @Param("afterId") UUID afterId,
+                                       Limit limit);
+
+    @Query("SELECT l.lifterId AS lifterId, u.username AS username, u.email AS email, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.createdAt AS createdAt, c.coachId AS coachId, " +
+            "cu.firstName AS coachFirstName, cu.lastName AS coachLastName, cu.username AS coachUsername " +
+            "FROM Lifter l JOIN l.app_user u LEFT JOIN l.coach c LEFT JOIN c.app_user cu " +
+            "WHERE l.coach IS NULL " +
+            "ORDER BY u.createdAt, u.userId")
+    List<LifterListView> findViewsWithoutCoach();
+
+    @Query("SELECT l.lifterId AS lifterId, u.username AS username, u.email AS email, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.createdAt AS createdAt, c.coachId AS coachId, " +
+            "cu.firstName AS coachFirstName, cu.lastName AS coachLastName, cu.username AS coachUsername " +
+            "FROM Lifter l JOIN l.app_user u LEFT JOIN l.coach c LEFT JOIN c.app_user cu " +
+            "WHERE c.coachId = :coachId " +
+            "ORDER BY u.createdAt, u.userId")
+    List<LifterListView> findViewsByCoachId(@Param("coachId") UUID coachId);
+
+    @Query("SELECT l.lifterId AS lifterId, u.firstName AS firstName, u.lastName AS lastName, u.username AS username " +
+            "FROM Lifter l JOIN l.app_user u " +
+            "WHERE l.coach.coachId = :coachId " +
+            "ORDER BY u.createdAt, u.userId")
+    List<LifterSummaryView> findSummariesByCoachId(@Param("coachId") UUID coachId);
+
+    interface LifterListView {
+        UUID getLifterId();
+
+        String getUsername();
+
+        String getEmail();
+
+        String getFirstName();
+
+        String getLastName();
+
+        LocalDateTime getCreatedAt();
+
+        // Coach columns are null while the lifter has no coach
+        UUID getCoachId();
+
+        String getCoachFirstName();
+
+        String getCoachLastName();
+
+        String getCoachUsername();
+    }
+
+    interface LifterSummaryView {
+        UUID getLifterId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getUsername();
+    }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.strengthhub.strength_hub_api.repository;
 
 import com.strengthhub.strength_hub_api.model.RefreshToken;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,18 +17,32 @@ import java.util.UUID;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
     /**
-     * Deletes the oldest token for a user using a native query.
-     * NOTE: This is database-specific (works on PostgreSQL, MySQL, etc.).
+     * Inserts a new refresh token and, in the same statement, deletes the user's oldest active
+     * tokens so that at most {@code keep} of the existing ones survive alongside the new one.
+     * NOTE: Relies on PostgreSQL data-modifying CTEs.
+     *
+     * @return number of surplus tokens deleted
      */
     @Modifying
     @Query(
-            value = "DELETE FROM refresh_tokens WHERE ctid IN (SELECT ctid FROM refresh_token WHERE user_id = :userId ORDER BY createdAt ASC LIMIT 1)",
+            value = "WITH inserted AS (" +
+                    "INSERT INTO refresh_tokens (tokenId, token_hash, user_id, expiresAt, createdAt, isRevoked) " +
+                    "VALUES (:tokenId, :tokenHash, :userId, :expiresAt, :now, false) RETURNING tokenId) " +
+                    "DELETE FROM refresh_tokens WHERE tokenId IN (" +
+                    "SELECT tokenId FROM refresh_tokens " +
+                    "WHERE user_id = :userId AND isRevoked = false AND expiresAt > :now " +
+                    "ORDER BY createdAt DESC OFFSET :keep)",
             nativeQuery = true
     )
-    void deleteOldestTokenForUser(@Param("userId") UUID userId);
+    int insertTokenAndTrimToLimit(@Param("tokenId") UUID tokenId,
+                                  @Param("tokenHash") byte[] tokenHash,
+                                  @Param("userId") UUID userId,
+                                  @Param("expiresAt") LocalDateTime expiresAt,
+                                  @Param("now") LocalDateTime now,
+                                  @Param("keep") int keep);
 
     @Query("SELECT rt FROM RefreshToken rt WHERE rt.user.userId = :userId AND rt.isRevoked = false AND rt.expiresAt > :now")
     List<RefreshToken> findActiveTokensByUserId(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
@@ -36,15 +52,49 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
     void revokeAllUserTokens(@Param("userId") UUID userId);
 
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.token = :token")
-    void revokeTokenByValue(@Param("token") String token);
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.tokenHash = :tokenHash")
+    void revokeTokenByHash(@Param("tokenHash") byte[] tokenHash);
 
+    @Query("SELECT rt.tokenId AS tokenId, rt.expiresAt AS expiresAt FROM RefreshToken rt " +
+            "WHERE rt.expiresAt < :now " +
+            "ORDER BY rt.expiresAt, rt.tokenId")
+    List<PurgeKey> findFirstExpiredBatch(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Next batch of expired tokens after the (expiresAt, tokenId) keyset cursor. Both bounds are
+     * ranges on the same index, so each batch resumes where the previous one stopped.
+     */
+    @Query("SELECT rt.tokenId AS tokenId, rt.expiresAt AS expiresAt FROM RefreshToken rt " +
+            "WHERE (rt.expiresAt, rt.tokenId) > (:afterExpiresAt, :afterTokenId) " +
+            "AND rt.expiresAt < :now " +
+            "ORDER BY rt.expiresAt, rt.tokenId")
+    List<PurgeKey> findNextExpiredBatch(@Param("now") LocalDateTime now,
+                                        @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+                                        @Param("afterTokenId") UUID afterTokenId,
+                                        Limit limit);
+
+    // Revoked tokens that have not expired yet, served by the partial idx_refresh_tokens_revoked index
+    @Query("SELECT rt.tokenId FROM RefreshToken rt WHERE rt.isRevoked = true ORDER BY rt.tokenId")
+    List<UUID> findFirstRevokedBatch(Limit limit);
+
+    @Query("SELECT rt.tokenId FROM RefreshToken rt WHERE rt.isRevoked = true AND rt.tokenId > :afterTokenId " +
+            "ORDER BY rt.tokenId")
+    List<UUID> findNextRevokedBatch(@Param("afterTokenId") UUID afterTokenId, Limit limit);
+
+    // Own transaction so every purge batch commits and releases its row locks on its own
+    @Transactional
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now OR rt.isRevoked = true")
-    void deleteExpiredAndRevokedTokens(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.tokenId IN :tokenIds")
+    int deleteByTokenIds(@Param("tokenIds") List<UUID> tokenIds);
 
     @Query("SELECT COUNT(rt) FROM RefreshToken rt WHERE rt.user.userId = :userId AND rt.isRevoked = false AND rt.expiresAt > :now")
     long countActiveTokensByUserId(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
 
-    boolean existsByToken(String token);
+    boolean existsByTokenHash(byte[] tokenHash);
+
+    interface PurgeKey {
+        UUID getTokenId();
+
+        LocalDateTime getExpiresAt();
+    }
 }
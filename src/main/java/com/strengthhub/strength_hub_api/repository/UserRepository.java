@@ -1,11 +1,13 @@
 package com.strengthhub.strength_hub_api.repository;
 
 import com.strengthhub.strength_hub_api.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,4 +27,45 @@ public interface UserRepository extends JpaRepository<User, UUID> {
             "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(u.username) LIKE LOWER(CONCAT('%', :search, '%'))")
     List<User> findByNameContaining(@Param("search") String search);
+
+    // Keyset pages in (createdAt, userId) order, seeking on idx_app_user_created_at. Profile ids stand in for
+    // the eager one-to-one lifter and coach profiles, which would otherwise cost two selects per user
+    @Query("SELECT u.userId AS userId, u.username AS username, u.email AS email, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.isAdmin AS isAdmin, u.createdAt AS createdAt, " +
+            "l.lifterId AS lifterId, c.coachId AS coachId " +
+            "FROM User u LEFT JOIN u.lifterProfile l LEFT JOIN u.coachProfile c " +
+            "ORDER BY u.createdAt, u.userId")
+    List<UserSummaryView> findFirstPage(Limit limit);
+
+    @Query("SELECT u.userId AS userId, u.username AS username, u.email AS email, u.firstName AS firstName, " +
+            "u.lastName AS lastName, u.isAdmin AS isAdmin, u.createdAt AS createdAt, " +
+            "l.lifterId AS lifterId, c.coachId AS coachId " +
+            "FROM User u LEFT JOIN u.lifterProfile l LEFT JOIN u.coachProfile c " +
+            "WHERE (u.createdAt, u.userId) > (:afterCreatedAt, :afterId) " +
+            "ORDER BY u.createdAt, u.userId")
+    List<UserSummaryView> findPageAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                        @Param("afterId") UUID afterId,
+                                        Limit limit);
+
+    interface UserSummaryView {
+        UUID getUserId();
+
+        String getUsername();
+
+        String getEmail();
+
+        String getFirstName();
+
+        String getLastName();
+
+        Boolean getIsAdmin();
+
+        LocalDateTime getCreatedAt();
+
+        // Null unless the user has a lifter profile
+        UUID getLifterId();
+
+        // Null unless the user has a coach profile
+        UUID getCoachId();
+    }
 }
@@ -2,41 +2,93 @@ package com.strengthhub.strength_hub_api.repository.workout;
 
 import com.strengthhub.strength_hub_api.model.workout.Exercise;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ExerciseRepository extends JpaRepository<Exercise, UUID> {
 
     // Find exercises by workout day
-    List<Exercise> findByWorkoutDay_DayIdOrderByExerciseOrder(UUID dayId);
+    List<Exercise> findByWorkoutDay_DayIdOrderBySortKey(UUID dayId);
 
-    // Check if exercise order exists in day
-    boolean existsByWorkoutDay_DayIdAndExerciseOrder(UUID dayId, Integer exerciseOrder);
+    // Ordered sort keys of a day's exercises; exercise orders are ranks within this list
+    @Query("SELECT e.sortKey FROM Exercise e WHERE e.workoutDay.dayId = :dayId ORDER BY e.sortKey")
+    List<Long> findSortKeysByDayId(@Param("dayId") UUID dayId);
 
     // Find exercises by name pattern in a day
     @Query("SELECT e FROM Exercise e WHERE " +
             "e.workoutDay.dayId = :dayId AND " +
             "LOWER(e.name) LIKE LOWER(CONCAT('%', :search, '%')) " +
-            "ORDER BY e.exerciseOrder")
+            "ORDER BY e.sortKey")
     List<Exercise> findByDayIdAndNameContaining(@Param("dayId") UUID dayId,
                                                 @Param("search") String search);
 
     // Find all exercises in a workout plan
     @Query("SELECT e FROM Exercise e WHERE e.workoutDay.workoutWeek.workoutPlan.planId = :planId " +
-            "ORDER BY e.workoutDay.workoutWeek.weekNumber, e.workoutDay.dayNumber, e.exerciseOrder")
+            "ORDER BY e.workoutDay.workoutWeek.weekNumber, e.workoutDay.dayNumber, e.sortKey")
     List<Exercise> findByPlanIdOrderByWeekDayAndOrder(@Param("planId") UUID planId);
 
 
     // Count exercises in a day
     Long countByWorkoutDay_DayId(UUID dayId);
 
-    // Get maximum exercise order for a day
-    @Query("SELECT MAX(e.exerciseOrder) FROM Exercise e WHERE e.workoutDay.dayId = :dayId")
-    Optional<Integer> findMaxExerciseOrderByDayId(@Param("dayId") UUID dayId);
+    // Rank of a single exercise within its day
+    Long countByWorkoutDay_DayIdAndSortKeyLessThanEqual(UUID dayId, Long sortKey);
+
+    // Delete a single exercise row; ON DELETE CASCADE removes its sets without loading them
+    @Modifying
+    @Query("DELETE FROM Exercise e WHERE e.exerciseId = :exerciseId")
+    int deleteByExerciseId(@Param("exerciseId") UUID exerciseId);
+
+    // Apply a set counter delta to a single exercise
+    @Modifying
+    @Query("UPDATE Exercise e SET e.totalSets = e.totalSets + :totalDelta, " +
+            "e.completedSets = e.completedSets + :completedDelta " +
+            "WHERE e.exerciseId = :exerciseId")
+    int adjustSetCounters(@Param("exerciseId") UUID exerciseId,
+                          @Param("totalDelta") int totalDelta,
+                          @Param("completedDelta") int completedDelta);
+
+    // Recompute set counters from raw sets, touching only rows that drifted; returns the number of rows fixed
+    @Modifying
+    @Query("UPDATE Exercise e SET " +
+            "e.totalSets = (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise = e), " +
+            "e.completedSets = (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise = e AND s.isCompleted = true) " +
+            "WHERE e.totalSets <> (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise = e) " +
+            "OR e.completedSets <> (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise = e AND s.isCompleted = true)")
+    int repairSetCounters();
+
+    // Copy every exercise of one plan under the day copies made by WorkoutDayRepository.copyDaysToPlan (PostgreSQL only)
+    @Modifying
+    @Query(
+            value = "INSERT INTO exercise (exerciseId, name, sortKey, notes, totalSets, completedSets, day_id) " +
+                    "SELECT CAST(md5(CAST(e.exerciseId AS text) || CAST(:targetPlanId AS text)) AS uuid), e.name, e.sortKey, e.notes, e.totalSets, 0, " +
+                    "CAST(md5(CAST(e.day_id AS text) || CAST(:targetPlanId AS text)) AS uuid) " +
+                    "FROM exercise e " +
+                    "JOIN workout_day wd ON wd.dayId = e.day_id " +
+                    "JOIN workout_week ww ON ww.weekId = wd.week_id " +
+                    "WHERE ww.plan_id = :sourcePlanId",
+            nativeQuery = true
+    )
+    int copyExercisesToPlan(@Param("sourcePlanId") UUID sourcePlanId, @Param("targetPlanId") UUID targetPlanId);
+
+    /**
+     * Respaces every day's exercise keys back to multiples of the gap, keeping their order. Only rows that
+     * are off that grid are rewritten. Returns the number of rows moved.
+     * NOTE: PostgreSQL only (UPDATE ... FROM with a window function).
+     */
+    @Modifying
+    @Query(
+            value = "UPDATE exercise e SET sortKey = ranked.position * :gap " +
+                    "FROM (SELECT exerciseId, ROW_NUMBER() OVER (PARTITION BY day_id ORDER BY sortKey, exerciseId) AS position " +
+                    "FROM exercise) ranked " +
+                    "WHERE e.exerciseId = ranked.exerciseId AND e.sortKey <> ranked.position * :gap",
+            nativeQuery = true
+    )
+    int respaceSortKeys(@Param("gap") long gap);
 }
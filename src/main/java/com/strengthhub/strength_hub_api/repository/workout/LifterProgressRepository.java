@@ -0,0 +1,33 @@
+package com.strengthhub.strength_hub_api.repository.workout;
+
+import com.strengthhub.strength_hub_api.model.workout.LifterProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LifterProgressRepository extends JpaRepository<LifterProgress, UUID> {
+
+    // Plan behind a lifter's snapshot, for access checks that should not load the whole row
+    @Query("SELECT lp.planId FROM LifterProgress lp WHERE lp.lifterId = :lifterId")
+    Optional<UUID> findPlanIdByLifterId(@Param("lifterId") UUID lifterId);
+
+    // Drop the snapshot of a plan that was unassigned, deactivated or deleted
+    @Modifying
+    @Query("DELETE FROM LifterProgress lp WHERE lp.planId = :planId")
+    int deleteByPlanId(@Param("planId") UUID planId);
+
+    // Keep the copied lifter name in sync with the user record
+    @Modifying
+    @Query("UPDATE LifterProgress lp SET lp.username = :username, lp.firstName = :firstName, lp.lastName = :lastName " +
+            "WHERE lp.lifterId = :lifterId")
+    int updateLifterName(@Param("lifterId") UUID lifterId,
+                         @Param("username") String username,
+                         @Param("firstName") String firstName,
+                         @Param("lastName") String lastName);
+}
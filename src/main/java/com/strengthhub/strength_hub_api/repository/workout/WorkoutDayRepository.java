@@ -2,6 +2,7 @@ package com.strengthhub.strength_hub_api.repository.workout;
 
 import com.strengthhub.strength_hub_api.model.workout.WorkoutDay;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,6 +36,13 @@ public interface WorkoutDayRepository extends JpaRepository<WorkoutDay, UUID> {
             "ORDER BY wd.workoutWeek.weekNumber, wd.dayNumber")
     List<WorkoutDay> findByPlanIdOrderByWeekAndDay(@Param("planId") UUID planId);
 
+    // Day-level set counters of a plan in schedule order; progress snapshots are built from these, not from sets
+    @Query("SELECT wd.workoutWeek.weekNumber AS weekNumber, wd.dayNumber AS dayNumber, " +
+            "wd.totalSets AS totalSets, wd.completedSets AS completedSets " +
+            "FROM WorkoutDay wd WHERE wd.workoutWeek.workoutPlan.planId = :planId " +
+            "ORDER BY wd.workoutWeek.weekNumber, wd.dayNumber")
+    List<DayCounterView> findDayCountersByPlanId(@Param("planId") UUID planId);
+
     // Count days in a week
     Long countByWorkoutWeek_WeekId(UUID weekId);
 
@@ -45,4 +53,63 @@ public interface WorkoutDayRepository extends JpaRepository<WorkoutDay, UUID> {
     // Get maximum day number for a week
     @Query("SELECT MAX(wd.dayNumber) FROM WorkoutDay wd WHERE wd.workoutWeek.weekId = :weekId")
     Optional<Integer> findMaxDayNumberByWeekId(@Param("weekId") UUID weekId);
+
+    // Revision of the plan that owns a day, for conditional GETs
+    @Query("SELECT wd.workoutWeek.workoutPlan.revision FROM WorkoutDay wd WHERE wd.dayId = :dayId")
+    Optional<Long> findPlanRevisionByDayId(@Param("dayId") UUID dayId);
+
+    // Delete a single day row; ON DELETE CASCADE removes its exercises and sets without loading them
+    @Modifying
+    @Query("DELETE FROM WorkoutDay wd WHERE wd.dayId = :dayId")
+    int deleteByDayId(@Param("dayId") UUID dayId);
+
+    // Apply a set counter delta to a single day
+    @Modifying
+    @Query("UPDATE WorkoutDay wd SET wd.totalSets = wd.totalSets + :totalDelta, " +
+            "wd.completedSets = wd.completedSets + :completedDelta " +
+            "WHERE wd.dayId = :dayId")
+    int adjustSetCounters(@Param("dayId") UUID dayId,
+                          @Param("totalDelta") int totalDelta,
+                          @Param("completedDelta") int completedDelta);
+
+    // Apply a set counter delta to the day above an exercise, located by subselect so no entity is loaded
+    @Modifying
+    @Query("UPDATE WorkoutDay wd SET wd.totalSets = wd.totalSets + :totalDelta, " +
+            "wd.completedSets = wd.completedSets + :completedDelta " +
+            "WHERE wd.dayId = (SELECT e.workoutDay.dayId FROM Exercise e WHERE e.exerciseId = :exerciseId)")
+    int adjustSetCountersByExerciseId(@Param("exerciseId") UUID exerciseId,
+                                      @Param("totalDelta") int totalDelta,
+                                      @Param("completedDelta") int completedDelta);
+
+    // Recompute set counters from raw sets, touching only rows that drifted; returns the number of rows fixed
+    @Modifying
+    @Query("UPDATE WorkoutDay wd SET " +
+            "wd.totalSets = (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay = wd), " +
+            "wd.completedSets = (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay = wd AND s.isCompleted = true) " +
+            "WHERE wd.totalSets <> (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay = wd) " +
+            "OR wd.completedSets <> (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay = wd AND s.isCompleted = true)")
+    int repairSetCounters();
+
+    // Copy every day of one plan under the week copies made by WorkoutWeekRepository.copyWeeksToPlan (PostgreSQL only)
+    @Modifying
+    @Query(
+            value = "INSERT INTO workout_day (dayId, dayNumber, name, notes, totalSets, completedSets, week_id) " +
+                    "SELECT CAST(md5(CAST(wd.dayId AS text) || CAST(:targetPlanId AS text)) AS uuid), wd.dayNumber, wd.name, wd.notes, wd.totalSets, 0, " +
+                    "CAST(md5(CAST(wd.week_id AS text) || CAST(:targetPlanId AS text)) AS uuid) " +
+                    "FROM workout_day wd " +
+                    "JOIN workout_week ww ON ww.weekId = wd.week_id " +
+                    "WHERE ww.plan_id = :sourcePlanId",
+            nativeQuery = true
+    )
+    int copyDaysToPlan(@Param("sourcePlanId") UUID sourcePlanId, @Param("targetPlanId") UUID targetPlanId);
+
+    interface DayCounterView {
+        Integer getWeekNumber();
+
+        Integer getDayNumber();
+
+        Integer getTotalSets();
+
+        Integer getCompletedSets();
+    }
 }
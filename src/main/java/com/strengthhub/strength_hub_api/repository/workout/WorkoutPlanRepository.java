@@ -1,11 +1,15 @@
 package com.strengthhub.strength_hub_api.repository.workout;
 
 import com.strengthhub.strength_hub_api.model.workout.WorkoutPlan;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,11 +17,115 @@ import java.util.UUID;
 @Repository
 public interface WorkoutPlanRepository extends JpaRepository<WorkoutPlan, UUID> {
 
-    // Find plans by coach
-    List<WorkoutPlan> findByCoach_CoachId(UUID coachId);
+    // Find plan with coach and assigned lifter (and their users) in one query
+    @Query("SELECT wp FROM WorkoutPlan wp " +
+            "JOIN FETCH wp.coach c JOIN FETCH c.app_user " +
+            "LEFT JOIN FETCH wp.assignedLifter l LEFT JOIN FETCH l.app_user " +
+            "WHERE wp.planId = :planId")
+    Optional<WorkoutPlan> findByIdWithCoachAndLifter(@Param("planId") UUID planId);
 
-    // Find plans by assigned lifter
-    List<WorkoutPlan> findByAssignedLifter_LifterId(UUID lifterId);
+    // Week multiplier of the day keys in PlanStatsView; day numbers are held to 1-7 by a CHECK constraint
+    int DAY_KEY_WEEK_FACTOR = 100;
+
+    // All plan stats in one grouped query. Day keys encode (weekNumber, dayNumber) as
+    // weekNumber * DAY_KEY_WEEK_FACTOR + dayNumber, so MIN/MAX over them give the first open and the last
+    // scheduled training day
+    @Query("SELECT wp.totalWeeks AS totalWeeks, " +
+            "COUNT(DISTINCT d.dayId) AS totalDays, " +
+            "COUNT(DISTINCT e.exerciseId) AS totalExercises, " +
+            "COUNT(s.setId) AS totalSets, " +
+            "COALESCE(SUM(CASE WHEN s.isCompleted = true THEN 1 ELSE 0 END), 0) AS completedSets, " +
+            "MIN(CASE WHEN s.isCompleted = false THEN w.weekNumber * " + DAY_KEY_WEEK_FACTOR + " + d.dayNumber END) AS firstOpenDayKey, " +
+            "MAX(CASE WHEN s.setId IS NOT NULL THEN w.weekNumber * " + DAY_KEY_WEEK_FACTOR + " + d.dayNumber END) AS lastDayKey " +
+            "FROM WorkoutPlan wp " +
+            "LEFT JOIN wp.weeks w LEFT JOIN w.days d LEFT JOIN d.exercises e LEFT JOIN e.sets s " +
+            "WHERE wp.planId = :planId " +
+            "GROUP BY wp.planId, wp.totalWeeks")
+    Optional<PlanStatsView> findStatsByPlanId(@Param("planId") UUID planId);
+
+    // Current tree revision of a plan, for conditional GETs
+    @Query("SELECT wp.revision FROM WorkoutPlan wp WHERE wp.planId = :planId")
+    Optional<Long> findRevisionByPlanId(@Param("planId") UUID planId);
+
+    // Bump the revision after a change anywhere in the plan's week/day/exercise/set subtree
+    @Modifying
+    @Query("UPDATE WorkoutPlan wp SET wp.revision = wp.revision + 1 WHERE wp.planId = :planId")
+    int bumpRevision(@Param("planId") UUID planId);
+
+    // Plan id, active flag and owners of a plan or of the plan above a week, day, exercise or set; one join
+    // query each, used by WorkoutPlanGuard on a cache miss
+    @Query("SELECT wp.planId AS planId, wp.isActive AS isActive, wp.coach.coachId AS coachId, l.lifterId AS lifterId " +
+            "FROM WorkoutPlan wp LEFT JOIN wp.assignedLifter l " +
+            "WHERE wp.planId = :planId")
+    Optional<PlanScopeView> findScopeByPlanId(@Param("planId") UUID planId);
+
+    @Query("SELECT wp.planId AS planId, wp.isActive AS isActive, wp.coach.coachId AS coachId, l.lifterId AS lifterId " +
+            "FROM WorkoutWeek ww JOIN ww.workoutPlan wp LEFT JOIN wp.assignedLifter l " +
+            "WHERE ww.weekId = :weekId")
+    Optional<PlanScopeView> findScopeByWeekId(@Param("weekId") UUID weekId);
+
+    @Query("SELECT wp.planId AS planId, wp.isActive AS isActive, wp.coach.coachId AS coachId, l.lifterId AS lifterId " +
+            "FROM WorkoutDay wd JOIN wd.workoutWeek ww JOIN ww.workoutPlan wp LEFT JOIN wp.assignedLifter l " +
+            "WHERE wd.dayId = :dayId")
+    Optional<PlanScopeView> findScopeByDayId(@Param("dayId") UUID dayId);
+
+    @Query("SELECT wp.planId AS planId, wp.isActive AS isActive, wp.coach.coachId AS coachId, l.lifterId AS lifterId " +
+            "FROM Exercise e JOIN e.workoutDay wd JOIN wd.workoutWeek ww JOIN ww.workoutPlan wp LEFT JOIN wp.assignedLifter l " +
+            "WHERE e.exerciseId = :exerciseId")
+    Optional<PlanScopeView> findScopeByExerciseId(@Param("exerciseId") UUID exerciseId);
+
+    @Query("SELECT wp.planId AS planId, wp.isActive AS isActive, wp.coach.coachId AS coachId, l.lifterId AS lifterId " +
+            "FROM WorkoutSet ws JOIN ws.exercise e JOIN e.workoutDay wd JOIN wd.workoutWeek ww JOIN ww.workoutPlan wp " +
+            "LEFT JOIN wp.assignedLifter l " +
+            "WHERE ws.setId = :setId")
+    Optional<PlanScopeView> findScopeBySetId(@Param("setId") UUID setId);
+
+    // Same resolution for many sets at once, so a batch is authorized with one query
+    @Query("SELECT ws.setId AS setId, wp.planId AS planId, wp.isActive AS isActive, wp.coach.coachId AS coachId, " +
+            "l.lifterId AS lifterId " +
+            "FROM WorkoutSet ws JOIN ws.exercise e JOIN e.workoutDay wd JOIN wd.workoutWeek ww JOIN ww.workoutPlan wp " +
+            "LEFT JOIN wp.assignedLifter l " +
+            "WHERE ws.setId IN :setIds")
+    List<SetScopeView> findScopesBySetIdIn(@Param("setIds") Collection<UUID> setIds);
+
+    // Keyset pages of a coach's plans in (createdAt, planId) order, seeking on idx_workout_plan_coach_created_at
+    @Query("SELECT wp.planId AS planId, wp.name AS name, wp.description AS description, wp.totalWeeks AS totalWeeks, " +
+            "wp.isActive AS isActive, wp.isTemplate AS isTemplate, wp.createdAt AS createdAt, " +
+            "c.coachId AS coachId, cu.firstName AS coachFirstName, cu.lastName AS coachLastName, " +
+            "cu.username AS coachUsername, l.lifterId AS lifterId, lu.firstName AS lifterFirstName, " +
+            "lu.lastName AS lifterLastName, lu.username AS lifterUsername " +
+            "FROM WorkoutPlan wp JOIN wp.coach c JOIN c.app_user cu " +
+            "LEFT JOIN wp.assignedLifter l LEFT JOIN l.app_user lu " +
+            "WHERE c.coachId = :coachId " +
+            "ORDER BY wp.createdAt, wp.planId")
+    List<PlanSummaryView> findFirstPageByCoachId(@Param("coachId") UUID coachId, Limit limit);
+
+    @Query("SELECT wp.planId AS planId, wp.name AS name, wp.description AS description, wp.totalWeeks AS totalWeeks, " +
+            "wp.isActive AS isActive, wp.isTemplate AS isTemplate, wp.createdAt AS createdAt, " +
+            "c.coachId AS coachId, cu.firstName AS coachFirstName, cu.lastName AS coachLastName, " +
+            "cu.username AS coachUsername, l.lifterId AS lifterId, lu.firstName AS lifterFirstName, " +
+            "lu.lastName AS lifterLastName, lu.username AS lifterUsername " +
+            "FROM WorkoutPlan wp JOIN wp.coach c JOIN c.app_user cu " +
+            "LEFT JOIN wp.assignedLifter l LEFT JOIN l.app_user lu " +
+            "WHERE c.coachId = :coachId " +
+            "AND (wp.createdAt, wp.planId) > (:afterCreatedAt, :afterId) " +
+            "ORDER BY wp.createdAt, wp.planId")
+    List<PlanSummaryView> findPageByCoachIdAfter(@Param("coachId") UUID coachId,
+                                                 @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                 @Param("afterId") UUID afterId,
+                                                 Limit limit);
+
+    // Summary rows of the plans assigned to a lifter, read without hydrating plans, coach or lifter
+    @Query("SELECT wp.planId AS planId, wp.name AS name, wp.description AS description, wp.totalWeeks AS totalWeeks, " +
+            "wp.isActive AS isActive, wp.isTemplate AS isTemplate, wp.createdAt AS createdAt, " +
+            "c.coachId AS coachId, cu.firstName AS coachFirstName, cu.lastName AS coachLastName, " +
+            "cu.username AS coachUsername, l.lifterId AS lifterId, lu.firstName AS lifterFirstName, " +
+            "lu.lastName AS lifterLastName, lu.username AS lifterUsername " +
+            "FROM WorkoutPlan wp JOIN wp.coach c JOIN c.app_user cu " +
+            "LEFT JOIN wp.assignedLifter l LEFT JOIN l.app_user lu " +
+            "WHERE l.lifterId = :lifterId " +
+            "ORDER BY wp.createdAt, wp.planId")
+    List<PlanSummaryView> findSummariesByLifterId(@Param("lifterId") UUID lifterId);
 
     // Find active plans by coach
     @Query("SELECT wp FROM WorkoutPlan wp WHERE wp.coach.coachId = :coachId AND wp.isActive = true")
@@ -48,4 +156,99 @@ public interface WorkoutPlanRepository extends JpaRepository<WorkoutPlan, UUID>
     // Count active plans by coach
     @Query("SELECT COUNT(wp) FROM WorkoutPlan wp WHERE wp.coach.coachId = :coachId AND wp.isActive = true")
     Long countActiveByCoachId(@Param("coachId") UUID coachId);
+
+    // Delete a single plan row; ON DELETE CASCADE removes its weeks, days, exercises and sets without loading them
+    @Modifying
+    @Query("DELETE FROM WorkoutPlan wp WHERE wp.planId = :planId")
+    int deleteByPlanId(@Param("planId") UUID planId);
+
+    // Apply a set counter delta to a single plan
+    @Modifying
+    @Query("UPDATE WorkoutPlan wp SET wp.totalSets = wp.totalSets + :totalDelta, " +
+            "wp.completedSets = wp.completedSets + :completedDelta " +
+            "WHERE wp.planId = :planId")
+    int adjustSetCounters(@Param("planId") UUID planId,
+                          @Param("totalDelta") int totalDelta,
+                          @Param("completedDelta") int completedDelta);
+
+    // Apply a set counter delta and bump the revision in the same statement, so a set write touches the plan row once
+    @Modifying
+    @Query("UPDATE WorkoutPlan wp SET wp.totalSets = wp.totalSets + :totalDelta, " +
+            "wp.completedSets = wp.completedSets + :completedDelta, wp.revision = wp.revision + 1 " +
+            "WHERE wp.planId = :planId")
+    int adjustSetCountersAndBumpRevision(@Param("planId") UUID planId,
+                                         @Param("totalDelta") int totalDelta,
+                                         @Param("completedDelta") int completedDelta);
+
+    // Recompute set counters from raw sets, touching only rows that drifted; returns the number of rows fixed
+    @Modifying
+    @Query("UPDATE WorkoutPlan wp SET " +
+            "wp.totalSets = (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay.workoutWeek.workoutPlan = wp), " +
+            "wp.completedSets = (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay.workoutWeek.workoutPlan = wp AND s.isCompleted = true) " +
+            "WHERE wp.totalSets <> (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay.workoutWeek.workoutPlan = wp) " +
+            "OR wp.completedSets <> (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay.workoutWeek.workoutPlan = wp AND s.isCompleted = true)")
+    int repairSetCounters();
+
+    interface PlanStatsView {
+        Integer getTotalWeeks();
+
+        Long getTotalDays();
+
+        Long getTotalExercises();
+
+        Long getTotalSets();
+
+        Long getCompletedSets();
+
+        Integer getFirstOpenDayKey();
+
+        Integer getLastDayKey();
+    }
+
+    interface PlanScopeView {
+        UUID getPlanId();
+
+        Boolean getIsActive();
+
+        UUID getCoachId();
+
+        UUID getLifterId();
+    }
+
+    interface SetScopeView extends PlanScopeView {
+        UUID getSetId();
+    }
+
+    interface PlanSummaryView {
+        UUID getPlanId();
+
+        String getName();
+
+        String getDescription();
+
+        Integer getTotalWeeks();
+
+        Boolean getIsActive();
+
+        Boolean getIsTemplate();
+
+        LocalDateTime getCreatedAt();
+
+        UUID getCoachId();
+
+        String getCoachFirstName();
+
+        String getCoachLastName();
+
+        String getCoachUsername();
+
+        // Lifter columns are null while the plan is unassigned
+        UUID getLifterId();
+
+        String getLifterFirstName();
+
+        String getLifterLastName();
+
+        String getLifterUsername();
+    }
 }
@@ -2,35 +2,40 @@ package com.strengthhub.strength_hub_api.repository.workout;
 
 import com.strengthhub.strength_hub_api.model.workout.WorkoutSet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface WorkoutSetRepository extends JpaRepository<WorkoutSet, UUID> {
 
     // Find sets by exercise
-    List<WorkoutSet> findByExercise_ExerciseIdOrderBySetNumber(UUID exerciseId);
+    List<WorkoutSet> findByExercise_ExerciseIdOrderBySortKey(UUID exerciseId);
 
-    // Find specific set in exercise
-    Optional<WorkoutSet> findByExercise_ExerciseIdAndSetNumber(UUID exerciseId, Integer setNumber);
+    // Find completed sets in exercise
+    List<WorkoutSet> findByExercise_ExerciseIdAndIsCompletedOrderBySortKey(UUID exerciseId, Boolean isCompleted);
 
-    // Check if set number exists in exercise
-    boolean existsByExercise_ExerciseIdAndSetNumber(UUID exerciseId, Integer setNumber);
+    // Ordered sort keys of an exercise's sets; set numbers are ranks within this list
+    @Query("SELECT ws.sortKey FROM WorkoutSet ws WHERE ws.exercise.exerciseId = :exerciseId ORDER BY ws.sortKey")
+    List<Long> findSortKeysByExerciseId(@Param("exerciseId") UUID exerciseId);
 
-    // Find completed sets in exercise
-    List<WorkoutSet> findByExercise_ExerciseIdAndIsCompletedOrderBySetNumber(UUID exerciseId, Boolean isCompleted);
+    // Ordered sort keys of several exercises' sets at once
+    @Query("SELECT ws.exercise.exerciseId AS exerciseId, ws.sortKey AS sortKey FROM WorkoutSet ws " +
+            "WHERE ws.exercise.exerciseId IN :exerciseIds " +
+            "ORDER BY ws.sortKey")
+    List<SetSortKeyView> findSortKeysByExerciseIdIn(@Param("exerciseIds") Collection<UUID> exerciseIds);
 
     // Find sets with lifter notes
     @Query("SELECT ws FROM WorkoutSet ws WHERE " +
             "ws.exercise.exerciseId = :exerciseId AND " +
             "ws.lifterNotes IS NOT NULL AND " +
             "ws.lifterNotes != '' " +
-            "ORDER BY ws.setNumber")
+            "ORDER BY ws.sortKey")
     List<WorkoutSet> findByExerciseIdWithNotes(@Param("exerciseId") UUID exerciseId);
 
     // Find all sets in a workout plan
@@ -38,10 +43,19 @@ public interface WorkoutSetRepository extends JpaRepository<WorkoutSet, UUID> {
             "ws.exercise.workoutDay.workoutWeek.workoutPlan.planId = :planId " +
             "ORDER BY ws.exercise.workoutDay.workoutWeek.weekNumber, " +
             "ws.exercise.workoutDay.dayNumber, " +
-            "ws.exercise.exerciseOrder, " +
-            "ws.setNumber")
+            "ws.exercise.sortKey, " +
+            "ws.sortKey")
     List<WorkoutSet> findByPlanIdOrderByWeekDayExerciseAndSet(@Param("planId") UUID planId);
 
+    // Load sets together with their whole ancestor chain, so the plan status check needs no further queries
+    @Query("SELECT ws FROM WorkoutSet ws " +
+            "JOIN FETCH ws.exercise e " +
+            "JOIN FETCH e.workoutDay wd " +
+            "JOIN FETCH wd.workoutWeek ww " +
+            "JOIN FETCH ww.workoutPlan wp " +
+            "WHERE ws.setId IN :setIds")
+    List<WorkoutSet> findAllWithPlanBySetIdIn(@Param("setIds") Collection<UUID> setIds);
+
     // Count sets in exercise
     Long countByExercise_ExerciseId(UUID exerciseId);
 
@@ -59,7 +73,43 @@ public interface WorkoutSetRepository extends JpaRepository<WorkoutSet, UUID> {
             "ws.isCompleted = true")
     Long countCompletedByPlanId(@Param("planId") UUID planId);
 
-    // Get maximum set number for an exercise
-    @Query("SELECT MAX(ws.setNumber) FROM WorkoutSet ws WHERE ws.exercise.exerciseId = :exerciseId")
-    Optional<Integer> findMaxSetNumberByExerciseId(@Param("exerciseId") UUID exerciseId);
+    // Rank of a single set within its exercise
+    Long countByExercise_ExerciseIdAndSortKeyLessThanEqual(UUID exerciseId, Long sortKey);
+
+    /**
+     * Respaces every exercise's set keys back to multiples of the gap, keeping their order. Only rows that
+     * are off that grid are rewritten. Returns the number of rows moved.
+     * NOTE: PostgreSQL only (UPDATE ... FROM with a window function).
+     */
+    @Modifying
+    @Query(
+            value = "UPDATE workout_set ws SET sortKey = ranked.position * :gap " +
+                    "FROM (SELECT setId, ROW_NUMBER() OVER (PARTITION BY exercise_id ORDER BY sortKey, setId) AS position " +
+                    "FROM workout_set) ranked " +
+                    "WHERE ws.setId = ranked.setId AND ws.sortKey <> ranked.position * :gap",
+            nativeQuery = true
+    )
+    int respaceSortKeys(@Param("gap") long gap);
+
+    // Copy every set's targets of one plan under the exercise copies made by ExerciseRepository.copyExercisesToPlan.
+    // Actual performance is left empty and every copy starts uncompleted (PostgreSQL only)
+    @Modifying
+    @Query(
+            value = "INSERT INTO workout_set (setId, sortKey, targetReps, targetWeight, targetRpe, isCompleted, exercise_id) " +
+                    "SELECT CAST(md5(CAST(ws.setId AS text) || CAST(:targetPlanId AS text)) AS uuid), ws.sortKey, ws.targetReps, ws.targetWeight, ws.targetRpe, false, " +
+                    "CAST(md5(CAST(ws.exercise_id AS text) || CAST(:targetPlanId AS text)) AS uuid) " +
+                    "FROM workout_set ws " +
+                    "JOIN exercise e ON e.exerciseId = ws.exercise_id " +
+                    "JOIN workout_day wd ON wd.dayId = e.day_id " +
+                    "JOIN workout_week ww ON ww.weekId = wd.week_id " +
+                    "WHERE ww.plan_id = :sourcePlanId",
+            nativeQuery = true
+    )
+    int copySetsToPlan(@Param("sourcePlanId") UUID sourcePlanId, @Param("targetPlanId") UUID targetPlanId);
+
+    interface SetSortKeyView {
+        UUID getExerciseId();
+
+        Long getSortKey();
+    }
 }
\ No newline at end of file
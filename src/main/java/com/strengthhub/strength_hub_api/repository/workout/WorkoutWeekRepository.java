@@ -2,6 +2,7 @@ package com.strengthhub.strength_hub_api.repository.workout;
 
 import com.strengthhub.strength_hub_api.model.workout.WorkoutWeek;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -32,4 +33,56 @@ public interface WorkoutWeekRepository extends JpaRepository<WorkoutWeek, UUID>
     // Get maximum week number for a plan
     @Query("SELECT MAX(ww.weekNumber) FROM WorkoutWeek ww WHERE ww.workoutPlan.planId = :planId")
     Optional<Integer> findMaxWeekNumberByPlanId(@Param("planId") UUID planId);
+
+    // Revision of the plan that owns a week, for conditional GETs
+    @Query("SELECT ww.workoutPlan.revision FROM WorkoutWeek ww WHERE ww.weekId = :weekId")
+    Optional<Long> findPlanRevisionByWeekId(@Param("weekId") UUID weekId);
+
+    // Delete a single week row; ON DELETE CASCADE removes its days, exercises and sets without loading them
+    @Modifying
+    @Query("DELETE FROM WorkoutWeek ww WHERE ww.weekId = :weekId")
+    int deleteByWeekId(@Param("weekId") UUID weekId);
+
+    // Apply a set counter delta to a single week
+    @Modifying
+    @Query("UPDATE WorkoutWeek ww SET ww.totalSets = ww.totalSets + :totalDelta, " +
+            "ww.completedSets = ww.completedSets + :completedDelta " +
+            "WHERE ww.weekId = :weekId")
+    int adjustSetCounters(@Param("weekId") UUID weekId,
+                          @Param("totalDelta") int totalDelta,
+                          @Param("completedDelta") int completedDelta);
+
+    // Apply a set counter delta to the week above an exercise, located by subselect so no entity is loaded
+    @Modifying
+    @Query("UPDATE WorkoutWeek ww SET ww.totalSets = ww.totalSets + :totalDelta, " +
+            "ww.completedSets = ww.completedSets + :completedDelta " +
+            "WHERE ww.weekId = (SELECT d.workoutWeek.weekId FROM Exercise e JOIN e.workoutDay d WHERE e.exerciseId = :exerciseId)")
+    int adjustSetCountersByExerciseId(@Param("exerciseId") UUID exerciseId,
+                                      @Param("totalDelta") int totalDelta,
+                                      @Param("completedDelta") int completedDelta);
+
+    // Recompute set counters from raw sets, touching only rows that drifted; returns the number of rows fixed
+    @Modifying
+    @Query("UPDATE WorkoutWeek ww SET " +
+            "ww.totalSets = (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay.workoutWeek = ww), " +
+            "ww.completedSets = (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay.workoutWeek = ww AND s.isCompleted = true) " +
+            "WHERE ww.totalSets <> (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay.workoutWeek = ww) " +
+            "OR ww.completedSets <> (SELECT COUNT(s) FROM WorkoutSet s WHERE s.exercise.workoutDay.workoutWeek = ww AND s.isCompleted = true)")
+    int repairSetCounters();
+
+    /**
+     * Copies every week of one plan into another with a single INSERT ... SELECT. Each copy's id is derived
+     * from the source id and the target plan id, so the day copy can compute its new parent id without a
+     * lookup. Set counters keep their totals and start with nothing completed.
+     * NOTE: PostgreSQL only (md5 to uuid cast).
+     */
+    @Modifying
+    @Query(
+            value = "INSERT INTO workout_week (weekId, weekNumber, notes, totalSets, completedSets, plan_id) " +
+                    "SELECT CAST(md5(CAST(ww.weekId AS text) || CAST(:targetPlanId AS text)) AS uuid), ww.weekNumber, ww.notes, ww.totalSets, 0, :targetPlanId " +
+                    "FROM workout_week ww " +
+                    "WHERE ww.plan_id = :sourcePlanId",
+            nativeQuery = true
+    )
+    int copyWeeksToPlan(@Param("sourcePlanId") UUID sourcePlanId, @Param("targetPlanId") UUID targetPlanId);
 }
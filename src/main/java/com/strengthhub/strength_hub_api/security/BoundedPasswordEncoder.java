@@ -0,0 +1,166 @@
+package com.strengthhub.strength_hub_api.security;
+
+import com.strengthhub.strength_hub_api.exception.auth.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the delegate's {@code encode} and {@code matches} on a dedicated, fixed-size pool with a
+ * bounded queue, so a burst of logins or registrations can only occupy that many cores with
+ * BCrypt instead of most of the request threads. When the queue is full the call fails fast with
+ * {@link PasswordHashingUnavailableException}, which is answered with 503 and Retry-After.
+ * Queue depth, active workers, rejections and hash latency are published as
+ * {@code password.hashing.*} meters when the bean is bound to a {@link MeterRegistry}.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int retryAfterSeconds;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanosTotal = new LongAdder();
+    private final LongAccumulator hashNanosMax = new LongAccumulator(Math::max, 0);
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, int retryAfterSeconds) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing executor initialised: {} threads, queue capacity {}", threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    public double getAverageHashLatencyMillis() {
+        long count = hashCount.sum();
+        return count == 0 ? 0.0 : hashNanosTotal.sum() / (count * 1_000_000.0);
+    }
+
+    public double getMaxHashLatencyMillis() {
+        return hashNanosMax.get() / 1_000_000.0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hashing.queue.depth", this, BoundedPasswordEncoder::getQueueDepth)
+                .description("Hashing requests waiting for a worker")
+                .register(registry);
+        Gauge.builder("password.hashing.active", this, BoundedPasswordEncoder::getActiveCount)
+                .description("Workers currently hashing")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", this, BoundedPasswordEncoder::getRejectedCount)
+                .description("Hashing requests rejected because the queue was full")
+                .register(registry);
+        FunctionTimer.builder("password.hashing", this,
+                        BoundedPasswordEncoder::getHashCount, encoder -> encoder.hashNanosTotal.sum(), TimeUnit.NANOSECONDS)
+                .description("Time spent in encode and matches on the hashing pool")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(hashing));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing executor saturated (queue depth {}), rejecting request", getQueueDepth());
+            throw new PasswordHashingUnavailableException(
+                    "Authentication service is busy, please retry shortly", retryAfterSeconds, e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password hashing was interrupted", retryAfterSeconds, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> T timed(Callable<T> hashing) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return hashing.call();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            hashCount.increment();
+            hashNanosTotal.add(elapsed);
+            hashNanosMax.accumulate(elapsed);
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
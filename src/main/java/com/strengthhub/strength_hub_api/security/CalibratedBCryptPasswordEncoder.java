@@ -0,0 +1,88 @@
+package com.strengthhub.strength_hub_api.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * BCrypt encoder whose work factor is picked at startup by timing this machine, so a hash takes
+ * roughly the configured target latency whatever the node size. The cost is part of every
+ * BCrypt hash ({@code $2a$<cost>$...}); {@link #upgradeEncoding(String)} reports hashes that are
+ * cheaper than this node's cost, or more than one step more expensive, so they can be rehashed on the
+ * next successful login. The one-step tolerance keeps nodes that calibrate to neighbouring costs from
+ * rehashing the same password back and forth.
+ */
+@Slf4j
+public class CalibratedBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final int PROBE_COST = 8;
+    private static final int PROBE_ROUNDS = 5;
+    private static final int COST_TOLERANCE = 1;
+
+    @Getter
+    private final int cost;
+    private final BCryptPasswordEncoder delegate;
+
+    public CalibratedBCryptPasswordEncoder(long targetLatencyMs, int minCost, int maxCost) {
+        this.cost = calibrate(targetLatencyMs, minCost, maxCost);
+        this.delegate = new BCryptPasswordEncoder(cost);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedCost = costOf(encodedPassword);
+        return storedCost > 0 && (storedCost < cost || storedCost > cost + COST_TOLERANCE);
+    }
+
+    /**
+     * @return the work factor recorded in a BCrypt hash, or -1 if the value is not a BCrypt hash
+     */
+    static int costOf(String encodedPassword) {
+        // Layout: $2a$10$<22 char salt><31 char hash>
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || !encodedPassword.startsWith("$2") || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, 4, 6, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int calibrate(long targetLatencyMs, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_COST);
+        probe.encode("calibration-warmup");
+
+        long[] samples = new long[PROBE_ROUNDS];
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-probe");
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double probeMs = Math.max(samples[PROBE_ROUNDS / 2] / 1_000_000.0, 0.01);
+
+        // Each extra cost step doubles the work
+        int cost = PROBE_COST + (int) Math.round(Math.log(targetLatencyMs / probeMs) / Math.log(2));
+        int clamped = Math.clamp(cost, minCost, maxCost);
+
+        log.info("BCrypt calibrated: cost {} at ~{} ms per hash (target {} ms, probe cost {} took {} ms)",
+                clamped, Math.round(probeMs * Math.pow(2, clamped - PROBE_COST)), targetLatencyMs,
+                PROBE_COST, String.format("%.2f", probeMs));
+        return clamped;
+    }
+}
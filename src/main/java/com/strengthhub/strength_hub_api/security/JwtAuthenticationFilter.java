@@ -12,7 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,9 +20,6 @@ import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -31,6 +27,7 @@ import java.util.UUID;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     @Override
@@ -41,37 +38,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            jwtUtil.validateToken(jwt);
-            // Only process access tokens (not refresh tokens)
-            if (!jwtUtil.isAccessToken(jwt)) {
-                log.warn("Refresh token used for API access - rejecting");
-                filterChain.doFilter(request, response);
-                return;
-            }
+            // Tokens seen before were already verified; skip signature check and claim parsing
+            UserPrincipal userPrincipal = verifiedTokenCache.get(jwt);
 
-            // Extract user info from token claims
-            String username = jwtUtil.getUsernameFromToken(jwt);
-            UUID userId = jwtUtil.getUserIdFromToken(jwt);
-            boolean isAdmin = jwtUtil.isAdminFromToken(jwt);
-            boolean isCoach = jwtUtil.isCoachFromToken(jwt);
-            boolean isLifter = jwtUtil.isLifterFromToken(jwt);
+            if (userPrincipal == null) {
+                // Verify signature and extract all claims in a single parse
+                TokenClaims claims = jwtUtil.parseToken(jwt);
 
-            // Build authorities from token claims
-            List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-            if (isAdmin) authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
-            if (isCoach) authorities.add(new SimpleGrantedAuthority("ROLE_COACH"));
-            if (isLifter) authorities.add(new SimpleGrantedAuthority("ROLE_LIFTER"));
+                // Only process access tokens (not refresh tokens)
+                if (!claims.isAccessToken()) {
+                    log.warn("Refresh token used for API access - rejecting");
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
-            // Create user principal
-            UserPrincipal userPrincipal = new UserPrincipal(userId, username, authorities);
+                // Create user principal; authorities are derived from the verified claims
+                userPrincipal = new UserPrincipal(claims);
+                verifiedTokenCache.put(jwt, userPrincipal);
+            }
 
             // Set authentication in SecurityContext
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userPrincipal, null, authorities);
+                    new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.debug("Set authentication for user: {} with roles: {}", username, authorities);
+            log.debug("Set authentication for user: {} with roles: {}", userPrincipal.getUsername(), userPrincipal.getAuthorities());
 
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
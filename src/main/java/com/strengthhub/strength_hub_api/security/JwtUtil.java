@@ -4,11 +4,14 @@ import com.strengthhub.strength_hub_api.exception.auth.AuthenticationFailedExcep
 import com.strengthhub.strength_hub_api.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,6 +21,13 @@ import java.util.UUID;
 @Slf4j
 public class JwtUtil {
 
+    // Claim names and type codes of the compact token profile
+    private static final String COMPACT_USER_ID = "uid";
+    private static final String COMPACT_ROLES = "rol";
+    private static final String COMPACT_TYPE = "t";
+    private static final String COMPACT_ACCESS = "a";
+    private static final String COMPACT_REFRESH = "r";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -30,21 +40,49 @@ public class JwtUtil {
     @Value("${app.jwt.issuer}")
     private String issuer;
 
+    // Issue compact tokens; both formats are always accepted so this can be switched during rollout
+    @Value("${app.jwt.compact-tokens:false}")
+    private boolean compactTokens;
+
+    // Built once at startup; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .requireIssuer(issuer)
+                .build();
+    }
+
     public String generateAccessToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", user.getUserId().toString());
-        claims.put("isAdmin", user.getIsAdmin());
-        claims.put("isCoach", user.isCoach());
-        claims.put("isLifter", user.isLifter());
-        claims.put("tokenType", "access");
+        if (compactTokens) {
+            claims.put(COMPACT_USER_ID, encodeUserId(user.getUserId()));
+            claims.put(COMPACT_ROLES, Roles.of(Boolean.TRUE.equals(user.getIsAdmin()), user.isCoach(), user.isLifter()));
+            claims.put(COMPACT_TYPE, COMPACT_ACCESS);
+        } else {
+            claims.put("userId", user.getUserId().toString());
+            claims.put("isAdmin", user.getIsAdmin());
+            claims.put("isCoach", user.isCoach());
+            claims.put("isLifter", user.isLifter());
+            claims.put("tokenType", "access");
+        }
 
         return createToken(claims, user.getUsername(), accessTokenExpirationMs);
     }
 
     public String generateRefreshToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", user.getUserId().toString());
-        claims.put("tokenType", "refresh");
+        if (compactTokens) {
+            claims.put(COMPACT_USER_ID, encodeUserId(user.getUserId()));
+            claims.put(COMPACT_TYPE, COMPACT_REFRESH);
+        } else {
+            claims.put("userId", user.getUserId().toString());
+            claims.put("tokenType", "refresh");
+        }
 
         return createToken(claims, user.getUsername(), refreshTokenExpirationMs);
     }
@@ -59,10 +97,87 @@ public class JwtUtil {
                 .issuer(issuer)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifies the token once (signature, expiry, issuer) and extracts every claim the
+     * request pipeline needs.
+     * @param token JWT token to parse
+     * @return verified claims
+     * @throws AuthenticationFailedException if token is invalid, expired, malformed, etc.
+     */
+    public TokenClaims parseToken(String token) {
+        Claims claims;
+        try {
+            claims = getClaimsFromToken(token);
+        } catch (ExpiredJwtException e) {
+            throw AuthenticationFailedException.expiredToken();
+        } catch (MalformedJwtException e) {
+            throw AuthenticationFailedException.malformedToken();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw AuthenticationFailedException.invalidToken();
+        }
+
+        try {
+            return claims.containsKey(COMPACT_USER_ID) ? fromCompactClaims(claims) : fromLegacyClaims(claims);
+        } catch (IllegalArgumentException | RequiredTypeException e) {
+            throw AuthenticationFailedException.invalidToken();
+        }
+    }
+
+    private TokenClaims fromCompactClaims(Claims claims) {
+        Integer roles = claims.get(COMPACT_ROLES, Integer.class);
+        String type = claims.get(COMPACT_TYPE, String.class);
+
+        return TokenClaims.builder()
+                .userId(decodeUserId(claims.get(COMPACT_USER_ID, String.class)))
+                .username(claims.getSubject())
+                .tokenType(COMPACT_ACCESS.equals(type) ? "access" : COMPACT_REFRESH.equals(type) ? "refresh" : type)
+                .roles(roles != null ? roles : 0)
+                .expiration(claims.getExpiration())
+                .build();
+    }
+
+    private TokenClaims fromLegacyClaims(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        if (userId == null) {
+            throw AuthenticationFailedException.invalidToken();
+        }
+
+        return TokenClaims.builder()
+                .userId(UUID.fromString(userId))
+                .username(claims.getSubject())
+                .tokenType(claims.get("tokenType", String.class))
+                .roles(Roles.of(
+                        Boolean.TRUE.equals(claims.get("isAdmin", Boolean.class)),
+                        Boolean.TRUE.equals(claims.get("isCoach", Boolean.class)),
+                        Boolean.TRUE.equals(claims.get("isLifter", Boolean.class))))
+                .expiration(claims.getExpiration())
+                .build();
+    }
+
+    // 16 raw bytes as unpadded base64url: 22 characters instead of a 36 character UUID string
+    private static String encodeUserId(UUID userId) {
+        ByteBuffer bytes = ByteBuffer.allocate(16)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    private static UUID decodeUserId(String encoded) {
+        if (encoded == null) {
+            throw new IllegalArgumentException("Missing user id");
+        }
+        byte[] bytes = Base64.getUrlDecoder().decode(encoded);
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("Invalid user id length");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
     /**
      * Validates JWT token - throws exceptions on any issues
      * @param token JWT token to validate
@@ -70,13 +185,7 @@ public class JwtUtil {
      */
     public void validateToken(String token) {
         try {
-            Claims claims = getClaimsFromToken(token);
-
-            // Validate issuer
-            if (!issuer.equals(claims.getIssuer())) {
-                throw AuthenticationFailedException.invalidToken();
-            }
-
+            getClaimsFromToken(token);
         } catch (ExpiredJwtException e) {
             throw AuthenticationFailedException.expiredToken();
         } catch (MalformedJwtException e) {
@@ -88,62 +197,46 @@ public class JwtUtil {
 
     public boolean isAccessToken(String token) {
         try {
-            Claims claims = getClaimsFromToken(token);
-            return "access".equals(claims.get("tokenType", String.class));
-        } catch (JwtException e) {
+            return parseToken(token).isAccessToken();
+        } catch (AuthenticationFailedException e) {
             return false;
         }
     }
 
     public boolean isRefreshToken(String token) {
         try {
-            Claims claims = getClaimsFromToken(token);
-            return "refresh".equals(claims.get("tokenType", String.class));
-        } catch (JwtException e) {
+            return parseToken(token).isRefreshToken();
+        } catch (AuthenticationFailedException e) {
             return false;
         }
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.getSubject();
+        return parseToken(token).getUsername();
     }
 
     public UUID getUserIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return UUID.fromString(claims.get("userId", String.class));
+        return parseToken(token).getUserId();
     }
 
     public boolean isAdminFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return Boolean.TRUE.equals(claims.get("isAdmin", Boolean.class));
+        return parseToken(token).isAdmin();
     }
 
     public boolean isCoachFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return Boolean.TRUE.equals(claims.get("isCoach", Boolean.class));
+        return parseToken(token).isCoach();
     }
 
     public boolean isLifterFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return Boolean.TRUE.equals(claims.get("isLifter", Boolean.class));
+        return parseToken(token).isLifter();
     }
 
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.getExpiration();
+        return parseToken(token).getExpiration();
     }
 
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     public Long getAccessTokenExpirationTime() {
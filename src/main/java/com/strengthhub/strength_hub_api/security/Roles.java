@@ -0,0 +1,52 @@
+package com.strengthhub.strength_hub_api.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Role bitmask carried in compact access tokens and held by {@link TokenClaims}.
+ * Authority lists for every combination are built once, so principals share them instead of
+ * allocating a list per request.
+ */
+public final class Roles {
+
+    public static final int ADMIN = 1;
+    public static final int COACH = 1 << 1;
+    public static final int LIFTER = 1 << 2;
+
+    private static final int ALL = ADMIN | COACH | LIFTER;
+    private static final List<List<GrantedAuthority>> AUTHORITIES = buildAuthorityTable();
+
+    private Roles() {
+    }
+
+    public static int of(boolean admin, boolean coach, boolean lifter) {
+        return (admin ? ADMIN : 0) | (coach ? COACH : 0) | (lifter ? LIFTER : 0);
+    }
+
+    public static boolean has(int roles, int role) {
+        return (roles & role) != 0;
+    }
+
+    /**
+     * @return the shared, immutable authority list for the given mask; unknown bits are ignored
+     */
+    public static List<GrantedAuthority> authorities(int roles) {
+        return AUTHORITIES.get(roles & ALL);
+    }
+
+    private static List<List<GrantedAuthority>> buildAuthorityTable() {
+        List<List<GrantedAuthority>> table = new ArrayList<>(ALL + 1);
+        for (int mask = 0; mask <= ALL; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>(3);
+            if (has(mask, ADMIN)) authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+            if (has(mask, COACH)) authorities.add(new SimpleGrantedAuthority("ROLE_COACH"));
+            if (has(mask, LIFTER)) authorities.add(new SimpleGrantedAuthority("ROLE_LIFTER"));
+            table.add(List.copyOf(authorities));
+        }
+        return List.copyOf(table);
+    }
+}
@@ -13,9 +13,9 @@ import java.util.UUID;
 public class SecurityUtils {
 
     public static UserPrincipal getCurrentUserPrincipal() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
-            return (UserPrincipal) authentication.getPrincipal();
+        UserPrincipal principal = findCurrentUserPrincipal();
+        if (principal != null) {
+            return principal;
         }
         throw new ForbiddenAccessException("No authenticated user found");
     }
@@ -29,39 +29,20 @@ public class SecurityUtils {
     }
 
     public static boolean isCurrentUserAdmin() {
-        try {
-            return getCurrentUserPrincipal().getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
-        } catch (ForbiddenAccessException e) {
-            return false;
-        }
+        return Roles.has(getCurrentUserRoles(), Roles.ADMIN);
     }
 
     public static boolean isCurrentUserCoach() {
-        try {
-            return getCurrentUserPrincipal().getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_COACH"));
-        } catch (ForbiddenAccessException e) {
-            return false;
-        }
+        return Roles.has(getCurrentUserRoles(), Roles.COACH);
     }
 
     public static boolean isCurrentUserLifter() {
-        try {
-            return getCurrentUserPrincipal().getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_LIFTER"));
-        } catch (ForbiddenAccessException e) {
-            return false;
-        }
+        return Roles.has(getCurrentUserRoles(), Roles.LIFTER);
     }
 
     public static boolean isCurrentUserOrAdmin(UUID userId) {
-        try {
-            UserPrincipal principal = getCurrentUserPrincipal();
-            return isCurrentUserAdmin() || principal.getUserId().equals(userId);
-        } catch (ForbiddenAccessException e) {
-            return false;
-        }
+        UserPrincipal principal = findCurrentUserPrincipal();
+        return principal != null && (principal.isAdmin() || principal.getUserId().equals(userId));
     }
 
     public static void requireAdmin() {
@@ -71,13 +52,13 @@ public class SecurityUtils {
     }
 
     public static void requireCoach() {
-        if (!isCurrentUserCoach() && !isCurrentUserAdmin()) {
+        if (!Roles.has(getCurrentUserRoles(), Roles.COACH | Roles.ADMIN)) {
             throw new ForbiddenAccessException("Coach privileges required");
         }
     }
 
     public static void requireLifter() {
-        if (!isCurrentUserLifter() && !isCurrentUserAdmin()) {
+        if (!Roles.has(getCurrentUserRoles(), Roles.LIFTER | Roles.ADMIN)) {
             throw new ForbiddenAccessException("Lifter privileges required");
         }
     }
@@ -87,4 +68,18 @@ public class SecurityUtils {
             throw new ForbiddenAccessException("Access denied: can only access own data");
         }
     }
-}
\ No newline at end of file
+
+    private static UserPrincipal findCurrentUserPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    // Roles bitmask of the current user, or 0 when unauthenticated
+    private static int getCurrentUserRoles() {
+        UserPrincipal principal = findCurrentUserPrincipal();
+        return principal != null ? principal.getRoles() : 0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.strengthhub.strength_hub_api.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature, expiry and issuer have already been verified.
+ * Produced once per request by {@link JwtUtil#parseToken(String)} so the filter and
+ * {@link SecurityUtils} never have to re-parse the raw token.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class TokenClaims {
+
+    private final UUID userId;
+    private final String username;
+    private final String tokenType;
+    // Bitmask of Roles.ADMIN / COACH / LIFTER
+    private final int roles;
+    private final Date expiration;
+
+    public boolean isAdmin() {
+        return Roles.has(roles, Roles.ADMIN);
+    }
+
+    public boolean isCoach() {
+        return Roles.has(roles, Roles.COACH);
+    }
+
+    public boolean isLifter() {
+        return Roles.has(roles, Roles.LIFTER);
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+}
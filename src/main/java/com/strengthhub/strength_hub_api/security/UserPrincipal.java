@@ -12,12 +12,37 @@ public class UserPrincipal implements UserDetails {
     @Getter
     private final UUID userId;
     private final String username;
+    // Immutable Roles bitmask; authorization checks read this instead of scanning authorities
+    @Getter
+    private final int roles;
     private final Collection<? extends GrantedAuthority> authorities;
 
-    public UserPrincipal(UUID userId, String username, Collection<? extends GrantedAuthority> authorities) {
-        this.userId = userId;
-        this.username = username;
-        this.authorities = authorities;
+    @Getter
+    private final TokenClaims claims;
+
+    public UserPrincipal(TokenClaims claims) {
+        this.userId = claims.getUserId();
+        this.username = claims.getUsername();
+        this.roles = claims.getRoles();
+        this.authorities = Roles.authorities(roles);
+        this.claims = claims;
+    }
+
+    public boolean isAdmin() {
+        return Roles.has(roles, Roles.ADMIN);
+    }
+
+    public boolean isCoach() {
+        return Roles.has(roles, Roles.COACH);
+    }
+
+    public boolean isLifter() {
+        return Roles.has(roles, Roles.LIFTER);
+    }
+
+    // Used by @PreAuthorize expressions, e.g. "principal.adminOrCoach"
+    public boolean isAdminOrCoach() {
+        return Roles.has(roles, Roles.ADMIN | Roles.COACH);
     }
 
     @Override
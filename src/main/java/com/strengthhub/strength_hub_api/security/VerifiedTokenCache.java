@@ -0,0 +1,180 @@
+package com.strengthhub.strength_hub_api.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of already-verified access tokens, keyed by the SHA-256 digest of the raw token.
+ * Repeat requests with the same token skip signature verification and claim parsing entirely.
+ * Entries expire at the token's {@code exp} claim; each stripe evicts its least recently used
+ * entry once it is full.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final Stripe[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongSupplier clock;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${app.jwt.token-cache.max-size:10000}") int maxSize,
+                              @Value("${app.jwt.token-cache.stripes:16}") int stripeCount) {
+        this(maxSize, stripeCount, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int maxSize, int stripeCount, LongSupplier clock) {
+        if (maxSize < 1 || stripeCount < 1) {
+            throw new IllegalArgumentException("Token cache size and stripe count must be positive");
+        }
+        int perStripe = Math.max(1, maxSize / stripeCount);
+        this.clock = clock;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        log.info("Verified token cache initialised: {} stripes x {} entries", stripeCount, perStripe);
+    }
+
+    /**
+     * @return the cached principal, or {@code null} if the token is unknown or its {@code exp} has passed
+     */
+    public UserPrincipal get(String token) {
+        TokenDigest key = digest(token);
+        UserPrincipal principal = stripeFor(key).get(key, clock.getAsLong());
+        if (principal != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return principal;
+    }
+
+    public void put(String token, UserPrincipal principal) {
+        if (principal.getClaims().getExpiration() == null) {
+            return;
+        }
+        long expiresAt = principal.getClaims().getExpiration().getTime();
+        if (expiresAt <= clock.getAsLong()) {
+            return;
+        }
+        TokenDigest key = digest(token);
+        stripeFor(key).put(key, new Entry(principal, expiresAt));
+    }
+
+    public void invalidateAll() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(TokenDigest key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    private static TokenDigest digest(String token) {
+        ByteBuffer hash = ByteBuffer.wrap(TokenHasher.sha256(token));
+        return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    private record TokenDigest(long a, long b, long c, long d) {
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAtMillis) {
+    }
+
+    private final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<TokenDigest, Entry> entries;
+
+        Stripe(int capacity) {
+            // accessOrder = true gives LRU iteration order
+            this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<TokenDigest, Entry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        UserPrincipal get(TokenDigest key, long now) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.expiresAtMillis() <= now) {
+                    entries.remove(key);
+                    return null;
+                }
+                return entry.principal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(TokenDigest key, Entry entry) {
+            lock.lock();
+            try {
+                entries.put(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
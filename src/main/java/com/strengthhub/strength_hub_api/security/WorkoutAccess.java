@@ -0,0 +1,117 @@
+package com.strengthhub.strength_hub_api.security;
+
+import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionBatchItem;
+import com.strengthhub.strength_hub_api.repository.workout.LifterProgressRepository;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Ownership checks for the workout endpoints, used from {@code @PreAuthorize}, e.g.
+ * {@code "@workoutAccess.canViewSet(principal, #setId)"}.
+ * <p>
+ * Admins may do anything. The plan's coach may view and edit it; the assigned lifter may view it and log sets.
+ * A lifter's progress snapshot is visible to the lifter and to the coach of the plan it was built from.
+ * Owners come from {@link WorkoutPlanGuard}, which resolves any id in the hierarchy with one join query and
+ * caches the answer, so a warm check adds no query to the request. Unknown ids are let through so the service
+ * still answers 404 instead of 403.
+ */
+@Component("workoutAccess")
+@RequiredArgsConstructor
+public class WorkoutAccess {
+
+    private final WorkoutPlanGuard workoutPlanGuard;
+    private final LifterProgressRepository lifterProgressRepository;
+
+    public boolean canViewPlan(UserPrincipal principal, UUID planId) {
+        return canView(principal, workoutPlanGuard.findPlan(planId));
+    }
+
+    public boolean canEditPlan(UserPrincipal principal, UUID planId) {
+        return canEdit(principal, workoutPlanGuard.findPlan(planId));
+    }
+
+    public boolean canViewWeek(UserPrincipal principal, UUID weekId) {
+        return canView(principal, workoutPlanGuard.findWeek(weekId));
+    }
+
+    public boolean canEditWeek(UserPrincipal principal, UUID weekId) {
+        return canEdit(principal, workoutPlanGuard.findWeek(weekId));
+    }
+
+    public boolean canViewDay(UserPrincipal principal, UUID dayId) {
+        return canView(principal, workoutPlanGuard.findDay(dayId));
+    }
+
+    public boolean canEditDay(UserPrincipal principal, UUID dayId) {
+        return canEdit(principal, workoutPlanGuard.findDay(dayId));
+    }
+
+    public boolean canViewExercise(UserPrincipal principal, UUID exerciseId) {
+        return canView(principal, workoutPlanGuard.findExercise(exerciseId));
+    }
+
+    public boolean canEditExercise(UserPrincipal principal, UUID exerciseId) {
+        return canEdit(principal, workoutPlanGuard.findExercise(exerciseId));
+    }
+
+    public boolean canViewSet(UserPrincipal principal, UUID setId) {
+        return canView(principal, workoutPlanGuard.findSet(setId));
+    }
+
+    public boolean canEditSet(UserPrincipal principal, UUID setId) {
+        return canEdit(principal, workoutPlanGuard.findSet(setId));
+    }
+
+    // Completing a set is the lifter's job, so it needs view access rather than edit access
+    public boolean canLogSet(UserPrincipal principal, UUID setId) {
+        return canViewSet(principal, setId);
+    }
+
+    // A whole batch is resolved with at most one query; unknown sets are left for the service to report
+    public boolean canLogSets(UserPrincipal principal, List<SetCompletionBatchItem> items) {
+        if (items == null || principal.isAdmin()) {
+            return true;
+        }
+        Set<UUID> setIds = items.stream()
+                .map(SetCompletionBatchItem::getSetId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return workoutPlanGuard.findSets(setIds).values().stream()
+                .allMatch(scope -> canView(principal, Optional.of(scope)));
+    }
+
+    // Lifter ids are the owning user's id, so lifters can always read their own snapshot
+    public boolean canViewLifterProgress(UserPrincipal principal, UUID lifterId) {
+        if (principal.isAdmin() || principal.getUserId().equals(lifterId)) {
+            return true;
+        }
+        return lifterProgressRepository.findPlanIdByLifterId(lifterId)
+                .map(planId -> workoutPlanGuard.findPlan(planId)
+                        .map(scope -> isCoach(principal, scope))
+                        .orElse(false))
+                .orElse(true);
+    }
+
+    private boolean canView(UserPrincipal principal, Optional<PlanScope> scope) {
+        return principal.isAdmin() || scope.map(resolved -> isCoach(principal, resolved)
+                || principal.getUserId().equals(resolved.lifterId())).orElse(true);
+    }
+
+    private boolean canEdit(UserPrincipal principal, Optional<PlanScope> scope) {
+        return principal.isAdmin() || scope.map(resolved -> isCoach(principal, resolved)).orElse(true);
+    }
+
+    // Coach and lifter ids are the owning user's id
+    private boolean isCoach(UserPrincipal principal, PlanScope scope) {
+        return principal.getUserId().equals(scope.coachId());
+    }
+}
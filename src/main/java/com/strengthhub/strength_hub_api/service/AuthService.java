@@ -10,6 +10,7 @@ import com.strengthhub.strength_hub_api.model.User;
 import com.strengthhub.strength_hub_api.repository.RefreshTokenRepository;
 import com.strengthhub.strength_hub_api.repository.UserRepository;
 import com.strengthhub.strength_hub_api.security.JwtUtil;
+import com.strengthhub.strength_hub_api.security.TokenHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +18,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -38,8 +40,13 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final TransactionOperations transactionOperations;
 
-    @Transactional
+    /**
+     * Not transactional as a whole: BCrypt runs with no connection held, since it can wait on the bounded
+     * encoder pool. The user is read in the repository's own read-only transaction, and only a verified
+     * login opens a short write transaction for the rehash and the refresh token insert.
+     */
     public JwtAuthenticationResponse login(LoginRequest request) {
         log.info("Login attempt for: {}", request.getUsernameOrEmail());
 
@@ -52,12 +59,25 @@ public class AuthService {
             throw new BadCredentialsException("Invalid username/email or password");
         }
 
+        // Rehash when the stored cost no longer matches the calibrated one
+        boolean rehashed = passwordEncoder.upgradeEncoding(user.getPasswordHash());
+        if (rehashed) {
+            user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        }
+
         // Generate new tokens with token limit enforcement
         String accessToken = jwtUtil.generateAccessToken(user);
         String refreshToken = jwtUtil.generateRefreshToken(user);
 
-        // Save refresh token with limit enforcement
-        saveRefreshTokenWithLimit(user, refreshToken);
+        transactionOperations.executeWithoutResult(status -> {
+            if (rehashed) {
+                userRepository.save(user);
+                log.info("Rehashed password for user {} with current work factor", user.getUsername());
+            }
+
+            // Save refresh token with limit enforcement
+            saveRefreshTokenWithLimit(user, refreshToken);
+        });
 
         // Build roles set for response
         Set<com.strengthhub.strength_hub_api.enums.UserType> roles = buildUserRoles(user);
@@ -86,7 +106,7 @@ public class AuthService {
         String requestRefreshToken = request.getRefreshToken();
 
         // Validate refresh token
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(requestRefreshToken)
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(TokenHasher.sha256(requestRefreshToken))
                 .orElseThrow(() -> new TokenRefreshException("Refresh token not found"));
 
         if (!refreshToken.isValid()) {
@@ -122,11 +142,12 @@ public class AuthService {
         }
 
         // Find and revoke the specific refresh token
-        RefreshToken token = refreshTokenRepository.findByToken(refreshToken)
+        byte[] tokenHash = TokenHasher.sha256(refreshToken);
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash)
                 .orElseThrow(() -> new TokenRefreshException("Refresh token not found"));
 
         // Mark this specific token as revoked
-        refreshTokenRepository.revokeTokenByValue(refreshToken);
+        refreshTokenRepository.revokeTokenByHash(tokenHash);
 
         log.info("User {} logged out successfully from device", token.getUser().getUsername());
     }
@@ -141,12 +162,6 @@ public class AuthService {
         log.info("User {} logged out from all devices", userId);
     }
 
-    @Transactional
-    public void cleanupExpiredTokens() {
-        log.info("Cleaning up expired and revoked refresh tokens");
-        refreshTokenRepository.deleteExpiredAndRevokedTokens(LocalDateTime.now());
-    }
-
     private User findUserByUsernameOrEmail(String usernameOrEmail) {
         // Check if it looks like an email
         if (usernameOrEmail.contains("@")) {
@@ -161,27 +176,20 @@ public class AuthService {
     @Transactional
     private void saveRefreshTokenWithLimit(User user, String tokenValue) {
         // Calculate expiration time (sliding window starts from now)
-        LocalDateTime expirationTime = LocalDateTime.now().plusDays(slidingRefreshDays);
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .token(tokenValue)
-                .user(user)
-                .expiresAt(expirationTime)
-                .isRevoked(false)
-                .build();
-
-        long userTokenCount = getActiveTokenCountForUser(user.getUserId());
-        if(userTokenCount > maxRefreshTokensPerUser) {
-            refreshTokenRepository.deleteOldestTokenForUser(user.getUserId());
-        }
-
-        refreshTokenRepository.save(refreshToken);
-        log.debug("Refresh token saved for user: {} (expires: {})", user.getUsername(), expirationTime);
-    }
-
-    @Transactional(readOnly = true)
-    private long getActiveTokenCountForUser(UUID userId) {
-        return refreshTokenRepository.countActiveTokensByUserId(userId, LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expirationTime = now.plusDays(slidingRefreshDays);
+
+        // Insert and evict the oldest surplus tokens in one statement, so there is no
+        // count-then-delete race and login costs a single write round trip
+        int evicted = refreshTokenRepository.insertTokenAndTrimToLimit(
+                UUID.randomUUID(),
+                TokenHasher.sha256(tokenValue),
+                user.getUserId(),
+                expirationTime,
+                now,
+                Math.max(0, maxRefreshTokensPerUser - 1));
+
+        log.debug("Refresh token saved for user: {} (expires: {}, evicted: {})", user.getUsername(), expirationTime, evicted);
     }
 
     private Set<com.strengthhub.strength_hub_api.enums.UserType> buildUserRoles(User user) {
@@ -0,0 +1,57 @@
+package com.strengthhub.strength_hub_api.service;
+
+import com.strengthhub.strength_hub_api.model.Coach;
+import com.strengthhub.strength_hub_api.repository.CoachRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the denormalized lifter_count on coaches. Every change runs as an atomic
+ * {@code lifter_count = lifter_count + delta} update inside the caller's transaction, so concurrent
+ * assignments never overwrite each other's increments.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CoachLifterCountService {
+
+    private final CoachRepository coachRepository;
+
+    // Account for a lifter moving from one coach to another; either side may be null
+    @Transactional
+    public void lifterMoved(Coach from, Coach to) {
+        if (from != null && to != null && from.getCoachId().equals(to.getCoachId())) {
+            return;
+        }
+        if (from != null) {
+            coachRepository.adjustLifterCount(from.getCoachId(), -1);
+        }
+        if (to != null) {
+            coachRepository.adjustLifterCount(to.getCoachId(), 1);
+        }
+    }
+
+    // Recount every coach's lifters once a day at 3:45 AM and report any drift
+    @Scheduled(cron = "0 45 3 * * ?")
+    public void scheduledRepair() {
+        log.info("Starting coach lifter count repair");
+        int drifted = repairLifterCounts();
+        if (drifted > 0) {
+            log.warn("Lifter counts had drifted on {} coaches and were repaired", drifted);
+        } else {
+            log.info("Coach lifter counts are consistent");
+        }
+    }
+
+    /**
+     * Recounts every coach's lifters from the lifter table. Only coaches whose stored count disagrees
+     * are rewritten, so the result is the number of coaches that had drifted.
+     */
+    @Transactional
+    public int repairLifterCounts() {
+        return coachRepository.repairLifterCounts();
+    }
+}
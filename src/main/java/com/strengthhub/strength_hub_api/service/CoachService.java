@@ -2,6 +2,7 @@ package com.strengthhub.strength_hub_api.service;
 
 import com.strengthhub.strength_hub_api.dto.request.coach.CoachRegistrationRequest;
 import com.strengthhub.strength_hub_api.dto.request.coach.CoachUpdateRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachDetailResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachSummaryResponse;
@@ -16,6 +17,7 @@ import com.strengthhub.strength_hub_api.model.Coach;
 import com.strengthhub.strength_hub_api.model.Lifter;
 import com.strengthhub.strength_hub_api.model.User;
 import com.strengthhub.strength_hub_api.repository.CoachRepository;
+import com.strengthhub.strength_hub_api.repository.CoachRepository.CoachListView;
 import com.strengthhub.strength_hub_api.repository.LifterRepository;
 import com.strengthhub.strength_hub_api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +38,7 @@ public class CoachService {
     private final UserRepository userRepository;
     private final LifterRepository lifterRepository;
     private final CoachCodeService coachCodeService;
+    private final CoachLifterCountService coachLifterCountService;
 
     @Transactional
     public CoachResponse createCoach(UUID userId, CoachRegistrationRequest request) {
@@ -82,13 +85,16 @@ public class CoachService {
     }
 
     @Transactional(readOnly = true)
-    public List<CoachResponse> getAllCoaches() {
-        log.info("Fetching all coaches");
+    public CursorPageResponse<CoachResponse> getAllCoaches(int limit, String after) {
+        log.info("Fetching up to {} coaches after cursor {}", limit, after);
 
-        return coachRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        PageCursor cursor = PageCursor.decode(after);
+        List<CoachListView> coaches = cursor == null
+                ? coachRepository.findFirstPage(PageCursor.fetchLimit(limit))
+                : coachRepository.findPageAfter(cursor.createdAt(), cursor.id(), PageCursor.fetchLimit(limit));
+
+        return PageCursor.page(coaches, limit,
+                coach -> new PageCursor(coach.getCreatedAt(), coach.getCoachId()), this::mapToListResponse);
     }
 
     @Transactional
@@ -130,13 +136,19 @@ public class CoachService {
     public List<LifterSummaryResponse> getCoachLifters(UUID coachId) {
         log.info("Fetching lifters for coach with id: {}", coachId);
 
-        Coach coach = coachRepository.findById(coachId)
-                .orElseThrow(() -> new CoachNotFoundException(coachId));
+        if (!coachRepository.existsById(coachId)) {
+            throw new CoachNotFoundException(coachId);
+        }
 
-        return coach.getLifters()
+        return lifterRepository.findSummariesByCoachId(coachId)
                 .stream()
-                .map(this::mapToLifterSummaryResponse)
-                .collect(Collectors.toList());
+                .map(lifter -> LifterSummaryResponse.builder()
+                        .lifterId(lifter.getLifterId())
+                        .firstName(lifter.getFirstName())
+                        .lastName(lifter.getLastName())
+                        .username(lifter.getUsername())
+                        .build())
+                .toList();
     }
 
     @Transactional
@@ -149,6 +161,8 @@ public class CoachService {
         Lifter lifter = lifterRepository.findById(lifterId)
                 .orElseThrow(() -> new LifterNotFoundException(lifterId));
 
+        Coach previousCoach = lifter.getCoach();
+
         // Remove lifter from current coach if they have one
         if (lifter.hasCoach()) {
             lifter.getCoach().removeLifter(lifter);
@@ -158,6 +172,7 @@ public class CoachService {
         coach.addLifter(lifter);
 
         coachRepository.save(coach);
+        coachLifterCountService.lifterMoved(previousCoach, coach);
         log.info("Lifter {} assigned to coach {}", lifterId, coachId);
     }
 
@@ -177,6 +192,7 @@ public class CoachService {
 
         coach.removeLifter(lifter);
         coachRepository.save(coach);
+        coachLifterCountService.lifterMoved(coach, null);
         log.info("Lifter {} removed from coach {}", lifterId, coachId);
     }
 
@@ -195,6 +211,20 @@ public class CoachService {
                 .build();
     }
 
+    private CoachResponse mapToListResponse(CoachListView coach) {
+        return CoachResponse.builder()
+                .coachId(coach.getCoachId())
+                .username(coach.getUsername())
+                .email(coach.getEmail())
+                .firstName(coach.getFirstName())
+                .lastName(coach.getLastName())
+                .createdAt(coach.getCreatedAt())
+                .bio(coach.getBio())
+                .certifications(coach.getCertifications())
+                .lifterCount(coach.getLifterCount())
+                .build();
+    }
+
     private CoachDetailResponse mapToDetailResponse(Coach coach) {
         User user = coach.getApp_user();
         List<LifterSummaryResponse> lifters = coach.getLifters()
@@ -2,6 +2,7 @@ package com.strengthhub.strength_hub_api.service;
 
 import com.strengthhub.strength_hub_api.dto.request.connection.ConnectionRequestCreateRequest;
 import com.strengthhub.strength_hub_api.dto.request.connection.ConnectionRequestResponseRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.connection.ConnectionRequestResponse;
 import com.strengthhub.strength_hub_api.enums.ConnectionRequestStatus;
 import com.strengthhub.strength_hub_api.enums.ConnectionRequestType;
@@ -21,7 +22,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -131,33 +131,43 @@ public class ConnectionRequestService {
     }
 
     @Transactional(readOnly = true)
-    public List<ConnectionRequestResponse> getSentRequests(UUID userId) {
+    public CursorPageResponse<ConnectionRequestResponse> getSentRequests(UUID userId, int limit, String after) {
         log.info("Fetching sent requests for user {}", userId);
 
-        return connectionRequestRepository.findBySender_UserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        PageCursor cursor = PageCursor.decode(after);
+        List<ConnectionRequest> requests = cursor == null
+                ? connectionRequestRepository.findFirstSentPage(userId, PageCursor.fetchLimit(limit))
+                : connectionRequestRepository.findSentPageAfter(userId, cursor.createdAt(), cursor.id(),
+                        PageCursor.fetchLimit(limit));
+
+        return toPage(requests, limit);
     }
 
     @Transactional(readOnly = true)
-    public List<ConnectionRequestResponse> getReceivedRequests(UUID userId) {
+    public CursorPageResponse<ConnectionRequestResponse> getReceivedRequests(UUID userId, int limit, String after) {
         log.info("Fetching received requests for user {}", userId);
 
-        return connectionRequestRepository.findByReceiver_UserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        PageCursor cursor = PageCursor.decode(after);
+        List<ConnectionRequest> requests = cursor == null
+                ? connectionRequestRepository.findFirstReceivedPage(userId, PageCursor.fetchLimit(limit))
+                : connectionRequestRepository.findReceivedPageAfter(userId, cursor.createdAt(), cursor.id(),
+                        PageCursor.fetchLimit(limit));
+
+        return toPage(requests, limit);
     }
 
     @Transactional(readOnly = true)
-    public List<ConnectionRequestResponse> getPendingReceivedRequests(UUID userId) {
+    public CursorPageResponse<ConnectionRequestResponse> getPendingReceivedRequests(UUID userId, int limit, String after) {
         log.info("Fetching pending received requests for user {}", userId);
 
-        return connectionRequestRepository.findByReceiver_UserIdAndStatusOrderByCreatedAtDesc(userId, ConnectionRequestStatus.PENDING)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        PageCursor cursor = PageCursor.decode(after);
+        List<ConnectionRequest> requests = cursor == null
+                ? connectionRequestRepository.findFirstReceivedPageByStatus(userId, ConnectionRequestStatus.PENDING,
+                        PageCursor.fetchLimit(limit))
+                : connectionRequestRepository.findReceivedPageByStatusAfter(userId, ConnectionRequestStatus.PENDING,
+                        cursor.createdAt(), cursor.id(), PageCursor.fetchLimit(limit));
+
+        return toPage(requests, limit);
     }
 
     @Transactional(readOnly = true)
@@ -221,6 +231,11 @@ public class ConnectionRequestService {
         }
     }
 
+    private CursorPageResponse<ConnectionRequestResponse> toPage(List<ConnectionRequest> requests, int limit) {
+        return PageCursor.page(requests, limit,
+                request -> new PageCursor(request.getCreatedAt(), request.getRequestId()), this::mapToResponse);
+    }
+
     private ConnectionRequestResponse mapToResponse(ConnectionRequest request) {
         User sender = request.getSender();
         User receiver = request.getReceiver();
@@ -1,5 +1,6 @@
 package com.strengthhub.strength_hub_api.service;
 
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachSummaryResponse;
 import com.strengthhub.strength_hub_api.dto.response.lifter.LifterResponse;
 import com.strengthhub.strength_hub_api.exception.coach.CoachNotFoundException;
@@ -9,6 +10,7 @@ import com.strengthhub.strength_hub_api.model.Lifter;
 import com.strengthhub.strength_hub_api.model.User;
 import com.strengthhub.strength_hub_api.repository.CoachRepository;
 import com.strengthhub.strength_hub_api.repository.LifterRepository;
+import com.strengthhub.strength_hub_api.repository.LifterRepository.LifterListView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +27,7 @@ public class LifterService {
     private final LifterRepository lifterRepository;
     private final CoachRepository coachRepository;
     private final CoachService coachService;
+    private final CoachLifterCountService coachLifterCountService;
 
     @Transactional(readOnly = true)
     public LifterResponse getLifterById(UUID lifterId) {
@@ -38,13 +40,16 @@ public class LifterService {
     }
 
     @Transactional(readOnly = true)
-    public List<LifterResponse> getAllLifters() {
-        log.info("Fetching all lifters");
+    public CursorPageResponse<LifterResponse> getAllLifters(int limit, String after) {
+        log.info("Fetching up to {} lifters after cursor {}", limit, after);
 
-        return lifterRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        PageCursor cursor = PageCursor.decode(after);
+        List<LifterListView> lifters = cursor == null
+                ? lifterRepository.findFirstPage(PageCursor.fetchLimit(limit))
+                : lifterRepository.findPageAfter(cursor.createdAt(), cursor.id(), PageCursor.fetchLimit(limit));
+
+        return PageCursor.page(lifters, limit,
+                lifter -> new PageCursor(lifter.getCreatedAt(), lifter.getLifterId()), this::mapToListResponse);
     }
 
     @Transactional
@@ -56,6 +61,7 @@ public class LifterService {
 
         // Remove lifter from coach's list if they have a coach
         if (lifter.hasCoach()) {
+            coachLifterCountService.lifterMoved(lifter.getCoach(), null);
             lifter.getCoach().removeLifter(lifter);
         }
 
@@ -73,6 +79,8 @@ public class LifterService {
         Coach coach = coachRepository.findById(coachId)
                 .orElseThrow(() -> new CoachNotFoundException(coachId));
 
+        Coach previousCoach = lifter.getCoach();
+
         // Remove lifter from current coach if they have one
         if (lifter.hasCoach()) {
             lifter.getCoach().removeLifter(lifter);
@@ -82,6 +90,7 @@ public class LifterService {
         coach.addLifter(lifter);
 
         lifterRepository.save(lifter);
+        coachLifterCountService.lifterMoved(previousCoach, coach);
         log.info("Coach {} assigned to lifter {}", coachId, lifterId);
 
         return mapToResponse(lifter);
@@ -95,6 +104,7 @@ public class LifterService {
                 .orElseThrow(() -> new LifterNotFoundException(lifterId));
 
         if (lifter.hasCoach()) {
+            coachLifterCountService.lifterMoved(lifter.getCoach(), null);
             lifter.getCoach().removeLifter(lifter);
             lifterRepository.save(lifter);
             log.info("Coach removed from lifter {}", lifterId);
@@ -109,24 +119,47 @@ public class LifterService {
     public List<LifterResponse> getLiftersWithoutCoach() {
         log.info("Fetching lifters without coach");
 
-        return lifterRepository.findAll()
+        return lifterRepository.findViewsWithoutCoach()
                 .stream()
-                .filter(lifter -> !lifter.hasCoach())
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+                .map(this::mapToListResponse)
+                .toList();
     }
 
     @Transactional(readOnly = true)
     public List<LifterResponse> getLiftersByCoach(UUID coachId) {
         log.info("Fetching lifters for coach with id: {}", coachId);
 
-        Coach coach = coachRepository.findById(coachId)
-                .orElseThrow(() -> new CoachNotFoundException(coachId));
+        if (!coachRepository.existsById(coachId)) {
+            throw new CoachNotFoundException(coachId);
+        }
 
-        return coach.getLifters()
+        return lifterRepository.findViewsByCoachId(coachId)
                 .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+                .map(this::mapToListResponse)
+                .toList();
+    }
+
+    private LifterResponse mapToListResponse(LifterListView lifter) {
+        CoachSummaryResponse coachSummary = null;
+
+        if (lifter.getCoachId() != null) {
+            coachSummary = CoachSummaryResponse.builder()
+                    .coachId(lifter.getCoachId())
+                    .firstName(lifter.getCoachFirstName())
+                    .lastName(lifter.getCoachLastName())
+                    .username(lifter.getCoachUsername())
+                    .build();
+        }
+
+        return LifterResponse.builder()
+                .lifterId(lifter.getLifterId())
+                .username(lifter.getUsername())
+                .email(lifter.getEmail())
+                .firstName(lifter.getFirstName())
+                .lastName(lifter.getLastName())
+                .createdAt(lifter.getCreatedAt())
+                .coach(coachSummary)
+                .build();
     }
 
     private LifterResponse mapToResponse(Lifter lifter) {
@@ -0,0 +1,70 @@
+package com.strengthhub.strength_hub_api.service;
+
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
+import com.strengthhub.strength_hub_api.exception.common.InvalidPageCursorException;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset cursor for the list endpoints: the (createdAt, id) of the last row on a page. Repositories seek
+ * past it on a (createdAt, id) index, so every page costs the same no matter how deep it is or how large the
+ * table grows. Clients see it as an opaque URL-safe token passed back verbatim as {@code ?after=}.
+ */
+public record PageCursor(LocalDateTime createdAt, UUID id) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes an {@code ?after=} value; null or blank means the first page.
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidPageCursorException(cursor);
+            }
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPageCursorException(cursor);
+        }
+    }
+
+    // One row more than the page so the last page is recognised without a count query
+    public static Limit fetchLimit(int limit) {
+        return Limit.of(limit + 1);
+    }
+
+    /**
+     * Turns a {@link #fetchLimit} result into a page, issuing a next cursor only when the extra row came back.
+     */
+    public static <E, R> CursorPageResponse<R> page(List<E> rows, int limit,
+                                                    Function<E, PageCursor> keyOf, Function<E, R> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        return CursorPageResponse.<R>builder()
+                .items(pageRows.stream().map(mapper).toList())
+                .nextCursor(hasMore ? keyOf.apply(pageRows.get(limit - 1)).encode() : null)
+                .build();
+    }
+}
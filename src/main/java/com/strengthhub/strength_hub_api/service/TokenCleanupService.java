@@ -1,29 +1,148 @@
 package com.strengthhub.strength_hub_api.service;
 
+import com.strengthhub.strength_hub_api.repository.RefreshTokenRepository;
+import com.strengthhub.strength_hub_api.repository.RefreshTokenRepository.PurgeKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TokenCleanupService {
 
-    private final AuthService authService;
+    @Value("${app.token-cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.token-cleanup.pause-ms:100}")
+    private long pauseMs;
+
+    @Value("${app.token-cleanup.time-budget-ms:60000}")
+    private long timeBudgetMs;
+
+    private final RefreshTokenRepository refreshTokenRepository;
 
     // Clean up expired and revoked refresh tokens every day at 2 AM
     @Scheduled(cron = "0 0 2 * * ?")
     public void cleanupTokens() {
         log.info("Starting cleanup of expired and revoked refresh tokens");
-        authService.cleanupExpiredTokens();
-        log.info("Completed cleanup of expired and revoked refresh tokens");
+        PurgeReport report = purgeExpiredAndRevokedTokens();
+        log.info("Completed cleanup of expired and revoked refresh tokens: {}", report);
     }
 
     // Also run cleanup every 6 hours for more frequent cleanup
     @Scheduled(fixedRate = 21600000) // 6 hours in milliseconds
     public void periodicCleanup() {
         log.debug("Running periodic token cleanup");
-        authService.cleanupExpiredTokens();
+        PurgeReport report = purgeExpiredAndRevokedTokens();
+        log.debug("Periodic token cleanup finished: {}", report);
+    }
+
+    /**
+     * Deletes expired and revoked refresh tokens in bounded batches. Expired tokens are walked along
+     * the (expiresAt, tokenId) index with a keyset cursor; tokens revoked before they expired are
+     * purged in a second pass over the partial index on revoked rows. Each batch commits on its own
+     * and is followed by a short pause, so no single transaction holds many row locks or produces a
+     * large WAL burst. Both passes share one time budget; the next run picks up whatever is left.
+     */
+    public PurgeReport purgeExpiredAndRevokedTokens() {
+        long startNanos = System.nanoTime();
+        PurgeRun run = new PurgeRun(startNanos + TimeUnit.MILLISECONDS.toNanos(timeBudgetMs));
+        LocalDateTime now = LocalDateTime.now();
+        Limit limit = Limit.of(batchSize);
+
+        boolean completed = purgeExpired(run, now, limit) && purgeRevoked(run, limit);
+
+        return new PurgeReport(run.rowsRemoved, run.batches, Duration.ofNanos(System.nanoTime() - startNanos), completed);
+    }
+
+    private boolean purgeExpired(PurgeRun run, LocalDateTime now, Limit limit) {
+        PurgeKey cursor = null;
+        while (true) {
+            List<PurgeKey> batch = cursor == null
+                    ? refreshTokenRepository.findFirstExpiredBatch(now, limit)
+                    : refreshTokenRepository.findNextExpiredBatch(now, cursor.getExpiresAt(), cursor.getTokenId(), limit);
+            if (batch.isEmpty()) {
+                return true;
+            }
+            cursor = batch.get(batch.size() - 1);
+            if (!run.delete(batch.stream().map(PurgeKey::getTokenId).toList())) {
+                return batch.size() < batchSize;
+            }
+        }
+    }
+
+    private boolean purgeRevoked(PurgeRun run, Limit limit) {
+        UUID cursor = null;
+        while (true) {
+            List<UUID> batch = cursor == null
+                    ? refreshTokenRepository.findFirstRevokedBatch(limit)
+                    : refreshTokenRepository.findNextRevokedBatch(cursor, limit);
+            if (batch.isEmpty()) {
+                return true;
+            }
+            cursor = batch.get(batch.size() - 1);
+            if (!run.delete(batch)) {
+                return batch.size() < batchSize;
+            }
+        }
+    }
+
+    private boolean pauseBetweenBatches() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Token purge interrupted");
+            return false;
+        }
+    }
+
+    // Running totals and the shared deadline for one purge run across both passes
+    private final class PurgeRun {
+
+        private final long deadlineNanos;
+        private long rowsRemoved;
+        private int batches;
+
+        private PurgeRun(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Deletes one batch and decides whether to continue. Returns false once the batch was the
+         * last one, the time budget is spent or the pause was interrupted.
+         */
+        private boolean delete(List<UUID> tokenIds) {
+            rowsRemoved += refreshTokenRepository.deleteByTokenIds(tokenIds);
+            batches++;
+            if (tokenIds.size() < batchSize) {
+                return false;
+            }
+            if (System.nanoTime() >= deadlineNanos) {
+                log.warn("Token purge time budget of {} ms exhausted after {} batches", timeBudgetMs, batches);
+                return false;
+            }
+            return pauseBetweenBatches();
+        }
+    }
+
+    /**
+     * Outcome of one purge run; {@code completed} is false when the run stopped on its time budget.
+     */
+    public record PurgeReport(long rowsRemoved, int batches, Duration duration, boolean completed) {
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.strengthhub.strength_hub_api.service;
 import com.strengthhub.strength_hub_api.dto.request.coach.CoachRegistrationRequest;
 import com.strengthhub.strength_hub_api.dto.request.user.UserRegistrationRequest;
 import com.strengthhub.strength_hub_api.dto.request.user.UserUpdateRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.user.UserResponse;
 import com.strengthhub.strength_hub_api.enums.UserType;
 import com.strengthhub.strength_hub_api.exception.user.UserAlreadyExistsException;
@@ -10,18 +11,20 @@ import com.strengthhub.strength_hub_api.exception.user.UserNotFoundException;
 import com.strengthhub.strength_hub_api.model.User;
 import com.strengthhub.strength_hub_api.model.Lifter;
 import com.strengthhub.strength_hub_api.repository.UserRepository;
+import com.strengthhub.strength_hub_api.repository.UserRepository.UserSummaryView;
 import com.strengthhub.strength_hub_api.repository.LifterRepository;
+import com.strengthhub.strength_hub_api.service.workout.LifterProgressService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,8 +35,11 @@ public class UserService {
     private final LifterRepository lifterRepository;
     private final CoachService coachService;
     private final PasswordEncoder passwordEncoder;
+    private final LifterProgressService lifterProgressService;
+    private final CoachLifterCountService coachLifterCountService;
+    private final TransactionOperations transactionOperations;
 
-    @Transactional
+    // The password is hashed before the write transaction opens, so no connection is held while BCrypt runs
     public UserResponse registerUser(UserRegistrationRequest request) {
         log.info("Registering user with username: {}", request.getUsername());
 
@@ -57,24 +63,26 @@ public class UserService {
                 .isAdmin(false)
                 .build();
 
-        User savedUser = userRepository.save(user);
-
-        // Automatically create lifter profile (mandatory)
-        Lifter lifter = Lifter.builder()
-                .app_user(savedUser)
-                .build();
-        lifterRepository.save(lifter);
+        return transactionOperations.execute(status -> {
+            User savedUser = userRepository.save(user);
 
-        // Process coach code if provided
-        if (request.getCoachCode() != null) {
-            CoachRegistrationRequest req = CoachRegistrationRequest.builder()
-                    .coachCode(request.getCoachCode())
+            // Automatically create lifter profile (mandatory)
+            Lifter lifter = Lifter.builder()
+                    .app_user(savedUser)
                     .build();
-            coachService.createCoach(savedUser.getUserId(), req);
-        }
+            lifterRepository.save(lifter);
+
+            // Process coach code if provided
+            if (request.getCoachCode() != null) {
+                CoachRegistrationRequest req = CoachRegistrationRequest.builder()
+                        .coachCode(request.getCoachCode())
+                        .build();
+                coachService.createCoach(savedUser.getUserId(), req);
+            }
 
-        log.info("User registered with id: {}", savedUser.getUserId());
-        return mapToResponse(savedUser);
+            log.info("User registered with id: {}", savedUser.getUserId());
+            return mapToResponse(savedUser);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -88,13 +96,16 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public List<UserResponse> getAllUsers() {
-        log.info("Fetching all users");
+    public CursorPageResponse<UserResponse> getAllUsers(int limit, String after) {
+        log.info("Fetching up to {} users after cursor {}", limit, after);
+
+        PageCursor cursor = PageCursor.decode(after);
+        List<UserSummaryView> users = cursor == null
+                ? userRepository.findFirstPage(PageCursor.fetchLimit(limit))
+                : userRepository.findPageAfter(cursor.createdAt(), cursor.id(), PageCursor.fetchLimit(limit));
 
-        return userRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return PageCursor.page(users, limit,
+                user -> new PageCursor(user.getCreatedAt(), user.getUserId()), this::mapToSummaryResponse);
     }
 
     @Transactional
@@ -131,6 +142,10 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        if (updatedUser.isLifter() && (request.getUsername() != null
+                || request.getFirstName() != null || request.getLastName() != null)) {
+            lifterProgressService.updateLifterName(updatedUser);
+        }
         log.info("User updated with id: {}", updatedUser.getUserId());
 
         return mapToResponse(updatedUser);
@@ -144,6 +159,11 @@ public class UserService {
             throw new UserNotFoundException(String.valueOf(userId));
         }
 
+        // The lifter profile goes with the user, so its coach loses a lifter
+        lifterRepository.findById(userId)
+                .filter(Lifter::hasCoach)
+                .ifPresent(lifter -> coachLifterCountService.lifterMoved(lifter.getCoach(), null));
+
         userRepository.deleteById(userId);
         log.info("User deleted with id: {}", userId);
     }
@@ -163,6 +183,27 @@ public class UserService {
         return roles;
     }
 
+    private UserResponse mapToSummaryResponse(UserSummaryView user) {
+        Set<UserType> roles = new HashSet<>();
+        if (user.getLifterId() != null) {
+            roles.add(UserType.LIFTER);
+        }
+        if (user.getCoachId() != null) {
+            roles.add(UserType.COACH);
+        }
+
+        return UserResponse.builder()
+                .userId(user.getUserId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .isAdmin(user.getIsAdmin())
+                .createdAt(user.getCreatedAt())
+                .roles(roles)
+                .build();
+    }
+
     private UserResponse mapToResponse(User user) {
         Set<UserType> roles = getUserRoles(user);
 
@@ -9,14 +9,18 @@ import com.strengthhub.strength_hub_api.model.workout.Exercise;
 import com.strengthhub.strength_hub_api.model.workout.WorkoutSet;
 import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository;
 import com.strengthhub.strength_hub_api.repository.workout.ExerciseRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,35 +29,31 @@ public class ExerciseService {
 
     private final ExerciseRepository exerciseRepository;
     private final WorkoutDayRepository workoutDayRepository;
+    private final WorkoutPlanRepository workoutPlanRepository;
+    private final WorkoutPlanGuard workoutPlanGuard;
+    private final WorkoutCounterService workoutCounterService;
 
     @Transactional
     public ExerciseResponse createExercise(ExerciseRequest request) {
         log.info("Creating exercise {} for day {}", request.getName(), request.getDayId());
 
+        PlanScope scope = workoutPlanGuard.requireActiveDay(request.getDayId());
         WorkoutDay day = workoutDayRepository.findById(request.getDayId())
                 .orElseThrow(() -> new WorkoutDayNotFoundException(request.getDayId()));
 
-        if (!day.getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(day.getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
-        // Check if exercise order already exists in this day
-        if (exerciseRepository.existsByWorkoutDay_DayIdAndExerciseOrder(
-                request.getDayId(), request.getExerciseOrder())) {
-            throw new DuplicateWorkoutStructureException("Exercise", request.getExerciseOrder(), request.getDayId());
-        }
-
+        // The exercise order is the position to insert at; exercises from there on move down by one
         Exercise exercise = Exercise.builder()
                 .name(request.getName())
-                .exerciseOrder(request.getExerciseOrder())
+                .sortKey(sortKeyForPosition(request.getDayId(), request.getExerciseOrder(), null))
                 .notes(request.getNotes())
                 .workoutDay(day)
                 .build();
 
         Exercise savedExercise = exerciseRepository.save(exercise);
+        workoutPlanRepository.bumpRevision(scope.planId());
         log.info("Exercise created with id: {}", savedExercise.getExerciseId());
 
-        return mapToResponse(savedExercise);
+        return mapToResponse(savedExercise, exerciseOrderOf(savedExercise));
     }
 
     @Transactional(readOnly = true)
@@ -63,7 +63,7 @@ public class ExerciseService {
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        return mapToResponse(exercise);
+        return mapToResponse(exercise, exerciseOrderOf(exercise));
     }
 
     @Transactional(readOnly = true)
@@ -73,9 +73,9 @@ public class ExerciseService {
         WorkoutDay day = workoutDayRepository.findById(dayId)
                 .orElseThrow(() -> new WorkoutDayNotFoundException(dayId));
 
-        return exerciseRepository.findByWorkoutDay_DayIdOrderByExerciseOrder(dayId)
-                .stream()
-                .map(this::mapToResponse)
+        List<Exercise> exercises = exerciseRepository.findByWorkoutDay_DayIdOrderBySortKey(dayId);
+        return IntStream.range(0, exercises.size())
+                .mapToObj(index -> mapToResponse(exercises.get(index), index + 1))
                 .collect(Collectors.toList());
     }
 
@@ -83,10 +83,17 @@ public class ExerciseService {
     public List<ExerciseResponse> getExercisesByPlan(UUID planId) {
         log.info("Fetching all exercises for plan: {}", planId);
 
-        return exerciseRepository.findByPlanIdOrderByWeekDayAndOrder(planId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        // Exercises arrive grouped by day in sort key order, so the order restarts at 1 with each new day
+        List<ExerciseResponse> responses = new ArrayList<>();
+        UUID currentDayId = null;
+        int exerciseOrder = 0;
+        for (Exercise exercise : exerciseRepository.findByPlanIdOrderByWeekDayAndOrder(planId)) {
+            UUID dayId = exercise.getWorkoutDay().getDayId();
+            exerciseOrder = dayId.equals(currentDayId) ? exerciseOrder + 1 : 1;
+            currentDayId = dayId;
+            responses.add(mapToResponse(exercise, exerciseOrder));
+        }
+        return responses;
     }
 
     @Transactional(readOnly = true)
@@ -96,9 +103,10 @@ public class ExerciseService {
         WorkoutDay day = workoutDayRepository.findById(dayId)
                 .orElseThrow(() -> new WorkoutDayNotFoundException(dayId));
 
+        List<Long> sortKeys = exerciseRepository.findSortKeysByDayId(dayId);
         return exerciseRepository.findByDayIdAndNameContaining(dayId, searchTerm)
                 .stream()
-                .map(this::mapToResponse)
+                .map(exercise -> mapToResponse(exercise, SortKeys.rank(sortKeys, exercise.getSortKey())))
                 .collect(Collectors.toList());
     }
 
@@ -106,22 +114,13 @@ public class ExerciseService {
     public ExerciseResponse updateExercise(UUID exerciseId, ExerciseRequest request) {
         log.info("Updating exercise with id: {}", exerciseId);
 
+        PlanScope scope = workoutPlanGuard.requireActiveExercise(exerciseId);
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        if (!exercise.getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(exercise.getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
-        // Update exercise order if changed
-        if (request.getExerciseOrder() != null && !request.getExerciseOrder().equals(exercise.getExerciseOrder())) {
-            // Check if new exercise order already exists in this day
-            if (exerciseRepository.existsByWorkoutDay_DayIdAndExerciseOrder(
-                    exercise.getWorkoutDay().getDayId(), request.getExerciseOrder())) {
-                throw new DuplicateWorkoutStructureException("Exercise", request.getExerciseOrder(), exercise.getWorkoutDay().getDayId());
-            }
-
-            exercise.setExerciseOrder(request.getExerciseOrder());
+        // Move the exercise if its order changed; only this row's sort key is rewritten
+        if (request.getExerciseOrder() != null && !request.getExerciseOrder().equals(exerciseOrderOf(exercise))) {
+            exercise.setSortKey(sortKeyForPosition(exercise.getWorkoutDay().getDayId(), request.getExerciseOrder(), exercise));
         }
 
         if (request.getName() != null) {
@@ -133,23 +132,23 @@ public class ExerciseService {
         }
 
         Exercise updatedExercise = exerciseRepository.save(exercise);
+        workoutPlanRepository.bumpRevision(scope.planId());
         log.info("Exercise updated with id: {}", exerciseId);
 
-        return mapToResponse(updatedExercise);
+        return mapToResponse(updatedExercise, exerciseOrderOf(updatedExercise));
     }
 
     @Transactional
     public void deleteExercise(UUID exerciseId) {
         log.info("Deleting exercise with id: {}", exerciseId);
 
+        PlanScope scope = workoutPlanGuard.requireActiveExercise(exerciseId);
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        if (!exercise.getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(exercise.getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
-        exerciseRepository.delete(exercise);
+        exerciseRepository.deleteByExerciseId(exerciseId);
+        workoutCounterService.removeExercise(exercise);
+        workoutPlanRepository.bumpRevision(scope.planId());
         log.info("Exercise deleted with id: {}", exerciseId);
     }
 
@@ -157,55 +156,35 @@ public class ExerciseService {
     public ExerciseResponse reorderExercise(UUID exerciseId, Integer newOrder) {
         log.info("Reordering exercise {} to position {}", exerciseId, newOrder);
 
+        PlanScope scope = workoutPlanGuard.requireActiveExercise(exerciseId);
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        if (!exercise.getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(exercise.getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
         if (newOrder <= 0) {
             throw new InvalidWorkoutStructureException("reorder exercise", "Exercise order must be positive");
         }
 
         UUID dayId = exercise.getWorkoutDay().getDayId();
-        Integer currentOrder = exercise.getExerciseOrder();
+        List<Long> sortKeys = exerciseRepository.findSortKeysByDayId(dayId);
+        int currentOrder = SortKeys.rank(sortKeys, exercise.getSortKey());
 
-        if (currentOrder.equals(newOrder)) {
-            return mapToResponse(exercise);
+        if (currentOrder == newOrder) {
+            return mapToResponse(exercise, currentOrder);
         }
 
-        // Get all exercises in the day
-        List<Exercise> dayExercises = exerciseRepository.findByWorkoutDay_DayIdOrderByExerciseOrder(dayId);
-
         // Check if new order position exists
-        if (newOrder > dayExercises.size()) {
+        if (newOrder > sortKeys.size()) {
             throw new InvalidWorkoutStructureException("reorder exercise",
-                    "New order " + newOrder + " exceeds total exercises " + dayExercises.size());
+                    "New order " + newOrder + " exceeds total exercises " + sortKeys.size());
         }
 
-        // Reorder exercises
-        if (currentOrder < newOrder) {
-            // Moving down - shift exercises up
-            for (Exercise e : dayExercises) {
-                if (e.getExerciseOrder() > currentOrder && e.getExerciseOrder() <= newOrder) {
-                    e.setExerciseOrder(e.getExerciseOrder() - 1);
-                }
-            }
-        } else {
-            // Moving up - shift exercises down
-            for (Exercise e : dayExercises) {
-                if (e.getExerciseOrder() >= newOrder && e.getExerciseOrder() < currentOrder) {
-                    e.setExerciseOrder(e.getExerciseOrder() + 1);
-                }
-            }
-        }
-
-        exercise.setExerciseOrder(newOrder);
-        exerciseRepository.saveAll(dayExercises);
+        // Only the moved exercise is written: it takes a key between its new neighbours
+        exercise.setSortKey(sortKeyForPosition(dayId, newOrder, exercise));
+        exerciseRepository.save(exercise);
 
+        workoutPlanRepository.bumpRevision(scope.planId());
         log.info("Exercise {} reordered to position {}", exerciseId, newOrder);
-        return mapToResponse(exercise);
+        return mapToResponse(exercise, newOrder);
     }
 
     @Transactional(readOnly = true)
@@ -215,9 +194,7 @@ public class ExerciseService {
         WorkoutDay day = workoutDayRepository.findById(dayId)
                 .orElseThrow(() -> new WorkoutDayNotFoundException(dayId));
 
-        return exerciseRepository.findMaxExerciseOrderByDayId(dayId)
-                .map(maxOrder -> maxOrder + 1)
-                .orElse(1);
+        return exerciseRepository.countByWorkoutDay_DayId(dayId).intValue() + 1;
     }
 
     @Transactional(readOnly = true)
@@ -227,29 +204,66 @@ public class ExerciseService {
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        return calculateExerciseCompletion(exercise);
+        return exercise.isAllSetsCompleted();
+    }
+
+    /**
+     * Sort key that places an exercise at the 1-based {@code position} among the other exercises of the
+     * day. {@code moving} is the exercise being repositioned, or null for a new one. When the neighbours at
+     * that position have no room left between them, the day's other exercises are respaced first.
+     */
+    private long sortKeyForPosition(UUID dayId, int position, Exercise moving) {
+        List<Long> siblingKeys = new ArrayList<>(exerciseRepository.findSortKeysByDayId(dayId));
+        if (moving != null) {
+            siblingKeys.remove(moving.getSortKey());
+        }
+
+        Long sortKey = SortKeys.forPosition(siblingKeys, position);
+        if (sortKey != null) {
+            return sortKey;
+        }
+
+        log.info("Respacing exercise sort keys for day {}", dayId);
+        List<Exercise> siblings = new ArrayList<>(exerciseRepository.findByWorkoutDay_DayIdOrderBySortKey(dayId));
+        if (moving != null) {
+            siblings.removeIf(sibling -> sibling.getExerciseId().equals(moving.getExerciseId()));
+        }
+        for (int index = 0; index < siblings.size(); index++) {
+            siblings.get(index).setSortKey(SortKeys.atIndex(index));
+        }
+        exerciseRepository.saveAll(siblings);
+
+        return SortKeys.forPosition(siblings.stream().map(Exercise::getSortKey).toList(), position);
+    }
+
+    // Public exercise order: 1-based rank of the exercise's sort key within its day
+    private int exerciseOrderOf(Exercise exercise) {
+        return exerciseRepository.countByWorkoutDay_DayIdAndSortKeyLessThanEqual(
+                exercise.getWorkoutDay().getDayId(), exercise.getSortKey()).intValue();
     }
 
-    private ExerciseResponse mapToResponse(Exercise exercise) {
-        List<WorkoutSetResponse> setResponses = exercise.getSets().stream()
-                .map(this::mapToSetResponse)
+    private ExerciseResponse mapToResponse(Exercise exercise, int exerciseOrder) {
+        // Sets are loaded in sort key order, so their numbers follow the list position
+        List<WorkoutSet> sets = exercise.getSets();
+        List<WorkoutSetResponse> setResponses = IntStream.range(0, sets.size())
+                .mapToObj(index -> mapToSetResponse(sets.get(index), index + 1))
                 .collect(Collectors.toList());
 
         return ExerciseResponse.builder()
                 .exerciseId(exercise.getExerciseId())
                 .name(exercise.getName())
-                .exerciseOrder(exercise.getExerciseOrder())
+                .exerciseOrder(exerciseOrder)
                 .notes(exercise.getNotes())
                 .sets(setResponses)
                 .setCount(exercise.getSetCount())
-                .isCompleted(calculateExerciseCompletion(exercise))
+                .isCompleted(exercise.isAllSetsCompleted())
                 .build();
     }
 
-    private WorkoutSetResponse mapToSetResponse(WorkoutSet set) {
+    private WorkoutSetResponse mapToSetResponse(WorkoutSet set, int setNumber) {
         return WorkoutSetResponse.builder()
                 .setId(set.getSetId())
-                .setNumber(set.getSetNumber())
+                .setNumber(setNumber)
                 .targetReps(set.getTargetReps())
                 .targetWeight(set.getTargetWeight())
                 .targetRpe(set.getTargetRpe())
@@ -260,13 +274,4 @@ public class ExerciseService {
                 .isCompleted(set.getIsCompleted())
                 .build();
     }
-
-    private Boolean calculateExerciseCompletion(Exercise exercise) {
-        if (exercise.getSets().isEmpty()) {
-            return false;
-        }
-
-        return exercise.getSets().stream()
-                .allMatch(set -> set.getIsCompleted());
-    }
 }
@@ -0,0 +1,175 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import com.strengthhub.strength_hub_api.dto.response.lifter.LifterSummaryResponse;
+import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutProgressResponse;
+import com.strengthhub.strength_hub_api.exception.workout.WorkoutPlanNotFoundException;
+import com.strengthhub.strength_hub_api.model.User;
+import com.strengthhub.strength_hub_api.model.workout.LifterProgress;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutPlan;
+import com.strengthhub.strength_hub_api.repository.workout.LifterProgressRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository.DayCounterView;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LifterProgressService {
+
+    private final LifterProgressRepository lifterProgressRepository;
+    private final WorkoutDayRepository workoutDayRepository;
+    private final WorkoutPlanRepository workoutPlanRepository;
+
+    @Transactional(readOnly = true)
+    public WorkoutProgressResponse getProgressByLifter(UUID lifterId) {
+        log.info("Fetching progress snapshot for lifter: {}", lifterId);
+
+        LifterProgress progress = lifterProgressRepository.findById(lifterId)
+                .orElseThrow(() -> new WorkoutPlanNotFoundException("No active workout plan found for lifter with id: " + lifterId));
+
+        return mapToResponse(progress);
+    }
+
+    /**
+     * Rebuilds the snapshot for the plan's assigned lifter from the day-level set counters, or drops it
+     * when the plan has no lifter or is inactive. {@code activity} marks a set completion change and
+     * bumps lastActivity.
+     */
+    @Transactional
+    public void refresh(WorkoutPlan plan, boolean activity) {
+        if (plan.getAssignedLifter() == null || !Boolean.TRUE.equals(plan.getIsActive())) {
+            lifterProgressRepository.deleteByPlanId(plan.getPlanId());
+            return;
+        }
+
+        UUID lifterId = plan.getAssignedLifter().getLifterId();
+        Optional<LifterProgress> existing = lifterProgressRepository.findById(lifterId);
+        LifterProgress progress;
+        if (existing.isPresent() && existing.get().getPlanId().equals(plan.getPlanId())) {
+            progress = existing.get();
+        } else {
+            // New assignment: clear any snapshot the plan still has for a previous lifter
+            lifterProgressRepository.deleteByPlanId(plan.getPlanId());
+            User user = plan.getAssignedLifter().getApp_user();
+            progress = existing.orElseGet(() -> LifterProgress.builder().lifterId(lifterId).build());
+            progress.setPlanId(plan.getPlanId());
+            progress.setUsername(user.getUsername());
+            progress.setFirstName(user.getFirstName());
+            progress.setLastName(user.getLastName());
+            progress.setLastActivity(null);
+        }
+
+        progress.setPlanName(plan.getName());
+        progress.setTotalWeeks(plan.getTotalWeeks());
+        applyDayCounters(progress, workoutDayRepository.findDayCountersByPlanId(plan.getPlanId()));
+        if (activity) {
+            progress.setLastActivity(LocalDateTime.now());
+        }
+
+        lifterProgressRepository.save(progress);
+    }
+
+    /**
+     * Counter-only refresh for set writes, driven by the guard's {@link PlanScope} instead of the plan entity.
+     * An existing snapshot for the same plan only has its counters rebuilt; the plan row is loaded only when
+     * the lifter has no snapshot for it yet.
+     */
+    @Transactional
+    public void refreshCounters(PlanScope scope, boolean activity) {
+        if (scope.lifterId() == null || !scope.active()) {
+            lifterProgressRepository.deleteByPlanId(scope.planId());
+            return;
+        }
+
+        Optional<LifterProgress> existing = lifterProgressRepository.findById(scope.lifterId());
+        if (existing.isEmpty() || !existing.get().getPlanId().equals(scope.planId())) {
+            workoutPlanRepository.findById(scope.planId()).ifPresent(plan -> refresh(plan, activity));
+            return;
+        }
+
+        LifterProgress progress = existing.get();
+        applyDayCounters(progress, workoutDayRepository.findDayCountersByPlanId(scope.planId()));
+        if (activity) {
+            progress.setLastActivity(LocalDateTime.now());
+        }
+        lifterProgressRepository.save(progress);
+    }
+
+    @Transactional
+    public void removeForPlan(UUID planId) {
+        lifterProgressRepository.deleteByPlanId(planId);
+    }
+
+    @Transactional
+    public void updateLifterName(User user) {
+        lifterProgressRepository.updateLifterName(user.getUserId(), user.getUsername(), user.getFirstName(), user.getLastName());
+    }
+
+    private void applyDayCounters(LifterProgress progress, List<DayCounterView> days) {
+        int totalSets = 0;
+        int completedSets = 0;
+        DayCounterView firstOpenDay = null;
+        DayCounterView lastScheduledDay = null;
+        Map<Integer, int[]> setsByWeek = new LinkedHashMap<>();
+
+        for (DayCounterView day : days) {
+            totalSets += day.getTotalSets();
+            completedSets += day.getCompletedSets();
+            int[] weekSets = setsByWeek.computeIfAbsent(day.getWeekNumber(), week -> new int[2]);
+            weekSets[0] += day.getTotalSets();
+            weekSets[1] += day.getCompletedSets();
+
+            if (day.getTotalSets() > 0) {
+                lastScheduledDay = day;
+                if (firstOpenDay == null && day.getCompletedSets() < day.getTotalSets()) {
+                    firstOpenDay = day;
+                }
+            }
+        }
+
+        int completedWeeks = (int) setsByWeek.values().stream()
+                .filter(weekSets -> weekSets[0] > 0 && weekSets[0] == weekSets[1])
+                .count();
+
+        // Same rule as the plan stats: no current day until the first set is done, then the first open day
+        DayCounterView currentDay = completedSets == 0 ? null : (firstOpenDay != null ? firstOpenDay : lastScheduledDay);
+
+        progress.setTotalSets(totalSets);
+        progress.setCompletedSets(completedSets);
+        progress.setCompletedWeeks(completedWeeks);
+        progress.setCurrentWeek(currentDay != null ? currentDay.getWeekNumber() : null);
+        progress.setCurrentDay(currentDay != null ? currentDay.getDayNumber() : null);
+    }
+
+    private WorkoutProgressResponse mapToResponse(LifterProgress progress) {
+        return WorkoutProgressResponse.builder()
+                .planId(progress.getPlanId())
+                .planName(progress.getPlanName())
+                .lifter(LifterSummaryResponse.builder()
+                        .lifterId(progress.getLifterId())
+                        .username(progress.getUsername())
+                        .firstName(progress.getFirstName())
+                        .lastName(progress.getLastName())
+                        .build())
+                .totalWeeks(progress.getTotalWeeks())
+                .completedWeeks(progress.getCompletedWeeks())
+                .currentWeek(progress.getCurrentWeek())
+                .currentDay(progress.getCurrentDay())
+                .overallProgress(progress.getOverallProgress())
+                .lastActivity(progress.getLastActivity())
+                .isPlanCompleted(progress.isPlanCompleted())
+                .build();
+    }
+}
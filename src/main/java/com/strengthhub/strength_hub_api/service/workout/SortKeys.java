@@ -0,0 +1,47 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Gapped sort keys for sets within an exercise and exercises within a day. Siblings are spaced {@link #GAP}
+ * apart, so an insert or move writes only the moved row: it takes the midpoint between its new neighbours.
+ * When two neighbours have run out of room the parent is respaced first. Public set numbers and exercise
+ * orders are never stored; they are the 1-based rank by sort key.
+ */
+final class SortKeys {
+
+    static final long GAP = 1024;
+
+    private SortKeys() {
+    }
+
+    // Evenly spaced key for the item at a 0-based index, used for new trees and respacing
+    static long atIndex(int index) {
+        return (index + 1) * GAP;
+    }
+
+    /**
+     * Key that puts an item at the 1-based {@code position} among {@code siblingKeys}, which are in order
+     * and exclude the item itself. Positions past the end append. Returns null when the two neighbours are
+     * adjacent and the parent has to be respaced before the item can be placed.
+     */
+    static Long forPosition(List<Long> siblingKeys, int position) {
+        int index = Math.min(position, siblingKeys.size() + 1) - 1;
+        long before = index > 0 ? siblingKeys.get(index - 1) : 0;
+        if (index == siblingKeys.size()) {
+            return before + GAP;
+        }
+
+        long after = siblingKeys.get(index);
+        if (after - before < 2) {
+            return null;
+        }
+        return before + (after - before) / 2;
+    }
+
+    // 1-based rank of a key within its ordered siblings (the key itself must be present)
+    static int rank(List<Long> orderedKeys, long key) {
+        return Collections.binarySearch(orderedKeys, key) + 1;
+    }
+}
@@ -0,0 +1,172 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import com.strengthhub.strength_hub_api.model.workout.Exercise;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutDay;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutPlan;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutWeek;
+import com.strengthhub.strength_hub_api.repository.workout.ExerciseRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutWeekRepository;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the denormalized totalSets / completedSets counters on exercises, days, weeks and plans.
+ * Every mutation runs as an atomic {@code col = col + delta} update inside the caller's transaction,
+ * so concurrent requests never overwrite each other's increments. The lifter progress snapshot of the
+ * affected plan is rebuilt after each change.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkoutCounterService {
+
+    private final ExerciseRepository exerciseRepository;
+    private final WorkoutDayRepository workoutDayRepository;
+    private final WorkoutWeekRepository workoutWeekRepository;
+    private final WorkoutPlanRepository workoutPlanRepository;
+    private final LifterProgressService lifterProgressService;
+
+    /**
+     * Records a single set write: propagates the counter delta from the exercise up to the plan and bumps the
+     * plan's revision. Everything is addressed by id, with the day and week found by subselect on the exercise
+     * and the plan taken from the guard's {@link PlanScope}, so no part of the hierarchy is loaded. The revision
+     * is bumped even when the counters do not move, because the set itself changed.
+     */
+    @Transactional
+    public void recordSetChange(PlanScope scope, UUID exerciseId, int totalDelta, int completedDelta) {
+        if (totalDelta != 0 || completedDelta != 0) {
+            exerciseRepository.adjustSetCounters(exerciseId, totalDelta, completedDelta);
+            workoutDayRepository.adjustSetCountersByExerciseId(exerciseId, totalDelta, completedDelta);
+            workoutWeekRepository.adjustSetCountersByExerciseId(exerciseId, totalDelta, completedDelta);
+        }
+        workoutPlanRepository.adjustSetCountersAndBumpRevision(scope.planId(), totalDelta, completedDelta);
+        if (totalDelta != 0 || completedDelta != 0) {
+            lifterProgressService.refreshCounters(scope, completedDelta != 0);
+        }
+    }
+
+    /**
+     * Applies completion deltas for many exercises in one pass and bumps the revision of every plan they belong
+     * to. Deltas are summed per day, week and plan first, so every affected row is updated once and each plan's
+     * lifter snapshot is rebuilt once. Exercises whose sets changed without completing anything new are passed
+     * with a zero delta: their counters are left alone, but their plan's revision still moves.
+     */
+    @Transactional
+    public void adjustCompletedForExercises(Map<Exercise, Integer> completedDeltas) {
+        Map<WorkoutDay, Integer> dayDeltas = new LinkedHashMap<>();
+        completedDeltas.forEach((exercise, delta) -> {
+            if (delta != 0) {
+                exerciseRepository.adjustSetCounters(exercise.getExerciseId(), 0, delta);
+            }
+            dayDeltas.merge(exercise.getWorkoutDay(), delta, Integer::sum);
+        });
+
+        Map<WorkoutWeek, Integer> weekDeltas = new LinkedHashMap<>();
+        dayDeltas.forEach((day, delta) -> {
+            if (delta != 0) {
+                workoutDayRepository.adjustSetCounters(day.getDayId(), 0, delta);
+            }
+            weekDeltas.merge(day.getWorkoutWeek(), delta, Integer::sum);
+        });
+
+        Map<WorkoutPlan, Integer> planDeltas = new LinkedHashMap<>();
+        weekDeltas.forEach((week, delta) -> {
+            if (delta != 0) {
+                workoutWeekRepository.adjustSetCounters(week.getWeekId(), 0, delta);
+            }
+            planDeltas.merge(week.getWorkoutPlan(), delta, Integer::sum);
+        });
+
+        planDeltas.forEach((plan, delta) -> {
+            workoutPlanRepository.adjustSetCountersAndBumpRevision(plan.getPlanId(), 0, delta);
+            if (delta != 0) {
+                lifterProgressService.refresh(plan, true);
+            }
+        });
+    }
+
+    // Subtract a deleted exercise's sets from its ancestors
+    @Transactional
+    public void removeExercise(Exercise exercise) {
+        adjustForDay(exercise.getWorkoutDay(), -exercise.getTotalSets(), -exercise.getCompletedSets());
+        lifterProgressService.refresh(exercise.getWorkoutDay().getWorkoutWeek().getWorkoutPlan(), false);
+    }
+
+    // Subtract a deleted day's sets from its ancestors
+    @Transactional
+    public void removeDay(WorkoutDay day) {
+        adjustForWeek(day.getWorkoutWeek(), -day.getTotalSets(), -day.getCompletedSets());
+        lifterProgressService.refresh(day.getWorkoutWeek().getWorkoutPlan(), false);
+    }
+
+    // Subtract a deleted week's sets from its plan
+    @Transactional
+    public void removeWeek(WorkoutWeek week) {
+        if (week.getTotalSets() != 0 || week.getCompletedSets() != 0) {
+            workoutPlanRepository.adjustSetCounters(week.getWorkoutPlan().getPlanId(),
+                    -week.getTotalSets(), -week.getCompletedSets());
+        }
+        lifterProgressService.refresh(week.getWorkoutPlan(), false);
+    }
+
+    // Recompute all counters from raw sets once a day at 3:30 AM and report any drift
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void scheduledRepair() {
+        log.info("Starting workout set counter repair");
+        RepairReport report = repairCounters();
+        if (report.totalDrift() > 0) {
+            log.warn("Workout set counters had drifted and were repaired: {}", report);
+        } else {
+            log.info("Workout set counters are consistent");
+        }
+    }
+
+    /**
+     * Recomputes every level's counters from scratch. Each statement only rewrites rows whose stored
+     * counters disagree with the raw sets, so the update counts double as the drift report.
+     */
+    @Transactional
+    public RepairReport repairCounters() {
+        return new RepairReport(
+                exerciseRepository.repairSetCounters(),
+                workoutDayRepository.repairSetCounters(),
+                workoutWeekRepository.repairSetCounters(),
+                workoutPlanRepository.repairSetCounters());
+    }
+
+    private void adjustForDay(WorkoutDay day, int totalDelta, int completedDelta) {
+        if (totalDelta == 0 && completedDelta == 0) {
+            return;
+        }
+        workoutDayRepository.adjustSetCounters(day.getDayId(), totalDelta, completedDelta);
+        adjustForWeek(day.getWorkoutWeek(), totalDelta, completedDelta);
+    }
+
+    private void adjustForWeek(WorkoutWeek week, int totalDelta, int completedDelta) {
+        if (totalDelta == 0 && completedDelta == 0) {
+            return;
+        }
+        workoutWeekRepository.adjustSetCounters(week.getWeekId(), totalDelta, completedDelta);
+        workoutPlanRepository.adjustSetCounters(week.getWorkoutPlan().getPlanId(), totalDelta, completedDelta);
+    }
+
+    /**
+     * Number of rows per level whose counters were wrong and have been rewritten.
+     */
+    public record RepairReport(int exercises, int days, int weeks, int plans) {
+
+        public int totalDrift() {
+            return exercises + days + weeks + plans;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import com.strengthhub.strength_hub_api.model.workout.WorkoutDay;
 import com.strengthhub.strength_hub_api.model.workout.Exercise;
 import com.strengthhub.strength_hub_api.repository.workout.WorkoutWeekRepository;
 import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,18 +28,18 @@ public class WorkoutDayService {
 
     private final WorkoutDayRepository workoutDayRepository;
     private final WorkoutWeekRepository workoutWeekRepository;
+    private final WorkoutPlanRepository workoutPlanRepository;
+    private final WorkoutPlanGuard workoutPlanGuard;
+    private final WorkoutCounterService workoutCounterService;
 
     @Transactional
     public WorkoutDayResponse createWorkoutDay(WorkoutDayRequest request) {
         log.info("Creating workout day {} for week {}", request.getDayNumber(), request.getWeekId());
 
+        PlanScope scope = workoutPlanGuard.requireActiveWeek(request.getWeekId());
         WorkoutWeek week = workoutWeekRepository.findById(request.getWeekId())
                 .orElseThrow(() -> new WorkoutWeekNotFoundException(request.getWeekId()));
 
-        if (!week.getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(week.getWorkoutPlan().getPlanId());
-        }
-
         // Check if day number already exists in this week
         if (workoutDayRepository.existsByWorkoutWeek_WeekIdAndDayNumber(
                 request.getWeekId(), request.getDayNumber())) {
@@ -51,11 +54,19 @@ public class WorkoutDayService {
                 .build();
 
         WorkoutDay savedDay = workoutDayRepository.save(day);
+        workoutPlanRepository.bumpRevision(scope.planId());
         log.info("Workout day created with id: {}", savedDay.getDayId());
 
         return mapToResponse(savedDay);
     }
 
+    // Revision of the owning plan, used as the day's ETag
+    @Transactional(readOnly = true)
+    public long getPlanRevisionForDay(UUID dayId) {
+        return workoutDayRepository.findPlanRevisionByDayId(dayId)
+                .orElseThrow(() -> new WorkoutDayNotFoundException(dayId));
+    }
+
     @Transactional(readOnly = true)
     public WorkoutDayResponse getWorkoutDayById(UUID dayId) {
         log.info("Fetching workout day with id: {}", dayId);
@@ -103,13 +114,10 @@ public class WorkoutDayService {
     public WorkoutDayResponse updateWorkoutDay(UUID dayId, WorkoutDayRequest request) {
         log.info("Updating workout day with id: {}", dayId);
 
+        PlanScope scope = workoutPlanGuard.requireActiveDay(dayId);
         WorkoutDay day = workoutDayRepository.findById(dayId)
                 .orElseThrow(() -> new WorkoutDayNotFoundException(dayId));
 
-        if (!day.getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(day.getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
         // Update day number if changed
         if (request.getDayNumber() != null && !request.getDayNumber().equals(day.getDayNumber())) {
             // Check if new day number already exists in this week
@@ -130,6 +138,7 @@ public class WorkoutDayService {
         }
 
         WorkoutDay updatedDay = workoutDayRepository.save(day);
+        workoutPlanRepository.bumpRevision(scope.planId());
         log.info("Workout day updated with id: {}", dayId);
 
         return mapToResponse(updatedDay);
@@ -139,14 +148,13 @@ public class WorkoutDayService {
     public void deleteWorkoutDay(UUID dayId) {
         log.info("Deleting workout day with id: {}", dayId);
 
+        PlanScope scope = workoutPlanGuard.requireActiveDay(dayId);
         WorkoutDay day = workoutDayRepository.findById(dayId)
                 .orElseThrow(() -> new WorkoutDayNotFoundException(dayId));
 
-        if (!day.getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(day.getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
-        workoutDayRepository.delete(day);
+        workoutDayRepository.deleteByDayId(dayId);
+        workoutCounterService.removeDay(day);
+        workoutPlanRepository.bumpRevision(scope.planId());
         log.info("Workout day deleted with id: {}", dayId);
     }
 
@@ -169,12 +177,14 @@ public class WorkoutDayService {
         WorkoutDay day = workoutDayRepository.findById(dayId)
                 .orElseThrow(() -> new WorkoutDayNotFoundException(dayId));
 
-        return calculateDayCompletion(day);
+        return day.isAllSetsCompleted();
     }
 
     private WorkoutDayResponse mapToResponse(WorkoutDay day) {
-        List<ExerciseResponse> exerciseResponses = day.getExercises().stream()
-                .map(this::mapToExerciseResponse)
+        // Exercises are loaded in sort key order, so their order follows the list position
+        List<Exercise> exercises = day.getExercises();
+        List<ExerciseResponse> exerciseResponses = IntStream.range(0, exercises.size())
+                .mapToObj(index -> mapToExerciseResponse(exercises.get(index), index + 1))
                 .collect(Collectors.toList());
 
         return WorkoutDayResponse.builder()
@@ -184,36 +194,18 @@ public class WorkoutDayService {
                 .notes(day.getNotes())
                 .exercises(exerciseResponses)
                 .exerciseCount(day.getExerciseCount())
-                .isCompleted(calculateDayCompletion(day))
+                .isCompleted(day.isAllSetsCompleted())
                 .build();
     }
 
-    private ExerciseResponse mapToExerciseResponse(Exercise exercise) {
+    private ExerciseResponse mapToExerciseResponse(Exercise exercise, int exerciseOrder) {
         return ExerciseResponse.builder()
                 .exerciseId(exercise.getExerciseId())
                 .name(exercise.getName())
-                .exerciseOrder(exercise.getExerciseOrder())
+                .exerciseOrder(exerciseOrder)
                 .notes(exercise.getNotes())
-                .setCount(exercise.getSetCount())
-                .isCompleted(calculateExerciseCompletion(exercise))
+                .setCount(exercise.getTotalSets())
+                .isCompleted(exercise.isAllSetsCompleted())
                 .build();
     }
-
-    private Boolean calculateDayCompletion(WorkoutDay day) {
-        if (day.getExercises().isEmpty()) {
-            return false;
-        }
-
-        return day.getExercises().stream()
-                .allMatch(this::calculateExerciseCompletion);
-    }
-
-    private Boolean calculateExerciseCompletion(Exercise exercise) {
-        if (exercise.getSets().isEmpty()) {
-            return false;
-        }
-
-        return exercise.getSets().stream()
-                .allMatch(set -> set.getIsCompleted());
-    }
 }
\ No newline at end of file
@@ -0,0 +1,252 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import com.strengthhub.strength_hub_api.exception.workout.ExerciseNotFoundException;
+import com.strengthhub.strength_hub_api.exception.workout.WorkoutDayNotFoundException;
+import com.strengthhub.strength_hub_api.exception.workout.WorkoutPlanInactiveException;
+import com.strengthhub.strength_hub_api.exception.workout.WorkoutSetNotFoundException;
+import com.strengthhub.strength_hub_api.exception.workout.WorkoutWeekNotFoundException;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository.PlanScopeView;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository.SetScopeView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Write guard for everything below a plan. Resolves a week, day, exercise or set id to its plan's id, active
+ * flag and owning coach and lifter with one join query instead of walking the lazy parent chain, and rejects
+ * writes to inactive plans. The {@code find*} lookups expose the same resolution without the active check;
+ * {@link com.strengthhub.strength_hub_api.security.WorkoutAccess} authorizes requests with them.
+ * <p>
+ * Two bounded LRU caches sit in front of the query. Child id to plan id never changes, because children
+ * cannot move between plans. Plan id to plan state is evicted through {@link #invalidatePlan} whenever the
+ * plan is updated, reassigned or deleted, but that only reaches the node that made the change, so plan states
+ * also expire {@code app.workout.plan-guard.state-ttl} after they were loaded. On other instances a revoked
+ * assignment or a deactivation therefore takes effect within that window. A warm check costs no database
+ * round trip.
+ */
+@Component
+@Slf4j
+public class WorkoutPlanGuard {
+
+    private final WorkoutPlanRepository workoutPlanRepository;
+    private final BoundedCache<UUID, UUID> planIdByChild;
+    private final BoundedCache<UUID, CachedScope> scopeByPlan;
+    private final long stateTtlMs;
+    private final LongSupplier clock;
+
+    @Autowired
+    public WorkoutPlanGuard(WorkoutPlanRepository workoutPlanRepository,
+                            @Value("${app.workout.plan-guard.max-size:10000}") int maxSize,
+                            @Value("${app.workout.plan-guard.state-ttl:5s}") Duration stateTtl) {
+        this(workoutPlanRepository, maxSize, stateTtl, System::currentTimeMillis);
+    }
+
+    WorkoutPlanGuard(WorkoutPlanRepository workoutPlanRepository, int maxSize, Duration stateTtl, LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Plan guard cache size must be positive");
+        }
+        if (stateTtl.isNegative() || stateTtl.isZero()) {
+            throw new IllegalArgumentException("Plan guard state TTL must be positive");
+        }
+        this.workoutPlanRepository = workoutPlanRepository;
+        this.planIdByChild = new BoundedCache<>(maxSize);
+        this.scopeByPlan = new BoundedCache<>(maxSize);
+        this.stateTtlMs = stateTtl.toMillis();
+        this.clock = clock;
+        log.info("Workout plan guard initialised with {} cache entries, plan states kept for {}", maxSize, stateTtl);
+    }
+
+    public PlanScope requireActiveWeek(UUID weekId) {
+        return requireActive(findWeek(weekId).orElseThrow(() -> new WorkoutWeekNotFoundException(weekId)));
+    }
+
+    public PlanScope requireActiveDay(UUID dayId) {
+        return requireActive(findDay(dayId).orElseThrow(() -> new WorkoutDayNotFoundException(dayId)));
+    }
+
+    public PlanScope requireActiveExercise(UUID exerciseId) {
+        return requireActive(findExercise(exerciseId).orElseThrow(() -> new ExerciseNotFoundException(exerciseId)));
+    }
+
+    public PlanScope requireActiveSet(UUID setId) {
+        return requireActive(findSet(setId).orElseThrow(() -> new WorkoutSetNotFoundException(setId)));
+    }
+
+    public Optional<PlanScope> findPlan(UUID planId) {
+        PlanScope cached = cachedScope(planId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<PlanScope> scope = workoutPlanRepository.findScopeByPlanId(planId).map(PlanScope::from);
+        scope.ifPresent(this::cacheScope);
+        return scope;
+    }
+
+    public Optional<PlanScope> findWeek(UUID weekId) {
+        return resolve(weekId, workoutPlanRepository::findScopeByWeekId);
+    }
+
+    public Optional<PlanScope> findDay(UUID dayId) {
+        return resolve(dayId, workoutPlanRepository::findScopeByDayId);
+    }
+
+    public Optional<PlanScope> findExercise(UUID exerciseId) {
+        return resolve(exerciseId, workoutPlanRepository::findScopeByExerciseId);
+    }
+
+    public Optional<PlanScope> findSet(UUID setId) {
+        return resolve(setId, workoutPlanRepository::findScopeBySetId);
+    }
+
+    /**
+     * Resolves many sets at once. Sets whose plan state is cached cost nothing; all others are resolved
+     * together with one join query. Unknown set ids are absent from the result.
+     */
+    public Map<UUID, PlanScope> findSets(Collection<UUID> setIds) {
+        Map<UUID, PlanScope> scopes = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (UUID setId : setIds) {
+            UUID planId = planIdByChild.get(setId);
+            PlanScope cached = planId != null ? cachedScope(planId) : null;
+            if (cached != null) {
+                scopes.put(setId, cached);
+            } else {
+                misses.add(setId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (SetScopeView view : workoutPlanRepository.findScopesBySetIdIn(misses)) {
+                PlanScope scope = PlanScope.from(view);
+                planIdByChild.put(view.getSetId(), scope.planId());
+                cacheScope(scope);
+                scopes.put(view.getSetId(), scope);
+            }
+        }
+        return scopes;
+    }
+
+    /**
+     * Drops the cached state of a plan. Called in the transaction that changes the plan; the entry is evicted
+     * again after commit so a concurrent reader of the old row cannot leave it cached.
+     */
+    public void invalidatePlan(UUID planId) {
+        scopeByPlan.remove(planId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scopeByPlan.remove(planId);
+                }
+            });
+        }
+    }
+
+    private PlanScope requireActive(PlanScope scope) {
+        if (!scope.active()) {
+            throw new WorkoutPlanInactiveException(scope.planId());
+        }
+        return scope;
+    }
+
+    private Optional<PlanScope> resolve(UUID childId, Function<UUID, Optional<PlanScopeView>> childLookup) {
+        UUID planId = planIdByChild.get(childId);
+        if (planId != null) {
+            Optional<PlanScope> scope = findPlan(planId);
+            if (scope.isPresent()) {
+                return scope;
+            }
+            // The plan is gone; fall through so a deleted child is reported as not found
+        }
+
+        Optional<PlanScope> scope = childLookup.apply(childId).map(PlanScope::from);
+        scope.ifPresent(resolved -> {
+            planIdByChild.put(childId, resolved.planId());
+            cacheScope(resolved);
+        });
+        return scope;
+    }
+
+    private PlanScope cachedScope(UUID planId) {
+        CachedScope cached = scopeByPlan.get(planId);
+        return cached != null && cached.expiresAt() > clock.getAsLong() ? cached.scope() : null;
+    }
+
+    private void cacheScope(PlanScope scope) {
+        scopeByPlan.put(scope.planId(), new CachedScope(scope, clock.getAsLong() + stateTtlMs));
+    }
+
+    /**
+     * Plan an id belongs to. {@code lifterId} is null while the plan is unassigned.
+     */
+    public record PlanScope(UUID planId, boolean active, UUID coachId, UUID lifterId) {
+
+        static PlanScope from(PlanScopeView view) {
+            return new PlanScope(view.getPlanId(), Boolean.TRUE.equals(view.getIsActive()),
+                    view.getCoachId(), view.getLifterId());
+        }
+    }
+
+    private record CachedScope(PlanScope scope, long expiresAt) {
+    }
+
+    private static final class BoundedCache<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, V> entries;
+
+        BoundedCache(int capacity) {
+            // accessOrder = true gives LRU iteration order
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        V get(K key) {
+            lock.lock();
+            try {
+                return entries.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(K key, V value) {
+            lock.lock();
+            try {
+                entries.put(key, value);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(K key) {
+            lock.lock();
+            try {
+                entries.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
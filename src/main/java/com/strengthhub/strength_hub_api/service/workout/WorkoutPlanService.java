@@ -1,8 +1,15 @@
 package com.strengthhub.strength_hub_api.service.workout;
 
+import com.strengthhub.strength_hub_api.dto.request.workout.ExerciseTreeRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutDayTreeRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanCreateRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanInstantiateRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanTreeRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutSetTreeRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutWeekTreeRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanUpdateRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanAssignmentRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.workout.*;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachSummaryResponse;
 import com.strengthhub.strength_hub_api.dto.response.lifter.LifterSummaryResponse;
@@ -12,20 +19,35 @@ import com.strengthhub.strength_hub_api.exception.workout.*;
 import com.strengthhub.strength_hub_api.model.Coach;
 import com.strengthhub.strength_hub_api.model.Lifter;
 import com.strengthhub.strength_hub_api.model.User;
+import com.strengthhub.strength_hub_api.model.workout.Exercise;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutDay;
 import com.strengthhub.strength_hub_api.model.workout.WorkoutPlan;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutSet;
 import com.strengthhub.strength_hub_api.model.workout.WorkoutWeek;
 import com.strengthhub.strength_hub_api.repository.CoachRepository;
 import com.strengthhub.strength_hub_api.repository.LifterRepository;
+import com.strengthhub.strength_hub_api.repository.workout.ExerciseRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository;
 import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository.PlanSummaryView;
 import com.strengthhub.strength_hub_api.repository.workout.WorkoutSetRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutWeekRepository;
+import com.strengthhub.strength_hub_api.service.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -36,26 +58,51 @@ public class WorkoutPlanService {
     private final CoachRepository coachRepository;
     private final LifterRepository lifterRepository;
     private final WorkoutSetRepository workoutSetRepository;
+    private final WorkoutWeekRepository workoutWeekRepository;
+    private final WorkoutDayRepository workoutDayRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final LifterProgressService lifterProgressService;
+    private final WorkoutPlanGuard workoutPlanGuard;
 
     @Transactional
     public WorkoutPlanResponse createWorkoutPlan(WorkoutPlanCreateRequest request) {
         log.info("Creating workout plan: {}", request.getName());
 
-        // Validate coach exists
-        Coach coach = coachRepository.findById(request.getCoachId())
-                .orElseThrow(() -> new CoachNotFoundException(request.getCoachId()));
+        Coach coach = findCoach(request.getCoachId());
+        Lifter assignedLifter = findAssignableLifter(request.getAssignedLifterId());
 
-        // Check if lifter exists if assigned
-        Lifter assignedLifter = null;
-        if (request.getAssignedLifterId() != null) {
-            assignedLifter = lifterRepository.findById(request.getAssignedLifterId())
-                    .orElseThrow(() -> new LifterNotFoundException(request.getAssignedLifterId()));
+        WorkoutPlan workoutPlan = WorkoutPlan.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .totalWeeks(request.getTotalWeeks())
+                .coach(coach)
+                .assignedLifter(assignedLifter)
+                .isTemplate(request.getIsTemplate())
+                .isActive(true)
+                .build();
 
-            // Check if lifter already has an active plan
-            if (workoutPlanRepository.findActiveByLifterId(request.getAssignedLifterId()).isPresent()) {
-                throw new WorkoutPlanAlreadyAssignedException(request.getAssignedLifterId());
-            }
+        WorkoutPlan savedPlan = workoutPlanRepository.save(workoutPlan);
+        if (assignedLifter != null) {
+            lifterProgressService.refresh(savedPlan, false);
         }
+        log.info("Workout plan created with id: {}", savedPlan.getPlanId());
+
+        // A new plan has no weeks yet, so there are no days or exercises to count
+        return mapToResponse(savedPlan, 0, 0);
+    }
+
+    /**
+     * Creates a plan together with its whole week/day/exercise/set structure in one transaction. Sibling
+     * numbering is validated in memory rather than with an exists query per row, UUIDs are generated by
+     * Hibernate without a database round trip, and the cascaded inserts are written as JDBC batches.
+     */
+    @Transactional
+    public WorkoutPlanTreeResponse createWorkoutPlanTree(WorkoutPlanTreeRequest request) {
+        log.info("Creating workout plan {} with {} weeks", request.getName(), orEmpty(request.getWeeks()).size());
+
+        Coach coach = findCoach(request.getCoachId());
+        Lifter assignedLifter = findAssignableLifter(request.getAssignedLifterId());
+        validateTreeNumbering(request);
 
         WorkoutPlan workoutPlan = WorkoutPlan.builder()
                 .name(request.getName())
@@ -67,10 +114,127 @@ public class WorkoutPlanService {
                 .isActive(true)
                 .build();
 
-        WorkoutPlan savedPlan = workoutPlanRepository.save(workoutPlan);
-        log.info("Workout plan created with id: {}", savedPlan.getPlanId());
+        // Counters are written with the initial insert since nothing below the plan exists yet
+        int planSets = 0;
+        for (WorkoutWeekTreeRequest weekRequest : sorted(request.getWeeks(), WorkoutWeekTreeRequest::getWeekNumber)) {
+            WorkoutWeek week = WorkoutWeek.builder()
+                    .weekNumber(weekRequest.getWeekNumber())
+                    .notes(weekRequest.getNotes())
+                    .build();
+            workoutPlan.addWeek(week);
+
+            int weekSets = 0;
+            for (WorkoutDayTreeRequest dayRequest : sorted(weekRequest.getDays(), WorkoutDayTreeRequest::getDayNumber)) {
+                WorkoutDay day = WorkoutDay.builder()
+                        .dayNumber(dayRequest.getDayNumber())
+                        .name(dayRequest.getName())
+                        .notes(dayRequest.getNotes())
+                        .build();
+                week.addDay(day);
+
+                int daySets = 0;
+                // Requested orders and set numbers only rank siblings; stored keys are evenly spaced
+                for (ExerciseTreeRequest exerciseRequest : sorted(dayRequest.getExercises(), ExerciseTreeRequest::getExerciseOrder)) {
+                    Exercise exercise = Exercise.builder()
+                            .name(exerciseRequest.getName())
+                            .sortKey(SortKeys.atIndex(day.getExercises().size()))
+                            .notes(exerciseRequest.getNotes())
+                            .build();
+                    day.addExercise(exercise);
+
+                    for (WorkoutSetTreeRequest setRequest : sorted(exerciseRequest.getSets(), WorkoutSetTreeRequest::getSetNumber)) {
+                        exercise.addSet(WorkoutSet.builder()
+                                .sortKey(SortKeys.atIndex(exercise.getSets().size()))
+                                .targetReps(setRequest.getTargetReps())
+                                .targetWeight(setRequest.getTargetWeight())
+                                .targetRpe(setRequest.getTargetRpe())
+                                .isCompleted(false)
+                                .build());
+                    }
+                    exercise.setTotalSets(exercise.getSets().size());
+                    daySets += exercise.getTotalSets();
+                }
+                day.setTotalSets(daySets);
+                weekSets += daySets;
+            }
+            week.setTotalSets(weekSets);
+            planSets += weekSets;
+        }
+        workoutPlan.setTotalSets(planSets);
+
+        // Flush here so the batched inserts run now and createdAt is populated for the response
+        WorkoutPlan savedPlan = workoutPlanRepository.saveAndFlush(workoutPlan);
+        if (assignedLifter != null) {
+            lifterProgressService.refresh(savedPlan, false);
+        }
+        log.info("Workout plan created with id: {} ({} weeks, {} sets)",
+                savedPlan.getPlanId(), savedPlan.getWeeks().size(), planSets);
+
+        List<WorkoutWeekResponse> weekResponses = savedPlan.getWeeks().stream()
+                .map(week -> mapToWeekTree(week, week.getDays().stream()
+                        .map(day -> mapToDayTree(day, numbered(day.getExercises(),
+                                (exercise, exerciseOrder) -> mapToExerciseTree(exercise, exerciseOrder,
+                                        numbered(exercise.getSets(), this::mapToSetResponse)))))
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+
+        return mapToTreeResponse(savedPlan, weekResponses);
+    }
+
+    /**
+     * Creates a new active plan from a template. Only the plan row goes through JPA; weeks, days, exercises
+     * and sets are copied with one INSERT ... SELECT per level, so the template tree is never loaded into
+     * memory. Copies keep the targets and set totals, and drop all recorded performance. The copy belongs to
+     * {@code coachId}, the coach instantiating it; a null coach keeps the template's owner.
+     */
+    @Transactional
+    public WorkoutPlanSummaryResponse instantiateTemplate(UUID templateId, UUID coachId, WorkoutPlanInstantiateRequest request) {
+        log.info("Instantiating workout plan from template: {}", templateId);
+
+        WorkoutPlan template = workoutPlanRepository.findById(templateId)
+                .orElseThrow(() -> new WorkoutPlanNotFoundException(templateId));
+
+        if (!template.getIsTemplate()) {
+            throw new InvalidWorkoutStructureException(templateId, "plan is not a template");
+        }
+
+        Coach coach = coachId != null ? findCoach(coachId) : template.getCoach();
+        Lifter assignedLifter = findAssignableLifter(request.getAssignedLifterId());
+
+        WorkoutPlan workoutPlan = WorkoutPlan.builder()
+                .name(request.getName() != null ? request.getName() : template.getName())
+                .description(template.getDescription())
+                .totalWeeks(template.getTotalWeeks())
+                .coach(coach)
+                .assignedLifter(assignedLifter)
+                .isTemplate(false)
+                .isActive(true)
+                .totalSets(template.getTotalSets())
+                .build();
+
+        // The plan row must exist before the copied weeks can reference it
+        WorkoutPlan savedPlan = workoutPlanRepository.saveAndFlush(workoutPlan);
+        UUID planId = savedPlan.getPlanId();
+
+        int weeks = workoutWeekRepository.copyWeeksToPlan(templateId, planId);
+        int days = workoutDayRepository.copyDaysToPlan(templateId, planId);
+        int exercises = exerciseRepository.copyExercisesToPlan(templateId, planId);
+        int sets = workoutSetRepository.copySetsToPlan(templateId, planId);
+
+        if (assignedLifter != null) {
+            lifterProgressService.refresh(savedPlan, false);
+        }
+        log.info("Workout plan {} instantiated from template {} ({} weeks, {} days, {} exercises, {} sets)",
+                planId, templateId, weeks, days, exercises, sets);
+
+        return mapToSummaryResponse(savedPlan);
+    }
 
-        return mapToResponse(savedPlan);
+    // Single indexed lookup used to answer conditional GETs without loading the plan tree
+    @Transactional(readOnly = true)
+    public long getWorkoutPlanRevision(UUID planId) {
+        return workoutPlanRepository.findRevisionByPlanId(planId)
+                .orElseThrow(() -> new WorkoutPlanNotFoundException(planId));
     }
 
     @Transactional(readOnly = true)
@@ -84,29 +248,70 @@ public class WorkoutPlanService {
     }
 
     @Transactional(readOnly = true)
-    public List<WorkoutPlanSummaryResponse> getWorkoutPlansByCoach(UUID coachId) {
+    public WorkoutPlanTreeResponse getWorkoutPlanTree(UUID planId) {
+        log.info("Fetching full tree for workout plan: {}", planId);
+
+        // One flat query per level, so the query count stays constant regardless of plan size
+        WorkoutPlan plan = workoutPlanRepository.findByIdWithCoachAndLifter(planId)
+                .orElseThrow(() -> new WorkoutPlanNotFoundException(planId));
+        List<WorkoutWeek> weeks = workoutWeekRepository.findByWorkoutPlan_PlanIdOrderByWeekNumber(planId);
+        List<WorkoutDay> days = workoutDayRepository.findByPlanIdOrderByWeekAndDay(planId);
+        List<Exercise> exercises = exerciseRepository.findByPlanIdOrderByWeekDayAndOrder(planId);
+        List<WorkoutSet> sets = workoutSetRepository.findByPlanIdOrderByWeekDayExerciseAndSet(planId);
+
+        // Stitch bottom-up by parent id; each list is already in display order, so positions give the numbers
+        Map<UUID, List<WorkoutSet>> setsByExercise = sets.stream()
+                .collect(Collectors.groupingBy(set -> set.getExercise().getExerciseId()));
+
+        Map<UUID, List<ExerciseResponse>> exercisesByDay = exercises.stream()
+                .collect(Collectors.groupingBy(exercise -> exercise.getWorkoutDay().getDayId()))
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> numbered(entry.getValue(),
+                        (exercise, exerciseOrder) -> mapToExerciseTree(exercise, exerciseOrder,
+                                numbered(setsByExercise.getOrDefault(exercise.getExerciseId(), List.of()), this::mapToSetResponse)))));
+
+        Map<UUID, List<WorkoutDayResponse>> daysByWeek = days.stream()
+                .collect(Collectors.groupingBy(day -> day.getWorkoutWeek().getWeekId(),
+                        Collectors.mapping(day -> mapToDayTree(day,
+                                exercisesByDay.getOrDefault(day.getDayId(), List.of())), Collectors.toList())));
+
+        List<WorkoutWeekResponse> weekResponses = weeks.stream()
+                .map(week -> mapToWeekTree(week, daysByWeek.getOrDefault(week.getWeekId(), List.of())))
+                .collect(Collectors.toList());
+
+        return mapToTreeResponse(plan, weekResponses);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<WorkoutPlanSummaryResponse> getWorkoutPlansByCoach(UUID coachId, int limit, String after) {
         log.info("Fetching workout plans for coach: {}", coachId);
 
-        Coach coach = coachRepository.findById(coachId)
-                .orElseThrow(() -> new CoachNotFoundException(coachId));
+        if (!coachRepository.existsById(coachId)) {
+            throw new CoachNotFoundException(coachId);
+        }
 
-        return workoutPlanRepository.findByCoach_CoachId(coachId)
-                .stream()
-                .map(this::mapToSummaryResponse)
-                .collect(Collectors.toList());
+        PageCursor cursor = PageCursor.decode(after);
+        List<PlanSummaryView> plans = cursor == null
+                ? workoutPlanRepository.findFirstPageByCoachId(coachId, PageCursor.fetchLimit(limit))
+                : workoutPlanRepository.findPageByCoachIdAfter(coachId, cursor.createdAt(), cursor.id(),
+                        PageCursor.fetchLimit(limit));
+
+        return PageCursor.page(plans, limit,
+                plan -> new PageCursor(plan.getCreatedAt(), plan.getPlanId()), this::mapToSummaryResponse);
     }
 
     @Transactional(readOnly = true)
     public List<WorkoutPlanSummaryResponse> getWorkoutPlansByLifter(UUID lifterId) {
         log.info("Fetching workout plans for lifter: {}", lifterId);
 
-        Lifter lifter = lifterRepository.findById(lifterId)
-                .orElseThrow(() -> new LifterNotFoundException(lifterId));
+        if (!lifterRepository.existsById(lifterId)) {
+            throw new LifterNotFoundException(lifterId);
+        }
 
-        return workoutPlanRepository.findByAssignedLifter_LifterId(lifterId)
+        return workoutPlanRepository.findSummariesByLifterId(lifterId)
                 .stream()
                 .map(this::mapToSummaryResponse)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Transactional
@@ -125,6 +330,10 @@ public class WorkoutPlanService {
         }
 
         if (request.getIsActive() != null) {
+            if (!request.getIsActive().equals(plan.getIsActive())) {
+                // Cached write checks for this plan's weeks, days, exercises and sets still hold the old flag
+                workoutPlanGuard.invalidatePlan(planId);
+            }
             plan.setIsActive(request.getIsActive());
         }
 
@@ -144,12 +353,16 @@ public class WorkoutPlanService {
                     });
 
             plan.setAssignedLifter(lifter);
+            workoutPlanGuard.invalidatePlan(planId);
         }
 
         WorkoutPlan updatedPlan = workoutPlanRepository.save(plan);
+        lifterProgressService.refresh(updatedPlan, false);
         log.info("Workout plan updated with id: {}", planId);
 
-        return mapToResponse(updatedPlan);
+        WorkoutPlanRepository.PlanStatsView stats = workoutPlanRepository.findStatsByPlanId(planId)
+                .orElseThrow(() -> new WorkoutPlanNotFoundException(planId));
+        return mapToResponse(updatedPlan, stats.getTotalDays().intValue(), stats.getTotalExercises().intValue());
     }
 
     @Transactional
@@ -173,6 +386,9 @@ public class WorkoutPlanService {
 
         plan.setAssignedLifter(lifter);
         workoutPlanRepository.save(plan);
+        // The cached owner pair decides who may open this plan's weeks, days, exercises and sets
+        workoutPlanGuard.invalidatePlan(planId);
+        lifterProgressService.refresh(plan, false);
 
         log.info("Lifter {} assigned to workout plan {}", request.getLifterId(), planId);
     }
@@ -190,6 +406,8 @@ public class WorkoutPlanService {
 
         plan.setAssignedLifter(null);
         workoutPlanRepository.save(plan);
+        workoutPlanGuard.invalidatePlan(planId);
+        lifterProgressService.removeForPlan(planId);
 
         log.info("Lifter unassigned from workout plan {}", planId);
     }
@@ -198,10 +416,14 @@ public class WorkoutPlanService {
     public void deleteWorkoutPlan(UUID planId) {
         log.info("Deleting workout plan with id: {}", planId);
 
-        WorkoutPlan plan = workoutPlanRepository.findById(planId)
-                .orElseThrow(() -> new WorkoutPlanNotFoundException(planId));
+        if (!workoutPlanRepository.existsById(planId)) {
+            throw new WorkoutPlanNotFoundException(planId);
+        }
 
-        workoutPlanRepository.delete(plan);
+        lifterProgressService.removeForPlan(planId);
+        workoutPlanGuard.invalidatePlan(planId);
+        // One DELETE on the plan row; the database cascades to weeks, days, exercises and sets
+        workoutPlanRepository.deleteByPlanId(planId);
         log.info("Workout plan deleted with id: {}", planId);
     }
 
@@ -209,38 +431,34 @@ public class WorkoutPlanService {
     public WorkoutStatsResponse getWorkoutPlanStats(UUID planId) {
         log.info("Fetching stats for workout plan: {}", planId);
 
-        WorkoutPlan plan = workoutPlanRepository.findById(planId)
+        WorkoutPlanRepository.PlanStatsView stats = workoutPlanRepository.findStatsByPlanId(planId)
                 .orElseThrow(() -> new WorkoutPlanNotFoundException(planId));
 
-        Long totalSets = workoutSetRepository.countByPlanId(planId);
-        Long completedSets = workoutSetRepository.countCompletedByPlanId(planId);
+        long totalSets = stats.getTotalSets();
+        long completedSets = stats.getCompletedSets();
+        double completionPercentage = totalSets > 0 ? ((double) completedSets / totalSets) * 100 : 0.0;
 
-        double completionPercentage = totalSets > 0 ? (completedSets.doubleValue() / totalSets.doubleValue()) * 100 : 0.0;
+        // Current day is the first day with an open set; once everything is done it stays on the last day.
+        // Null until the first set is completed.
+        Integer currentDayKey = null;
+        if (completedSets > 0) {
+            currentDayKey = stats.getFirstOpenDayKey() != null ? stats.getFirstOpenDayKey() : stats.getLastDayKey();
+        }
 
         return WorkoutStatsResponse.builder()
-                .totalWeeks(plan.getTotalWeeks())
-                .totalDays(calculateTotalDays(plan))
-                .totalExercises(calculateTotalExercises(plan))
-                .totalSets(totalSets.intValue())
-                .completedSets(completedSets.intValue())
+                .totalWeeks(stats.getTotalWeeks())
+                .totalDays(stats.getTotalDays().intValue())
+                .totalExercises(stats.getTotalExercises().intValue())
+                .totalSets((int) totalSets)
+                .completedSets((int) completedSets)
                 .completionPercentage(completionPercentage)
+                .currentWeek(currentDayKey != null ? currentDayKey / WorkoutPlanRepository.DAY_KEY_WEEK_FACTOR : null)
+                .currentDay(currentDayKey != null ? currentDayKey % WorkoutPlanRepository.DAY_KEY_WEEK_FACTOR : null)
                 .build();
     }
 
-    private Integer calculateTotalDays(WorkoutPlan plan) {
-        return plan.getWeeks().stream()
-                .mapToInt(week -> week.getDays().size())
-                .sum();
-    }
-
-    private Integer calculateTotalExercises(WorkoutPlan plan) {
-        return plan.getWeeks().stream()
-                .flatMap(week -> week.getDays().stream())
-                .mapToInt(day -> day.getExercises().size())
-                .sum();
-    }
-
-    private WorkoutPlanResponse mapToResponse(WorkoutPlan plan) {
+    // Day and exercise totals come from the caller, so the response never walks the lazy week/day/exercise tree
+    private WorkoutPlanResponse mapToResponse(WorkoutPlan plan, int totalDays, int totalExercises) {
         return WorkoutPlanResponse.builder()
                 .planId(plan.getPlanId())
                 .name(plan.getName())
@@ -254,8 +472,8 @@ public class WorkoutPlanService {
                 .weeks(plan.getWeeks().stream()
                         .map(this::mapToWeekSummary)
                         .collect(Collectors.toList()))
-                .totalDays(calculateTotalDays(plan))
-                .totalExercises(calculateTotalExercises(plan))
+                .totalDays(totalDays)
+                .totalExercises(totalExercises)
                 .build();
     }
 
@@ -288,6 +506,127 @@ public class WorkoutPlanService {
                 .build();
     }
 
+    private WorkoutPlanSummaryResponse mapToSummaryResponse(PlanSummaryView plan) {
+        LifterSummaryResponse lifterSummary = null;
+
+        if (plan.getLifterId() != null) {
+            lifterSummary = LifterSummaryResponse.builder()
+                    .lifterId(plan.getLifterId())
+                    .firstName(plan.getLifterFirstName())
+                    .lastName(plan.getLifterLastName())
+                    .username(plan.getLifterUsername())
+                    .build();
+        }
+
+        return WorkoutPlanSummaryResponse.builder()
+                .planId(plan.getPlanId())
+                .name(plan.getName())
+                .description(plan.getDescription())
+                .totalWeeks(plan.getTotalWeeks())
+                .isActive(plan.getIsActive())
+                .isTemplate(plan.getIsTemplate())
+                .createdAt(plan.getCreatedAt())
+                .coach(CoachSummaryResponse.builder()
+                        .coachId(plan.getCoachId())
+                        .firstName(plan.getCoachFirstName())
+                        .lastName(plan.getCoachLastName())
+                        .username(plan.getCoachUsername())
+                        .build())
+                .assignedLifter(lifterSummary)
+                .build();
+    }
+
+    private Coach findCoach(UUID coachId) {
+        return coachRepository.findById(coachId)
+                .orElseThrow(() -> new CoachNotFoundException(coachId));
+    }
+
+    // Optional lifter for a new plan; a lifter can only hold one active plan at a time
+    private Lifter findAssignableLifter(UUID lifterId) {
+        if (lifterId == null) {
+            return null;
+        }
+
+        Lifter lifter = lifterRepository.findById(lifterId)
+                .orElseThrow(() -> new LifterNotFoundException(lifterId));
+
+        if (workoutPlanRepository.findActiveByLifterId(lifterId).isPresent()) {
+            throw new WorkoutPlanAlreadyAssignedException(lifterId);
+        }
+        return lifter;
+    }
+
+    // Sibling numbers must be unique at every level; the whole request is checked before anything is persisted
+    private void validateTreeNumbering(WorkoutPlanTreeRequest request) {
+        Set<Integer> weekNumbers = new HashSet<>();
+        for (WorkoutWeekTreeRequest week : orEmpty(request.getWeeks())) {
+            if (!weekNumbers.add(week.getWeekNumber())) {
+                throw new DuplicateWorkoutStructureException("Week " + week.getWeekNumber() + " appears more than once in the plan");
+            }
+            if (week.getWeekNumber() > request.getTotalWeeks()) {
+                throw new InvalidWorkoutStructureException("create plan",
+                        "Week number " + week.getWeekNumber() + " exceeds plan total weeks " + request.getTotalWeeks());
+            }
+
+            Set<Integer> dayNumbers = new HashSet<>();
+            for (WorkoutDayTreeRequest day : orEmpty(week.getDays())) {
+                String dayPath = "week " + week.getWeekNumber() + " day " + day.getDayNumber();
+                if (!dayNumbers.add(day.getDayNumber())) {
+                    throw new DuplicateWorkoutStructureException("Day " + day.getDayNumber()
+                            + " appears more than once in week " + week.getWeekNumber());
+                }
+
+                Set<Integer> exerciseOrders = new HashSet<>();
+                for (ExerciseTreeRequest exercise : orEmpty(day.getExercises())) {
+                    if (!exerciseOrders.add(exercise.getExerciseOrder())) {
+                        throw new DuplicateWorkoutStructureException("Exercise " + exercise.getExerciseOrder()
+                                + " appears more than once in " + dayPath);
+                    }
+
+                    Set<Integer> setNumbers = new HashSet<>();
+                    for (WorkoutSetTreeRequest set : orEmpty(exercise.getSets())) {
+                        if (!setNumbers.add(set.getSetNumber())) {
+                            throw new DuplicateWorkoutStructureException("Set " + set.getSetNumber()
+                                    + " appears more than once in exercise " + exercise.getExerciseOrder() + " of " + dayPath);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> List<T> orEmpty(List<T> items) {
+        return items != null ? items : List.of();
+    }
+
+    private static <T> List<T> sorted(List<T> items, Function<T, Integer> number) {
+        return orEmpty(items).stream()
+                .sorted(Comparator.comparing(number))
+                .collect(Collectors.toList());
+    }
+
+    // Maps children that are already in display order, passing each one's 1-based position
+    private static <T, R> List<R> numbered(List<T> items, BiFunction<T, Integer, R> mapper) {
+        return IntStream.range(0, items.size())
+                .mapToObj(index -> mapper.apply(items.get(index), index + 1))
+                .collect(Collectors.toList());
+    }
+
+    private WorkoutPlanTreeResponse mapToTreeResponse(WorkoutPlan plan, List<WorkoutWeekResponse> weekResponses) {
+        return WorkoutPlanTreeResponse.builder()
+                .planId(plan.getPlanId())
+                .name(plan.getName())
+                .description(plan.getDescription())
+                .totalWeeks(plan.getTotalWeeks())
+                .isActive(plan.getIsActive())
+                .isTemplate(plan.getIsTemplate())
+                .createdAt(plan.getCreatedAt())
+                .coach(mapToCoachSummary(plan.getCoach()))
+                .assignedLifter(plan.getAssignedLifter() != null ? mapToLifterSummary(plan.getAssignedLifter()) : null)
+                .weeks(weekResponses)
+                .build();
+    }
+
     private WorkoutWeekSummaryResponse mapToWeekSummary(WorkoutWeek week) {
         return WorkoutWeekSummaryResponse.builder()
                 .weekId(week.getWeekId())
@@ -297,6 +636,56 @@ public class WorkoutPlanService {
                 .build();
     }
 
+    private WorkoutWeekResponse mapToWeekTree(WorkoutWeek week, List<WorkoutDayResponse> days) {
+        return WorkoutWeekResponse.builder()
+                .weekId(week.getWeekId())
+                .weekNumber(week.getWeekNumber())
+                .notes(week.getNotes())
+                .days(days)
+                .dayCount(days.size())
+                .isCompleted(!days.isEmpty() && days.stream().allMatch(WorkoutDayResponse::getIsCompleted))
+                .build();
+    }
+
+    private WorkoutDayResponse mapToDayTree(WorkoutDay day, List<ExerciseResponse> exercises) {
+        return WorkoutDayResponse.builder()
+                .dayId(day.getDayId())
+                .dayNumber(day.getDayNumber())
+                .name(day.getName())
+                .notes(day.getNotes())
+                .exercises(exercises)
+                .exerciseCount(exercises.size())
+                .isCompleted(!exercises.isEmpty() && exercises.stream().allMatch(ExerciseResponse::getIsCompleted))
+                .build();
+    }
+
+    private ExerciseResponse mapToExerciseTree(Exercise exercise, int exerciseOrder, List<WorkoutSetResponse> sets) {
+        return ExerciseResponse.builder()
+                .exerciseId(exercise.getExerciseId())
+                .name(exercise.getName())
+                .exerciseOrder(exerciseOrder)
+                .notes(exercise.getNotes())
+                .sets(sets)
+                .setCount(sets.size())
+                .isCompleted(!sets.isEmpty() && sets.stream().allMatch(WorkoutSetResponse::getIsCompleted))
+                .build();
+    }
+
+    private WorkoutSetResponse mapToSetResponse(WorkoutSet set, int setNumber) {
+        return WorkoutSetResponse.builder()
+                .setId(set.getSetId())
+                .setNumber(setNumber)
+                .targetReps(set.getTargetReps())
+                .targetWeight(set.getTargetWeight())
+                .targetRpe(set.getTargetRpe())
+                .actualReps(set.getActualReps())
+                .actualWeight(set.getActualWeight())
+                .actualRpe(set.getActualRpe())
+                .lifterNotes(set.getLifterNotes())
+                .isCompleted(set.getIsCompleted())
+                .build();
+    }
+
     private CoachSummaryResponse mapToCoachSummary(Coach coach) {
         User user = coach.getApp_user();
         return CoachSummaryResponse.builder()
@@ -2,20 +2,37 @@ package com.strengthhub.strength_hub_api.service.workout;
 
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutSetRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionBatchItem;
+import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionBatchRequest;
+import com.strengthhub.strength_hub_api.dto.response.workout.SetCompletionBatchResponse;
+import com.strengthhub.strength_hub_api.dto.response.workout.SetCompletionResult;
 import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutSetResponse;
+import com.strengthhub.strength_hub_api.enums.SetCompletionStatus;
 import com.strengthhub.strength_hub_api.exception.workout.*;
 import com.strengthhub.strength_hub_api.model.workout.Exercise;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutPlan;
 import com.strengthhub.strength_hub_api.model.workout.WorkoutSet;
 import com.strengthhub.strength_hub_api.repository.workout.ExerciseRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
 import com.strengthhub.strength_hub_api.repository.workout.WorkoutSetRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutSetRepository.SetSortKeyView;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,26 +41,21 @@ public class WorkoutSetService {
 
     private final WorkoutSetRepository workoutSetRepository;
     private final ExerciseRepository exerciseRepository;
+    private final WorkoutPlanRepository workoutPlanRepository;
+    private final WorkoutPlanGuard workoutPlanGuard;
+    private final WorkoutCounterService workoutCounterService;
 
     @Transactional
     public WorkoutSetResponse createWorkoutSet(WorkoutSetRequest request) {
         log.info("Creating workout set {} for exercise {}", request.getSetNumber(), request.getExerciseId());
 
-        Exercise exercise = exerciseRepository.findById(request.getExerciseId())
-                .orElseThrow(() -> new ExerciseNotFoundException(request.getExerciseId()));
-
-        if (!exercise.getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(exercise.getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
-        // Check if set number already exists in this exercise
-        if (workoutSetRepository.existsByExercise_ExerciseIdAndSetNumber(
-                request.getExerciseId(), request.getSetNumber())) {
-            throw new DuplicateWorkoutStructureException("Set", request.getSetNumber(), request.getExerciseId());
-        }
+        // The guard has already proven the exercise exists, so a reference is enough to link the set
+        PlanScope scope = workoutPlanGuard.requireActiveExercise(request.getExerciseId());
+        Exercise exercise = exerciseRepository.getReferenceById(request.getExerciseId());
 
+        // The set number is the position to insert at; sets from there on move down by one
         WorkoutSet workoutSet = WorkoutSet.builder()
-                .setNumber(request.getSetNumber())
+                .sortKey(sortKeyForPosition(request.getExerciseId(), request.getSetNumber(), null))
                 .targetReps(request.getTargetReps())
                 .targetWeight(request.getTargetWeight())
                 .targetRpe(request.getTargetRpe())
@@ -52,9 +64,10 @@ public class WorkoutSetService {
                 .build();
 
         WorkoutSet savedSet = workoutSetRepository.save(workoutSet);
+        workoutCounterService.recordSetChange(scope, request.getExerciseId(), 1, 0);
         log.info("Workout set created with id: {}", savedSet.getSetId());
 
-        return mapToResponse(savedSet);
+        return mapToResponse(savedSet, setNumberOf(savedSet));
     }
 
     @Transactional(readOnly = true)
@@ -64,7 +77,7 @@ public class WorkoutSetService {
         WorkoutSet workoutSet = workoutSetRepository.findById(setId)
                 .orElseThrow(() -> new WorkoutSetNotFoundException(setId));
 
-        return mapToResponse(workoutSet);
+        return mapToResponse(workoutSet, setNumberOf(workoutSet));
     }
 
     @Transactional(readOnly = true)
@@ -74,9 +87,9 @@ public class WorkoutSetService {
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        return workoutSetRepository.findByExercise_ExerciseIdOrderBySetNumber(exerciseId)
-                .stream()
-                .map(this::mapToResponse)
+        List<WorkoutSet> sets = workoutSetRepository.findByExercise_ExerciseIdOrderBySortKey(exerciseId);
+        return IntStream.range(0, sets.size())
+                .mapToObj(index -> mapToResponse(sets.get(index), index + 1))
                 .collect(Collectors.toList());
     }
 
@@ -84,10 +97,12 @@ public class WorkoutSetService {
     public WorkoutSetResponse getWorkoutSetByExerciseAndNumber(UUID exerciseId, Integer setNumber) {
         log.info("Fetching set {} for exercise {}", setNumber, exerciseId);
 
-        WorkoutSet workoutSet = workoutSetRepository.findByExercise_ExerciseIdAndSetNumber(exerciseId, setNumber)
-                .orElseThrow(() -> new WorkoutSetNotFoundException(exerciseId, setNumber));
+        List<WorkoutSet> sets = workoutSetRepository.findByExercise_ExerciseIdOrderBySortKey(exerciseId);
+        if (setNumber < 1 || setNumber > sets.size()) {
+            throw new WorkoutSetNotFoundException(exerciseId, setNumber);
+        }
 
-        return mapToResponse(workoutSet);
+        return mapToResponse(sets.get(setNumber - 1), setNumber);
     }
 
     @Transactional(readOnly = true)
@@ -97,9 +112,10 @@ public class WorkoutSetService {
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        return workoutSetRepository.findByExercise_ExerciseIdAndIsCompletedOrderBySetNumber(exerciseId, true)
+        List<Long> sortKeys = workoutSetRepository.findSortKeysByExerciseId(exerciseId);
+        return workoutSetRepository.findByExercise_ExerciseIdAndIsCompletedOrderBySortKey(exerciseId, true)
                 .stream()
-                .map(this::mapToResponse)
+                .map(workoutSet -> mapToResponse(workoutSet, SortKeys.rank(sortKeys, workoutSet.getSortKey())))
                 .collect(Collectors.toList());
     }
 
@@ -110,9 +126,10 @@ public class WorkoutSetService {
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
+        List<Long> sortKeys = workoutSetRepository.findSortKeysByExerciseId(exerciseId);
         return workoutSetRepository.findByExerciseIdWithNotes(exerciseId)
                 .stream()
-                .map(this::mapToResponse)
+                .map(workoutSet -> mapToResponse(workoutSet, SortKeys.rank(sortKeys, workoutSet.getSortKey())))
                 .collect(Collectors.toList());
     }
 
@@ -120,22 +137,13 @@ public class WorkoutSetService {
     public WorkoutSetResponse updateWorkoutSet(UUID setId, WorkoutSetRequest request) {
         log.info("Updating workout set with id: {}", setId);
 
+        PlanScope scope = workoutPlanGuard.requireActiveSet(setId);
         WorkoutSet workoutSet = workoutSetRepository.findById(setId)
                 .orElseThrow(() -> new WorkoutSetNotFoundException(setId));
 
-        if (!workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
-        // Update set number if changed
-        if (request.getSetNumber() != null && !request.getSetNumber().equals(workoutSet.getSetNumber())) {
-            // Check if new set number already exists in this exercise
-            if (workoutSetRepository.existsByExercise_ExerciseIdAndSetNumber(
-                    workoutSet.getExercise().getExerciseId(), request.getSetNumber())) {
-                throw new DuplicateWorkoutStructureException("Set", request.getSetNumber(), workoutSet.getExercise().getExerciseId());
-            }
-
-            workoutSet.setSetNumber(request.getSetNumber());
+        // Move the set if its number changed; only this row's sort key is rewritten
+        if (request.getSetNumber() != null && !request.getSetNumber().equals(setNumberOf(workoutSet))) {
+            workoutSet.setSortKey(sortKeyForPosition(workoutSet.getExercise().getExerciseId(), request.getSetNumber(), workoutSet));
         }
 
         if (request.getTargetReps() != null) {
@@ -151,21 +159,21 @@ public class WorkoutSetService {
         }
 
         WorkoutSet updatedSet = workoutSetRepository.save(workoutSet);
+        workoutPlanRepository.bumpRevision(scope.planId());
         log.info("Workout set updated with id: {}", setId);
 
-        return mapToResponse(updatedSet);
+        return mapToResponse(updatedSet, setNumberOf(updatedSet));
     }
 
     @Transactional
     public WorkoutSetResponse completeWorkoutSet(UUID setId, SetCompletionRequest request) {
         log.info("Completing workout set with id: {}", setId);
 
+        PlanScope scope = workoutPlanGuard.requireActiveSet(setId);
         WorkoutSet workoutSet = workoutSetRepository.findById(setId)
                 .orElseThrow(() -> new WorkoutSetNotFoundException(setId));
 
-        if (!workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
+        boolean wasCompleted = workoutSet.getIsCompleted();
 
         workoutSet.setActualReps(request.getActualReps());
         workoutSet.setActualWeight(request.getActualWeight());
@@ -174,21 +182,94 @@ public class WorkoutSetService {
         workoutSet.setIsCompleted(true);
 
         WorkoutSet completedSet = workoutSetRepository.save(workoutSet);
+        // Only the exercise id is read from the lazy reference, which does not initialize it
+        workoutCounterService.recordSetChange(scope, workoutSet.getExercise().getExerciseId(), 0, wasCompleted ? 0 : 1);
         log.info("Workout set completed with id: {}", setId);
 
-        return mapToResponse(completedSet);
+        return mapToResponse(completedSet, setNumberOf(completedSet));
+    }
+
+    /**
+     * Completes many sets in one transaction. Sets and their plans are loaded with a single query, the
+     * updates are flushed as JDBC batches and counters and plan revisions are adjusted once per affected row. Items that
+     * cannot be applied are reported individually and do not roll back the rest of the batch.
+     */
+    @Transactional
+    public SetCompletionBatchResponse completeWorkoutSets(SetCompletionBatchRequest request) {
+        List<SetCompletionBatchItem> items = request.getSets();
+        log.info("Completing {} workout sets in batch", items.size());
+
+        Set<UUID> setIds = items.stream()
+                .map(SetCompletionBatchItem::getSetId)
+                .collect(Collectors.toSet());
+        Map<UUID, WorkoutSet> setsById = workoutSetRepository.findAllWithPlanBySetIdIn(setIds)
+                .stream()
+                .collect(Collectors.toMap(WorkoutSet::getSetId, Function.identity()));
+
+        List<SetCompletionResult> results = new ArrayList<>(items.size());
+        List<WorkoutSet> completedSets = new ArrayList<>();
+        Map<Exercise, Integer> completedDeltas = new LinkedHashMap<>();
+        Set<UUID> seenSetIds = new HashSet<>();
+        Map<UUID, List<Long>> sortKeysByExercise = sortKeysByExercise(setsById.values());
+
+        for (SetCompletionBatchItem item : items) {
+            UUID setId = item.getSetId();
+            WorkoutSet workoutSet = setsById.get(setId);
+
+            if (!seenSetIds.add(setId)) {
+                results.add(failedResult(setId, SetCompletionStatus.DUPLICATE, "Set appears more than once in the batch"));
+                continue;
+            }
+            if (workoutSet == null) {
+                results.add(failedResult(setId, SetCompletionStatus.NOT_FOUND, "Workout set not found with id: " + setId));
+                continue;
+            }
+
+            WorkoutPlan plan = workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan();
+            if (!plan.getIsActive()) {
+                results.add(failedResult(setId, SetCompletionStatus.PLAN_INACTIVE, "Workout plan is not active: " + plan.getPlanId()));
+                continue;
+            }
+
+            SetCompletionRequest completion = item.getCompletion();
+            // Re-completing a set counts nothing new, but the zero entry still bumps its plan's revision
+            completedDeltas.merge(workoutSet.getExercise(), workoutSet.getIsCompleted() ? 0 : 1, Integer::sum);
+            workoutSet.setActualReps(completion.getActualReps());
+            workoutSet.setActualWeight(completion.getActualWeight());
+            workoutSet.setActualRpe(completion.getActualRpe());
+            workoutSet.setLifterNotes(completion.getLifterNotes());
+            workoutSet.setIsCompleted(true);
+
+            completedSets.add(workoutSet);
+            results.add(SetCompletionResult.builder()
+                    .setId(setId)
+                    .status(SetCompletionStatus.COMPLETED)
+                    .set(mapToResponse(workoutSet, SortKeys.rank(
+                            sortKeysByExercise.get(workoutSet.getExercise().getExerciseId()), workoutSet.getSortKey())))
+                    .build());
+        }
+
+        workoutSetRepository.saveAll(completedSets);
+        workoutCounterService.adjustCompletedForExercises(completedDeltas);
+        log.info("Batch completed {} of {} workout sets", completedSets.size(), items.size());
+
+        return SetCompletionBatchResponse.builder()
+                .requested(items.size())
+                .completed(completedSets.size())
+                .failed(items.size() - completedSets.size())
+                .results(results)
+                .build();
     }
 
     @Transactional
     public WorkoutSetResponse uncompleteWorkoutSet(UUID setId) {
         log.info("Uncompleting workout set with id: {}", setId);
 
+        PlanScope scope = workoutPlanGuard.requireActiveSet(setId);
         WorkoutSet workoutSet = workoutSetRepository.findById(setId)
                 .orElseThrow(() -> new WorkoutSetNotFoundException(setId));
 
-        if (!workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
+        boolean wasCompleted = workoutSet.getIsCompleted();
 
         workoutSet.setActualReps(null);
         workoutSet.setActualWeight(null);
@@ -197,23 +278,23 @@ public class WorkoutSetService {
         workoutSet.setIsCompleted(false);
 
         WorkoutSet uncompletedSet = workoutSetRepository.save(workoutSet);
+        workoutCounterService.recordSetChange(scope, workoutSet.getExercise().getExerciseId(), 0, wasCompleted ? -1 : 0);
         log.info("Workout set uncompleted with id: {}", setId);
 
-        return mapToResponse(uncompletedSet);
+        return mapToResponse(uncompletedSet, setNumberOf(uncompletedSet));
     }
 
     @Transactional
     public void deleteWorkoutSet(UUID setId) {
         log.info("Deleting workout set with id: {}", setId);
 
+        PlanScope scope = workoutPlanGuard.requireActiveSet(setId);
         WorkoutSet workoutSet = workoutSetRepository.findById(setId)
                 .orElseThrow(() -> new WorkoutSetNotFoundException(setId));
 
-        if (!workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
         workoutSetRepository.delete(workoutSet);
+        workoutCounterService.recordSetChange(scope, workoutSet.getExercise().getExerciseId(),
+                -1, workoutSet.getIsCompleted() ? -1 : 0);
         log.info("Workout set deleted with id: {}", setId);
     }
 
@@ -221,55 +302,35 @@ public class WorkoutSetService {
     public WorkoutSetResponse reorderWorkoutSet(UUID setId, Integer newSetNumber) {
         log.info("Reordering workout set {} to position {}", setId, newSetNumber);
 
+        PlanScope scope = workoutPlanGuard.requireActiveSet(setId);
         WorkoutSet workoutSet = workoutSetRepository.findById(setId)
                 .orElseThrow(() -> new WorkoutSetNotFoundException(setId));
 
-        if (!workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getIsActive()) {
-            throw new WorkoutPlanInactiveException(workoutSet.getExercise().getWorkoutDay().getWorkoutWeek().getWorkoutPlan().getPlanId());
-        }
-
         if (newSetNumber <= 0) {
             throw new InvalidWorkoutStructureException("reorder set", "Set number must be positive");
         }
 
         UUID exerciseId = workoutSet.getExercise().getExerciseId();
-        Integer currentSetNumber = workoutSet.getSetNumber();
+        List<Long> sortKeys = workoutSetRepository.findSortKeysByExerciseId(exerciseId);
+        int currentSetNumber = SortKeys.rank(sortKeys, workoutSet.getSortKey());
 
-        if (currentSetNumber.equals(newSetNumber)) {
-            return mapToResponse(workoutSet);
+        if (currentSetNumber == newSetNumber) {
+            return mapToResponse(workoutSet, currentSetNumber);
         }
 
-        // Get all sets in the exercise
-        List<WorkoutSet> exerciseSets = workoutSetRepository.findByExercise_ExerciseIdOrderBySetNumber(exerciseId);
-
         // Check if new set number position exists
-        if (newSetNumber > exerciseSets.size()) {
+        if (newSetNumber > sortKeys.size()) {
             throw new InvalidWorkoutStructureException("reorder set",
-                    "New set number " + newSetNumber + " exceeds total sets " + exerciseSets.size());
-        }
-
-        // Reorder sets
-        if (currentSetNumber < newSetNumber) {
-            // Moving down - shift sets up
-            for (WorkoutSet s : exerciseSets) {
-                if (s.getSetNumber() > currentSetNumber && s.getSetNumber() <= newSetNumber) {
-                    s.setSetNumber(s.getSetNumber() - 1);
-                }
-            }
-        } else {
-            // Moving up - shift sets down
-            for (WorkoutSet s : exerciseSets) {
-                if (s.getSetNumber() >= newSetNumber && s.getSetNumber() < currentSetNumber) {
-                    s.setSetNumber(s.getSetNumber() + 1);
-                }
-            }
+                    "New set number " + newSetNumber + " exceeds total sets " + sortKeys.size());
         }
 
-        workoutSet.setSetNumber(newSetNumber);
-        workoutSetRepository.saveAll(exerciseSets);
+        // Only the moved set is written: it takes a key between its new neighbours
+        workoutSet.setSortKey(sortKeyForPosition(exerciseId, newSetNumber, workoutSet));
+        workoutSetRepository.save(workoutSet);
 
+        workoutPlanRepository.bumpRevision(scope.planId());
         log.info("Workout set {} reordered to position {}", setId, newSetNumber);
-        return mapToResponse(workoutSet);
+        return mapToResponse(workoutSet, newSetNumber);
     }
 
     @Transactional(readOnly = true)
@@ -279,9 +340,7 @@ public class WorkoutSetService {
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        return workoutSetRepository.findMaxSetNumberByExerciseId(exerciseId)
-                .map(maxSetNumber -> maxSetNumber + 1)
-                .orElse(1);
+        return exercise.getTotalSets() + 1;
     }
 
     @Transactional(readOnly = true)
@@ -291,7 +350,7 @@ public class WorkoutSetService {
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        return workoutSetRepository.countByExercise_ExerciseIdAndIsCompleted(exerciseId, true);
+        return exercise.getCompletedSets().longValue();
     }
 
     @Transactional(readOnly = true)
@@ -301,13 +360,69 @@ public class WorkoutSetService {
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new ExerciseNotFoundException(exerciseId));
 
-        return workoutSetRepository.countByExercise_ExerciseId(exerciseId);
+        return exercise.getTotalSets().longValue();
+    }
+
+    /**
+     * Sort key that places a set at the 1-based {@code position} among the other sets of the exercise.
+     * {@code moving} is the set being repositioned, or null for a new set. When the neighbours at that
+     * position have no room left between them, the exercise's other sets are respaced first.
+     */
+    private long sortKeyForPosition(UUID exerciseId, int position, WorkoutSet moving) {
+        List<Long> siblingKeys = new ArrayList<>(workoutSetRepository.findSortKeysByExerciseId(exerciseId));
+        if (moving != null) {
+            siblingKeys.remove(moving.getSortKey());
+        }
+
+        Long sortKey = SortKeys.forPosition(siblingKeys, position);
+        if (sortKey != null) {
+            return sortKey;
+        }
+
+        log.info("Respacing set sort keys for exercise {}", exerciseId);
+        List<WorkoutSet> siblings = new ArrayList<>(workoutSetRepository.findByExercise_ExerciseIdOrderBySortKey(exerciseId));
+        if (moving != null) {
+            siblings.removeIf(sibling -> sibling.getSetId().equals(moving.getSetId()));
+        }
+        for (int index = 0; index < siblings.size(); index++) {
+            siblings.get(index).setSortKey(SortKeys.atIndex(index));
+        }
+        workoutSetRepository.saveAll(siblings);
+
+        return SortKeys.forPosition(siblings.stream().map(WorkoutSet::getSortKey).toList(), position);
+    }
+
+    // Public set number: 1-based rank of the set's sort key within its exercise
+    private int setNumberOf(WorkoutSet workoutSet) {
+        return workoutSetRepository.countByExercise_ExerciseIdAndSortKeyLessThanEqual(
+                workoutSet.getExercise().getExerciseId(), workoutSet.getSortKey()).intValue();
+    }
+
+    private Map<UUID, List<Long>> sortKeysByExercise(Collection<WorkoutSet> sets) {
+        Set<UUID> exerciseIds = sets.stream()
+                .map(workoutSet -> workoutSet.getExercise().getExerciseId())
+                .collect(Collectors.toSet());
+        if (exerciseIds.isEmpty()) {
+            return Map.of();
+        }
+        return workoutSetRepository.findSortKeysByExerciseIdIn(exerciseIds)
+                .stream()
+                .collect(Collectors.groupingBy(SetSortKeyView::getExerciseId,
+                        Collectors.mapping(SetSortKeyView::getSortKey, Collectors.toList())));
+    }
+
+    private SetCompletionResult failedResult(UUID setId, SetCompletionStatus status, String message) {
+        return SetCompletionResult.builder()
+                .setId(setId)
+                .status(status)
+                .message(message)
+                .build();
     }
 
-    private WorkoutSetResponse mapToResponse(WorkoutSet workoutSet) {
+    private WorkoutSetResponse mapToResponse(WorkoutSet workoutSet, int setNumber) {
         return WorkoutSetResponse.builder()
                 .setId(workoutSet.getSetId())
-                .setNumber(workoutSet.getSetNumber())
+                .setNumber(setNumber)
                 .targetReps(workoutSet.getTargetReps())
                 .targetWeight(workoutSet.getTargetWeight())
                 .targetRpe(workoutSet.getTargetRpe())
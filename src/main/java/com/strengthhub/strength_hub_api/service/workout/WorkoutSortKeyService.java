@@ -0,0 +1,44 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import com.strengthhub.strength_hub_api.repository.workout.ExerciseRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutSetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the gapped sort keys of sets and exercises roomy. Reorders take midpoints and slowly use up the gap
+ * between neighbours; a nightly pass spaces every parent's children {@link SortKeys#GAP} apart again so
+ * request-time respacing stays rare.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkoutSortKeyService {
+
+    private final ExerciseRepository exerciseRepository;
+    private final WorkoutSetRepository workoutSetRepository;
+
+    // Respace all sort keys once a day at 3:45 AM, after the counter repair
+    @Scheduled(cron = "0 45 3 * * ?")
+    public void scheduledRespace() {
+        log.info("Starting sort key respacing");
+        RespaceReport report = respaceSortKeys();
+        log.info("Sort key respacing moved {} exercises and {} sets", report.exercises(), report.sets());
+    }
+
+    @Transactional
+    public RespaceReport respaceSortKeys() {
+        return new RespaceReport(
+                exerciseRepository.respaceSortKeys(SortKeys.GAP),
+                workoutSetRepository.respaceSortKeys(SortKeys.GAP));
+    }
+
+    /**
+     * Number of rows per level whose sort key was rewritten.
+     */
+    public record RespaceReport(int exercises, int sets) {
+    }
+}
@@ -26,6 +26,7 @@ public class WorkoutWeekService {
 
     private final WorkoutWeekRepository workoutWeekRepository;
     private final WorkoutPlanRepository workoutPlanRepository;
+    private final WorkoutCounterService workoutCounterService;
 
     @Transactional
     public WorkoutWeekResponse createWorkoutWeek(WorkoutWeekRequest request) {
@@ -59,11 +60,19 @@ public class WorkoutWeekService {
                 .build();
 
         WorkoutWeek savedWeek = workoutWeekRepository.save(week);
+        workoutPlanRepository.bumpRevision(plan.getPlanId());
         log.info("Workout week created with id: {}", savedWeek.getWeekId());
 
         return mapToResponse(savedWeek);
     }
 
+    // Revision of the owning plan, used as the week's ETag
+    @Transactional(readOnly = true)
+    public long getPlanRevisionForWeek(UUID weekId) {
+        return workoutWeekRepository.findPlanRevisionByWeekId(weekId)
+                .orElseThrow(() -> new WorkoutWeekNotFoundException(weekId));
+    }
+
     @Transactional(readOnly = true)
     public WorkoutWeekResponse getWorkoutWeekById(UUID weekId) {
         log.info("Fetching workout week with id: {}", weekId);
@@ -132,6 +141,7 @@ public class WorkoutWeekService {
         }
 
         WorkoutWeek updatedWeek = workoutWeekRepository.save(week);
+        workoutPlanRepository.bumpRevision(week.getWorkoutPlan().getPlanId());
         log.info("Workout week updated with id: {}", weekId);
 
         return mapToResponse(updatedWeek);
@@ -148,7 +158,9 @@ public class WorkoutWeekService {
             throw new WorkoutPlanInactiveException(week.getWorkoutPlan().getPlanId());
         }
 
-        workoutWeekRepository.delete(week);
+        workoutWeekRepository.deleteByWeekId(weekId);
+        workoutCounterService.removeWeek(week);
+        workoutPlanRepository.bumpRevision(week.getWorkoutPlan().getPlanId());
         log.info("Workout week deleted with id: {}", weekId);
     }
 
@@ -194,19 +206,7 @@ public class WorkoutWeekService {
                 .name(day.getName())
                 .notes(day.getNotes())
                 .exerciseCount(day.getExerciseCount())
-                .isCompleted(calculateDayCompletion(day))
+                .isCompleted(day.isAllSetsCompleted())
                 .build();
     }
-
-    private Boolean calculateDayCompletion(WorkoutDay day) {
-        if (day.getExercises().isEmpty()) {
-            return false;
-        }
-
-        return day.getExercises().stream()
-                .allMatch(exercise ->
-                        !exercise.getSets().isEmpty() &&
-                                exercise.getSets().stream().allMatch(set -> set.getIsCompleted())
-                );
-    }
 }
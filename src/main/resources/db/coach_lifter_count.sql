@@ -0,0 +1,21 @@
+-- Adds the denormalized lifter_count to coach, backfills it from lifter and indexes it for the coach
+-- leaderboard and empty-roster lookups (PostgreSQL 11+). Run once against databases created before the
+-- column existed; afterwards CoachLifterCountService keeps it current and its nightly repair fixes any drift.
+
+BEGIN;
+
+ALTER TABLE coach ADD COLUMN IF NOT EXISTS lifter_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE coach c
+SET lifter_count = l.total
+FROM (SELECT coach_id, COUNT(*) AS total
+      FROM lifter
+      WHERE coach_id IS NOT NULL
+      GROUP BY coach_id) l
+WHERE l.coach_id = c.coach_id;
+
+COMMIT;
+
+-- CONCURRENTLY keeps coach writable while the index builds, so it runs outside the transaction above.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_coach_lifter_count
+    ON coach (lifter_count, coach_id);
@@ -0,0 +1,16 @@
+-- Indexes behind the keyset-paginated list endpoints (PostgreSQL 11+). Each matches one seek query's
+-- filter and (createdAt, id) order, so a page is an index range scan of limit + 1 rows at any depth.
+-- CONCURRENTLY keeps the tables writable while the indexes build, so this script must not run in a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_created_at
+    ON app_user (createdAt, userId);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_workout_plan_coach_created_at
+    ON workout_plan (coach_id, createdAt, planId);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_connection_requests_sender_created_at
+    ON connection_requests (sender_id, createdAt, requestId);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_connection_requests_receiver_created_at
+    ON connection_requests (receiver_id, createdAt, requestId);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_connection_requests_receiver_status_created_at
+    ON connection_requests (receiver_id, status, createdAt, requestId);
@@ -0,0 +1,48 @@
+-- Creates the lifter_progress snapshot table and seeds it for every active, assigned plan (PostgreSQL 11+).
+-- Run after workout_set_counters.sql; the snapshot is built from the day-level set counters.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS lifter_progress (
+    lifter_id      UUID PRIMARY KEY REFERENCES lifter (lifter_id) ON DELETE CASCADE,
+    plan_id        UUID         NOT NULL REFERENCES workout_plan (planId) ON DELETE CASCADE,
+    planName       VARCHAR(255) NOT NULL,
+    username       VARCHAR(255) NOT NULL,
+    firstName      VARCHAR(255) NOT NULL,
+    lastName       VARCHAR(255) NOT NULL,
+    totalWeeks     INTEGER      NOT NULL,
+    completedWeeks INTEGER      NOT NULL DEFAULT 0,
+    currentWeek    INTEGER,
+    currentDay     INTEGER,
+    totalSets      INTEGER      NOT NULL DEFAULT 0,
+    completedSets  INTEGER      NOT NULL DEFAULT 0,
+    lastActivity   TIMESTAMP(6),
+    updatedAt      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_lifter_progress_plan_id ON lifter_progress (plan_id);
+
+INSERT INTO lifter_progress (lifter_id, plan_id, planName, username, firstName, lastName, totalWeeks,
+                             completedWeeks, currentWeek, currentDay, totalSets, completedSets, updatedAt)
+SELECT p.lifter_id, p.planId, p.name, u.username, u.firstName, u.lastName, p.totalWeeks,
+       (SELECT COUNT(*) FROM workout_week w
+        WHERE w.plan_id = p.planId AND w.totalSets > 0 AND w.completedSets = w.totalSets),
+       cur.weekNumber, cur.dayNumber, p.totalSets, p.completedSets, now()
+FROM workout_plan p
+JOIN app_user u ON u.userId = p.lifter_id
+LEFT JOIN LATERAL (
+    -- First day with an open set, else the last day with sets; none until the first set is completed
+    SELECT w.weekNumber, d.dayNumber
+    FROM workout_day d
+    JOIN workout_week w ON w.weekId = d.week_id
+    WHERE w.plan_id = p.planId AND d.totalSets > 0 AND p.completedSets > 0
+    ORDER BY (d.completedSets < d.totalSets) DESC,
+             CASE WHEN d.completedSets < d.totalSets THEN w.weekNumber END ASC,
+             CASE WHEN d.completedSets < d.totalSets THEN d.dayNumber END ASC,
+             w.weekNumber DESC, d.dayNumber DESC
+    LIMIT 1
+) cur ON true
+WHERE p.isActive = true AND p.lifter_id IS NOT NULL
+ON CONFLICT (lifter_id) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,10 @@
+-- Indexes for TokenCleanupService's batched purge of expired and revoked refresh tokens.
+-- CONCURRENTLY avoids blocking logins while the indexes build; run outside a transaction block.
+
+-- Keyset order for the expired pass
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_refresh_tokens_expires_at
+    ON refresh_tokens (expiresAt, tokenId);
+
+-- Revoked pass: only the few revoked-but-unexpired rows are indexed
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_refresh_tokens_revoked
+    ON refresh_tokens (tokenId) WHERE isRevoked;
@@ -0,0 +1,18 @@
+-- Migrates refresh_tokens from raw varchar(512) tokens to SHA-256 digests (PostgreSQL 11+).
+-- Existing sessions stay valid: the backfilled digest matches TokenHasher.sha256(token).
+-- Run once against databases created before the token_hash column existed.
+
+BEGIN;
+
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+
+UPDATE refresh_tokens
+SET token_hash = sha256(convert_to(token, 'UTF8'))
+WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash);
+
+ALTER TABLE refresh_tokens DROP COLUMN token;
+
+COMMIT;
@@ -0,0 +1,6 @@
+-- Per-user index for refresh token lookups. insertTokenAndTrimToLimit filters on user_id and walks
+-- the user's tokens newest first, which previously scanned the whole table.
+-- CONCURRENTLY avoids blocking logins while the index builds; run outside a transaction block.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_refresh_tokens_user_created_at
+    ON refresh_tokens (user_id, createdAt);
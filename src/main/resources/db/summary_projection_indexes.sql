@@ -0,0 +1,6 @@
+-- Index behind the coach summary listings (PostgreSQL 11+). The per-coach lifter listings and the lifter count
+-- repair filter lifter on coach_id, which PostgreSQL does not index for a foreign key.
+-- CONCURRENTLY keeps the table writable while the index builds, so this script must not run in a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_lifter_coach_id
+    ON lifter (coach_id);
@@ -0,0 +1,38 @@
+-- Recreates the workout hierarchy foreign keys with ON DELETE CASCADE and indexes the parent columns the
+-- cascades search by (PostgreSQL 11+). Afterwards deleting a plan, week, day or exercise is a single DELETE
+-- on that row. Hibernate-generated constraint names are random, so the existing keys are looked up by column.
+
+BEGIN;
+
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT c.conrelid::regclass AS table_name, c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.contype = 'f'
+          AND (c.conrelid::regclass::text, a.attname) IN (('workout_week', 'plan_id'),
+                                                          ('workout_day', 'week_id'),
+                                                          ('exercise', 'day_id'),
+                                                          ('workout_set', 'exercise_id'))
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END $$;
+
+ALTER TABLE workout_week ADD CONSTRAINT fk_workout_week_plan
+    FOREIGN KEY (plan_id) REFERENCES workout_plan (planId) ON DELETE CASCADE;
+ALTER TABLE workout_day ADD CONSTRAINT fk_workout_day_week
+    FOREIGN KEY (week_id) REFERENCES workout_week (weekId) ON DELETE CASCADE;
+ALTER TABLE exercise ADD CONSTRAINT fk_exercise_day
+    FOREIGN KEY (day_id) REFERENCES workout_day (dayId) ON DELETE CASCADE;
+ALTER TABLE workout_set ADD CONSTRAINT fk_workout_set_exercise
+    FOREIGN KEY (exercise_id) REFERENCES exercise (exerciseId) ON DELETE CASCADE;
+
+-- exercise (day_id, sortKey) and workout_set (exercise_id, sortKey) are covered by workout_sort_keys.sql
+CREATE INDEX IF NOT EXISTS idx_workout_week_plan_id ON workout_week (plan_id);
+CREATE INDEX IF NOT EXISTS idx_workout_day_week_id ON workout_day (week_id);
+
+COMMIT;
@@ -0,0 +1,7 @@
+-- Enforces the 1-7 day number range in the database (PostgreSQL 11+). Plan stats encode a training day as
+-- weekNumber * 100 + dayNumber, which only stays unambiguous while day numbers are below 100; until now that
+-- was guaranteed by request validation alone. The constraint is added NOT VALID and validated separately, so
+-- existing rows are checked without blocking writes to the table.
+
+ALTER TABLE workout_day ADD CONSTRAINT workout_day_day_number_range CHECK (dayNumber BETWEEN 1 AND 7) NOT VALID;
+ALTER TABLE workout_day VALIDATE CONSTRAINT workout_day_day_number_range;
@@ -0,0 +1,4 @@
+-- Adds the optimistic-locking revision to workout plans (PostgreSQL 11+). The revision is the ETag of plan,
+-- week and day reads; existing plans start at 0 and every change in their tree increments it.
+
+ALTER TABLE workout_plan ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
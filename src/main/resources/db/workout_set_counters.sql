@@ -0,0 +1,44 @@
+-- Adds the denormalized totalSets / completedSets counters to the workout hierarchy and backfills them
+-- from workout_set (PostgreSQL 11+). Run once against databases created before the counters existed;
+-- afterwards WorkoutCounterService keeps them current and its nightly repair fixes any drift.
+
+BEGIN;
+
+ALTER TABLE exercise ADD COLUMN IF NOT EXISTS totalSets INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE exercise ADD COLUMN IF NOT EXISTS completedSets INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE workout_day ADD COLUMN IF NOT EXISTS totalSets INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE workout_day ADD COLUMN IF NOT EXISTS completedSets INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE workout_week ADD COLUMN IF NOT EXISTS totalSets INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE workout_week ADD COLUMN IF NOT EXISTS completedSets INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE workout_plan ADD COLUMN IF NOT EXISTS totalSets INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE workout_plan ADD COLUMN IF NOT EXISTS completedSets INTEGER NOT NULL DEFAULT 0;
+
+UPDATE exercise e
+SET totalSets = c.total, completedSets = c.completed
+FROM (SELECT s.exercise_id, COUNT(*) AS total, COUNT(*) FILTER (WHERE s.isCompleted) AS completed
+      FROM workout_set s
+      GROUP BY s.exercise_id) c
+WHERE c.exercise_id = e.exerciseId;
+
+UPDATE workout_day d
+SET totalSets = c.total, completedSets = c.completed
+FROM (SELECT e.day_id, SUM(e.totalSets) AS total, SUM(e.completedSets) AS completed
+      FROM exercise e
+      GROUP BY e.day_id) c
+WHERE c.day_id = d.dayId;
+
+UPDATE workout_week w
+SET totalSets = c.total, completedSets = c.completed
+FROM (SELECT d.week_id, SUM(d.totalSets) AS total, SUM(d.completedSets) AS completed
+      FROM workout_day d
+      GROUP BY d.week_id) c
+WHERE c.week_id = w.weekId;
+
+UPDATE workout_plan p
+SET totalSets = c.total, completedSets = c.completed
+FROM (SELECT w.plan_id, SUM(w.totalSets) AS total, SUM(w.completedSets) AS completed
+      FROM workout_week w
+      GROUP BY w.plan_id) c
+WHERE c.plan_id = p.planId;
+
+COMMIT;
@@ -0,0 +1,31 @@
+-- Replaces the dense workout_set.setNumber and exercise.exerciseOrder columns with gapped sort keys
+-- (PostgreSQL 11+). Existing rows keep their order and are spaced 1024 apart; set numbers and exercise
+-- orders are derived from the rank by sort key from now on.
+
+BEGIN;
+
+ALTER TABLE workout_set ADD COLUMN IF NOT EXISTS sortKey BIGINT;
+ALTER TABLE exercise ADD COLUMN IF NOT EXISTS sortKey BIGINT;
+
+UPDATE workout_set s
+SET sortKey = r.position * 1024
+FROM (SELECT setId, ROW_NUMBER() OVER (PARTITION BY exercise_id ORDER BY setNumber, setId) AS position
+      FROM workout_set) r
+WHERE s.setId = r.setId;
+
+UPDATE exercise e
+SET sortKey = r.position * 1024
+FROM (SELECT exerciseId, ROW_NUMBER() OVER (PARTITION BY day_id ORDER BY exerciseOrder, exerciseId) AS position
+      FROM exercise) r
+WHERE e.exerciseId = r.exerciseId;
+
+ALTER TABLE workout_set ALTER COLUMN sortKey SET NOT NULL;
+ALTER TABLE exercise ALTER COLUMN sortKey SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_workout_set_exercise_sort_key ON workout_set (exercise_id, sortKey);
+CREATE INDEX IF NOT EXISTS idx_exercise_day_sort_key ON exercise (day_id, sortKey);
+
+ALTER TABLE workout_set DROP COLUMN IF EXISTS setNumber;
+ALTER TABLE exercise DROP COLUMN IF EXISTS exerciseOrder;
+
+COMMIT;
@@ -0,0 +1,50 @@
+package com.strengthhub.strength_hub_api.exception;
+
+import com.strengthhub.strength_hub_api.exception.auth.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("GlobalExceptionHandler Tests")
+class GlobalExceptionHandlerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new SaturatedLoginController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer saturated password hashing with 503 and Retry-After")
+    void passwordHashingUnavailable_ShouldReturnServiceUnavailableWithRetryAfter() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/login"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.error").value("Service Unavailable"))
+                .andExpect(jsonPath("$.message").value("Authentication service is busy, please retry shortly"));
+    }
+
+    @RestController
+    static class SaturatedLoginController {
+
+        @PostMapping("/login")
+        void login() {
+            throw new PasswordHashingUnavailableException("Authentication service is busy, please retry shortly", 3);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.strengthhub.strength_hub_api.repository;
+
+import com.strengthhub.strength_hub_api.model.RefreshToken;
+import com.strengthhub.strength_hub_api.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the native insert-and-trim statement against PostgreSQL, since H2 has no data-modifying CTEs.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RefreshTokenRepository Tests")
+class RefreshTokenRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .username("tokenuser")
+                .email("tokenuser@example.com")
+                .passwordHash("hashedpassword")
+                .firstName("Token")
+                .lastName("User")
+                .isAdmin(false)
+                .build());
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("Should insert the new token and keep only the newest active ones")
+    void insertTokenAndTrimToLimit_OverLimit_ShouldDeleteOldestTokens() {
+        // Given
+        UUID oldest = insert("oldest", now.minusMinutes(3), 2);
+        UUID middle = insert("middle", now.minusMinutes(2), 2);
+        UUID newest = insert("newest", now.minusMinutes(1), 2);
+
+        // When
+        int trimmed = refreshTokenRepository.insertTokenAndTrimToLimit(
+                UUID.randomUUID(), hash("latest"), user.getUserId(), now.plusDays(7), now, 2);
+        entityManager.clear();
+
+        // Then
+        assertThat(trimmed).isEqualTo(1);
+        assertThat(refreshTokenRepository.findById(oldest)).isEmpty();
+        assertThat(refreshTokenRepository.countActiveTokensByUserId(user.getUserId(), now)).isEqualTo(3);
+        assertThat(refreshTokenRepository.findActiveTokensByUserId(user.getUserId(), now))
+                .extracting(RefreshToken::getTokenId)
+                .contains(middle, newest);
+    }
+
+    @Test
+    @DisplayName("Should leave revoked, expired and other users' tokens out of the trim")
+    void insertTokenAndTrimToLimit_ShouldOnlyCountUsersActiveTokens() {
+        // Given
+        User other = entityManager.persist(User.builder()
+                .username("otheruser")
+                .email("otheruser@example.com")
+                .passwordHash("hashedpassword")
+                .firstName("Other")
+                .lastName("User")
+                .isAdmin(false)
+                .build());
+        UUID active = insert("active", now.minusMinutes(5), 5);
+        entityManager.persist(RefreshToken.builder()
+                .tokenHash(hash("revoked")).user(user).expiresAt(now.plusDays(7)).isRevoked(true).build());
+        entityManager.persist(RefreshToken.builder()
+                .tokenHash(hash("expired")).user(user).expiresAt(now.minusDays(1)).build());
+        entityManager.persist(RefreshToken.builder()
+                .tokenHash(hash("other")).user(other).expiresAt(now.plusDays(7)).build());
+        entityManager.flush();
+
+        // When
+        int trimmed = refreshTokenRepository.insertTokenAndTrimToLimit(
+                UUID.randomUUID(), hash("latest"), user.getUserId(), now.plusDays(7), now, 1);
+        entityManager.clear();
+
+        // Then
+        assertThat(trimmed).isZero();
+        assertThat(refreshTokenRepository.findById(active)).isPresent();
+        assertThat(refreshTokenRepository.count()).isEqualTo(5);
+        assertThat(refreshTokenRepository.countActiveTokensByUserId(other.getUserId(), now)).isEqualTo(1);
+    }
+
+    private UUID insert(String token, LocalDateTime createdAt, int keep) {
+        UUID tokenId = UUID.randomUUID();
+        refreshTokenRepository.insertTokenAndTrimToLimit(
+                tokenId, hash(token), user.getUserId(), now.plusDays(7), createdAt, keep);
+        return tokenId;
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.strengthhub.strength_hub_api.security;
+
+import com.strengthhub.strength_hub_api.exception.auth.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private CountDownLatch release;
+    private CountDownLatch started;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        release = new CountDownLatch(1);
+        started = new CountDownLatch(1);
+        // One worker and one queue slot, with a delegate that blocks until the test releases it
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("Should reject with PasswordHashingUnavailableException once the worker and queue are full")
+    void encode_WhenSaturated_ShouldThrowPasswordHashingUnavailable() throws Exception {
+        // Given
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitQueueDepth(1);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(PasswordHashingUnavailableException.class)
+                .extracting(e -> ((PasswordHashingUnavailableException) e).getRetryAfterSeconds())
+                .isEqualTo(7);
+        assertThat(encoder.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+    }
+
+    @Test
+    @DisplayName("Should publish queue depth, active workers, rejections and hash timings to the registry")
+    void bindTo_ShouldRegisterPasswordHashingMeters() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitQueueDepth(1);
+
+        // When
+        assertThatThrownBy(() -> encoder.encode("third")).isInstanceOf(PasswordHashingUnavailableException.class);
+
+        // Then
+        assertThat(registry.get("password.hashing.queue.depth").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("password.hashing.active").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("password.hashing.rejected").functionCounter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(registry.get("password.hashing").functionTimer().count()).isEqualTo(2.0);
+        assertThat(registry.get("password.hashing.queue.depth").gauge().value()).isZero();
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.getQueueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(encoder.getQueueDepth()).isEqualTo(depth);
+    }
+
+    private final class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.strengthhub.strength_hub_api.security;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CalibratedBCryptPasswordEncoder Tests")
+class CalibratedBCryptPasswordEncoderTest {
+
+    private static final String SALT_AND_HASH = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0";
+
+    private static CalibratedBCryptPasswordEncoder encoder;
+
+    @BeforeAll
+    static void setUp() {
+        // min == max pins the calibrated cost regardless of how fast this machine is
+        encoder = new CalibratedBCryptPasswordEncoder(80, 5, 5);
+    }
+
+    @Test
+    @DisplayName("Should read the cost from BCrypt hashes and reject anything else")
+    void costOf_ShouldParseBCryptCost() {
+        assertThat(CalibratedBCryptPasswordEncoder.costOf("$2a$10$" + SALT_AND_HASH)).isEqualTo(10);
+        assertThat(CalibratedBCryptPasswordEncoder.costOf("$2b$04$" + SALT_AND_HASH)).isEqualTo(4);
+        assertThat(CalibratedBCryptPasswordEncoder.costOf(encoder.encode("password"))).isEqualTo(5);
+
+        assertThat(CalibratedBCryptPasswordEncoder.costOf(null)).isEqualTo(-1);
+        assertThat(CalibratedBCryptPasswordEncoder.costOf("plain-text")).isEqualTo(-1);
+        assertThat(CalibratedBCryptPasswordEncoder.costOf("$2a$1x$" + SALT_AND_HASH)).isEqualTo(-1);
+        assertThat(CalibratedBCryptPasswordEncoder.costOf("{noop}$2a$10$")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should clamp the calibrated cost to the configured bounds")
+    void calibrate_ShouldClampToMinAndMaxCost() {
+        // A 1 ms target is below what cost 8 takes anywhere, so the minimum applies
+        assertThat(new CalibratedBCryptPasswordEncoder(1, 6, 7).getCost()).isEqualTo(6);
+        // A target of minutes would calibrate far above the maximum
+        assertThat(new CalibratedBCryptPasswordEncoder(600_000, 4, 5).getCost()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should upgrade cheaper hashes and much costlier ones, but tolerate one step above")
+    void upgradeEncoding_ShouldOnlyUpgradeOutsideTolerance() {
+        assertThat(encoder.upgradeEncoding("$2a$04$" + SALT_AND_HASH)).isTrue();
+        assertThat(encoder.upgradeEncoding("$2a$05$" + SALT_AND_HASH)).isFalse();
+        assertThat(encoder.upgradeEncoding("$2a$06$" + SALT_AND_HASH)).isFalse();
+        assertThat(encoder.upgradeEncoding("$2a$07$" + SALT_AND_HASH)).isTrue();
+        assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match passwords hashed at another cost")
+    void matches_WithHashFromAnotherCost_ShouldVerify() {
+        // Given
+        String hashedAtSix = new CalibratedBCryptPasswordEncoder(80, 6, 6).encode("password");
+
+        // When & Then
+        assertThat(encoder.matches("password", hashedAtSix)).isTrue();
+        assertThat(encoder.matches("wrong", hashedAtSix)).isFalse();
+    }
+}
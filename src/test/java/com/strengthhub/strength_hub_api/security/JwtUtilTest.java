@@ -0,0 +1,164 @@
+package com.strengthhub.strength_hub_api.security;
+
+import com.strengthhub.strength_hub_api.exception.auth.AuthenticationFailedException;
+import com.strengthhub.strength_hub_api.model.Coach;
+import com.strengthhub.strength_hub_api.model.Lifter;
+import com.strengthhub.strength_hub_api.model.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtUtil Tests")
+class JwtUtilTest {
+
+    private static final String SECRET = "test-jwt-secret-that-is-long-enough-for-hmac-sha256-algorithm-and-needs-to-be-very-long";
+    private static final String ISSUER = "strength-hub-test";
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .userId(UUID.randomUUID())
+                .username("coachlifter")
+                .isAdmin(false)
+                .build();
+        user.setCoachProfile(Coach.builder().build());
+        user.setLifterProfile(Lifter.builder().build());
+    }
+
+    @Test
+    @DisplayName("Should round-trip user id, roles and type through a compact access token")
+    void parseToken_WithCompactAccessToken_ShouldRestoreClaims() {
+        // Given
+        JwtUtil jwtUtil = jwtUtil(true);
+        String token = jwtUtil.generateAccessToken(user);
+
+        // When
+        TokenClaims claims = jwtUtil.parseToken(token);
+
+        // Then
+        assertThat(token).doesNotContain(user.getUserId().toString());
+        assertThat(claims.getUserId()).isEqualTo(user.getUserId());
+        assertThat(claims.getUsername()).isEqualTo("coachlifter");
+        assertThat(claims.isAccessToken()).isTrue();
+        assertThat(claims.getRoles()).isEqualTo(Roles.COACH | Roles.LIFTER);
+        assertThat(claims.getExpiration()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should round-trip user id, roles and type through a legacy access token")
+    void parseToken_WithLegacyAccessToken_ShouldRestoreClaims() {
+        // Given
+        JwtUtil jwtUtil = jwtUtil(false);
+        user.setIsAdmin(true);
+        String token = jwtUtil.generateAccessToken(user);
+
+        // When
+        TokenClaims claims = jwtUtil.parseToken(token);
+
+        // Then
+        assertThat(claims.getUserId()).isEqualTo(user.getUserId());
+        assertThat(claims.getUsername()).isEqualTo("coachlifter");
+        assertThat(claims.isAccessToken()).isTrue();
+        assertThat(claims.getRoles()).isEqualTo(Roles.ADMIN | Roles.COACH | Roles.LIFTER);
+    }
+
+    @Test
+    @DisplayName("Should round-trip refresh tokens in both formats")
+    void parseToken_WithRefreshTokens_ShouldReportRefreshType() {
+        for (boolean compact : new boolean[]{true, false}) {
+            // Given
+            JwtUtil jwtUtil = jwtUtil(compact);
+
+            // When
+            TokenClaims claims = jwtUtil.parseToken(jwtUtil.generateRefreshToken(user));
+
+            // Then
+            assertThat(claims.getUserId()).isEqualTo(user.getUserId());
+            assertThat(claims.isRefreshToken()).isTrue();
+            assertThat(claims.getRoles()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept both token formats whether compact issuing is on or off")
+    void parseToken_ShouldAcceptBothFormatsInEitherMode() {
+        // Given
+        String compactToken = jwtUtil(true).generateAccessToken(user);
+        String legacyToken = jwtUtil(false).generateAccessToken(user);
+
+        for (boolean compact : new boolean[]{true, false}) {
+            JwtUtil jwtUtil = jwtUtil(compact);
+
+            // When & Then
+            assertThat(jwtUtil.parseToken(compactToken).getUserId()).isEqualTo(user.getUserId());
+            assertThat(jwtUtil.parseToken(legacyToken).getUserId()).isEqualTo(user.getUserId());
+            assertThat(jwtUtil.parseToken(compactToken).getRoles())
+                    .isEqualTo(jwtUtil.parseToken(legacyToken).getRoles());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject compact tokens whose uid is not a base64url encoded 16-byte id")
+    void parseToken_WithMalformedCompactUserId_ShouldThrowInvalidToken() {
+        // Given
+        JwtUtil jwtUtil = jwtUtil(true);
+        String notBase64 = signed(Map.of("uid", "not a user id!", "rol", Roles.LIFTER, "t", "a"));
+        String wrongLength = signed(Map.of("uid", "AAAA", "rol", Roles.LIFTER, "t", "a"));
+        String wrongType = signed(Map.of("uid", 42, "rol", Roles.LIFTER, "t", "a"));
+
+        // When & Then
+        for (String token : new String[]{notBase64, wrongLength, wrongType}) {
+            assertThatThrownBy(() -> jwtUtil.parseToken(token))
+                    .isInstanceOf(AuthenticationFailedException.class)
+                    .hasMessage("Invalid authentication token");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject legacy tokens without a user id")
+    void parseToken_WithLegacyTokenMissingUserId_ShouldThrowInvalidToken() {
+        // Given
+        JwtUtil jwtUtil = jwtUtil(false);
+        String token = signed(Map.of("tokenType", "access", "isAdmin", true));
+
+        // When & Then
+        assertThatThrownBy(() -> jwtUtil.parseToken(token))
+                .isInstanceOf(AuthenticationFailedException.class)
+                .hasMessage("Invalid authentication token");
+    }
+
+    private static JwtUtil jwtUtil(boolean compactTokens) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpirationMs", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpirationMs", 120_000L);
+        ReflectionTestUtils.setField(jwtUtil, "issuer", ISSUER);
+        ReflectionTestUtils.setField(jwtUtil, "compactTokens", compactTokens);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static String signed(Map<String, ?> claims) {
+        Date now = new Date();
+        return Jwts.builder()
+                .claims(claims)
+                .subject("coachlifter")
+                .issuer(ISSUER)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+    }
+}
@@ -0,0 +1,88 @@
+package com.strengthhub.strength_hub_api.security;
+
+import com.strengthhub.strength_hub_api.exception.common.ForbiddenAccessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SecurityUtils Tests")
+class SecurityUtilsTest {
+
+    private static final int ALL_ROLES = Roles.ADMIN | Roles.COACH | Roles.LIFTER;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should answer role checks and requirements from the principal's bitmask for each role combination")
+    void roleChecks_ForEveryCombination_ShouldMatchBitmask() {
+        for (int roles = 0; roles <= ALL_ROLES; roles++) {
+            boolean admin = (roles & Roles.ADMIN) != 0;
+            boolean coach = (roles & Roles.COACH) != 0;
+            boolean lifter = (roles & Roles.LIFTER) != 0;
+
+            // Given
+            authenticate(roles);
+
+            // When & Then
+            assertThat(SecurityUtils.isCurrentUserAdmin()).as("admin for roles %d", roles).isEqualTo(admin);
+            assertThat(SecurityUtils.isCurrentUserCoach()).as("coach for roles %d", roles).isEqualTo(coach);
+            assertThat(SecurityUtils.isCurrentUserLifter()).as("lifter for roles %d", roles).isEqualTo(lifter);
+            assertRequirement(SecurityUtils::requireAdmin, admin, roles);
+            assertRequirement(SecurityUtils::requireCoach, admin || coach, roles);
+            assertRequirement(SecurityUtils::requireLifter, admin || lifter, roles);
+        }
+    }
+
+    @Test
+    @DisplayName("Should let a user reach their own data and admins reach anyone's")
+    void isCurrentUserOrAdmin_ShouldAllowSelfAndAdmin() {
+        // Given
+        UUID self = authenticate(Roles.LIFTER).getUserId();
+
+        // When & Then
+        assertThat(SecurityUtils.isCurrentUserOrAdmin(self)).isTrue();
+        assertThat(SecurityUtils.isCurrentUserOrAdmin(UUID.randomUUID())).isFalse();
+
+        authenticate(Roles.ADMIN);
+        assertThat(SecurityUtils.isCurrentUserOrAdmin(UUID.randomUUID())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should treat a missing principal as having no roles")
+    void roleChecks_WithoutAuthentication_ShouldDeny() {
+        assertThat(SecurityUtils.isCurrentUserOrAdmin(UUID.randomUUID())).isFalse();
+        assertThatThrownBy(SecurityUtils::getCurrentUserId).isInstanceOf(ForbiddenAccessException.class);
+        assertThatThrownBy(SecurityUtils::requireCoach).isInstanceOf(ForbiddenAccessException.class);
+    }
+
+    private static UserPrincipal authenticate(int roles) {
+        UserPrincipal principal = new UserPrincipal(TokenClaims.builder()
+                .userId(UUID.randomUUID())
+                .username("user")
+                .tokenType("access")
+                .roles(roles)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        return principal;
+    }
+
+    private static void assertRequirement(Runnable requirement, boolean allowed, int roles) {
+        if (allowed) {
+            assertThatCode(requirement::run).as("roles %d", roles).doesNotThrowAnyException();
+        } else {
+            assertThatThrownBy(requirement::run).as("roles %d", roles).isInstanceOf(ForbiddenAccessException.class);
+        }
+    }
+}
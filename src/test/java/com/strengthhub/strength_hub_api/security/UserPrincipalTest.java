@@ -0,0 +1,73 @@
+package com.strengthhub.strength_hub_api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserPrincipal Tests")
+class UserPrincipalTest {
+
+    private static final int ALL_ROLES = Roles.ADMIN | Roles.COACH | Roles.LIFTER;
+
+    @Test
+    @DisplayName("Should derive every role check from the bitmask for each role combination")
+    void roleChecks_ForEveryCombination_ShouldMatchBitmask() {
+        for (int roles = 0; roles <= ALL_ROLES; roles++) {
+            boolean admin = (roles & Roles.ADMIN) != 0;
+            boolean coach = (roles & Roles.COACH) != 0;
+            boolean lifter = (roles & Roles.LIFTER) != 0;
+
+            // When
+            UserPrincipal principal = principal(roles);
+
+            // Then
+            assertThat(principal.isAdmin()).as("isAdmin for roles %d", roles).isEqualTo(admin);
+            assertThat(principal.isCoach()).as("isCoach for roles %d", roles).isEqualTo(coach);
+            assertThat(principal.isLifter()).as("isLifter for roles %d", roles).isEqualTo(lifter);
+            assertThat(principal.isAdminOrCoach()).as("isAdminOrCoach for roles %d", roles).isEqualTo(admin || coach);
+            assertThat(principal.getAuthorities())
+                    .as("authorities for roles %d", roles)
+                    .extracting(GrantedAuthority::getAuthority)
+                    .containsExactlyElementsOf(expectedAuthorities(admin, coach, lifter));
+        }
+    }
+
+    @Test
+    @DisplayName("Should build the same mask as the individual role flags")
+    void rolesOf_ShouldSetOneBitPerRole() {
+        assertThat(Roles.of(false, false, false)).isZero();
+        assertThat(Roles.of(true, false, false)).isEqualTo(Roles.ADMIN);
+        assertThat(Roles.of(false, true, true)).isEqualTo(Roles.COACH | Roles.LIFTER);
+        assertThat(Roles.of(true, true, true)).isEqualTo(ALL_ROLES);
+    }
+
+    @Test
+    @DisplayName("Should share authority lists between principals and ignore unknown bits")
+    void authorities_ShouldBeSharedAndIgnoreUnknownBits() {
+        assertThat(principal(Roles.COACH).getAuthorities()).isSameAs(principal(Roles.COACH).getAuthorities());
+        assertThat(Roles.authorities(Roles.LIFTER | 1 << 5)).isSameAs(Roles.authorities(Roles.LIFTER));
+    }
+
+    private static UserPrincipal principal(int roles) {
+        return new UserPrincipal(TokenClaims.builder()
+                .userId(UUID.randomUUID())
+                .username("user")
+                .tokenType("access")
+                .roles(roles)
+                .build());
+    }
+
+    private static List<String> expectedAuthorities(boolean admin, boolean coach, boolean lifter) {
+        List<String> authorities = new ArrayList<>();
+        if (admin) authorities.add("ROLE_ADMIN");
+        if (coach) authorities.add("ROLE_COACH");
+        if (lifter) authorities.add("ROLE_LIFTER");
+        return authorities;
+    }
+}
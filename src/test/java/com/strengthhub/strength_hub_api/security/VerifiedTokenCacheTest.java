@@ -0,0 +1,146 @@
+package com.strengthhub.strength_hub_api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("VerifiedTokenCache Tests")
+class VerifiedTokenCacheTest {
+
+    private AtomicLong now;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("Should serve a cached principal until its exp and drop it from then on")
+    void get_AtExpiry_ShouldMiss() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 1, now::get);
+        UserPrincipal principal = principal(now.get() + 1_000);
+        cache.put("token", principal);
+
+        // When & Then
+        now.addAndGet(999);
+        assertThat(cache.get("token")).isSameAs(principal);
+
+        now.addAndGet(1);
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens that are already expired or carry no exp")
+    void put_WithExpiredOrUnboundedToken_ShouldSkip() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 1, now::get);
+
+        // When
+        cache.put("expired", principal(now.get()));
+        cache.put("unbounded", principal(null));
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry once a stripe is full")
+    void put_WhenStripeFull_ShouldEvictLeastRecentlyUsed() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 1, now::get);
+        UserPrincipal first = principal(now.get() + 60_000);
+        UserPrincipal second = principal(now.get() + 60_000);
+        cache.put("first", first);
+        cache.put("second", second);
+        cache.get("first");
+
+        // When
+        cache.put("third", principal(now.get() + 60_000));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.get("first")).isSameAs(first);
+        assertThat(cache.get("second")).isNull();
+        assertThat(cache.get("third")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should bound every stripe to its share of the max size")
+    void put_WithSeveralStripes_ShouldCapEachStripe() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(4, 4, now::get);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            cache.put("token-" + i, principal(now.get() + 60_000));
+        }
+
+        // Then
+        assertThat(cache.size()).isLessThanOrEqualTo(4);
+        assertThat(cache.getEvictionCount()).isEqualTo(50 - cache.size());
+    }
+
+    @Test
+    @DisplayName("Should count hits, misses and evictions")
+    void counters_ShouldTrackLookups() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(1, 1, now::get);
+        cache.put("token", principal(now.get() + 60_000));
+
+        // When
+        cache.get("token");
+        cache.get("token");
+        cache.get("unknown");
+        cache.put("other", principal(now.get() + 60_000));
+        cache.get("token");
+
+        // Then
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop every entry on invalidateAll")
+    void invalidateAll_ShouldClearEveryStripe() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(16, 4, now::get);
+        for (int i = 0; i < 8; i++) {
+            cache.put("token-" + i, principal(now.get() + 60_000));
+        }
+
+        // When
+        cache.invalidateAll();
+
+        // Then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("token-0")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive size or stripe count")
+    void constructor_WithNonPositiveBounds_ShouldThrow() {
+        assertThatThrownBy(() -> new VerifiedTokenCache(0, 1, now::get)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new VerifiedTokenCache(1, 0, now::get)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UserPrincipal principal(Long expiresAtMillis) {
+        return new UserPrincipal(TokenClaims.builder()
+                .userId(UUID.randomUUID())
+                .username("user")
+                .tokenType("access")
+                .roles(Roles.LIFTER)
+                .expiration(expiresAtMillis == null ? null : new Date(expiresAtMillis))
+                .build());
+    }
+}
@@ -0,0 +1,177 @@
+package com.strengthhub.strength_hub_api.security;
+
+import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionBatchItem;
+import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionRequest;
+import com.strengthhub.strength_hub_api.repository.workout.LifterProgressRepository;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkoutAccess Tests")
+class WorkoutAccessTest {
+
+    @Mock
+    private WorkoutPlanGuard workoutPlanGuard;
+
+    @Mock
+    private LifterProgressRepository lifterProgressRepository;
+
+    @InjectMocks
+    private WorkoutAccess workoutAccess;
+
+    private UUID coachId;
+    private UUID lifterId;
+    private UUID setId;
+
+    @BeforeEach
+    void setUp() {
+        coachId = UUID.randomUUID();
+        lifterId = UUID.randomUUID();
+        setId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should let the plan's coach view and edit its sets")
+    void canEditSet_AsOwningCoach_ShouldAllow() {
+        // Given
+        given(workoutPlanGuard.findSet(setId)).willReturn(Optional.of(scope()));
+        UserPrincipal coach = principal(coachId, Roles.COACH);
+
+        // When & Then
+        assertThat(workoutAccess.canViewSet(coach, setId)).isTrue();
+        assertThat(workoutAccess.canEditSet(coach, setId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let the assigned lifter view and log sets but not edit them")
+    void canEditSet_AsAssignedLifter_ShouldDeny() {
+        // Given
+        given(workoutPlanGuard.findSet(setId)).willReturn(Optional.of(scope()));
+        UserPrincipal lifter = principal(lifterId, Roles.LIFTER);
+
+        // When & Then
+        assertThat(workoutAccess.canViewSet(lifter, setId)).isTrue();
+        assertThat(workoutAccess.canLogSet(lifter, setId)).isTrue();
+        assertThat(workoutAccess.canEditSet(lifter, setId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should deny another coach and allow an admin")
+    void canViewSet_AsOtherUser_ShouldOnlyAllowAdmin() {
+        // Given
+        given(workoutPlanGuard.findSet(setId)).willReturn(Optional.of(scope()));
+
+        // When & Then
+        assertThat(workoutAccess.canViewSet(principal(UUID.randomUUID(), Roles.COACH), setId)).isFalse();
+        assertThat(workoutAccess.canViewSet(principal(UUID.randomUUID(), Roles.ADMIN), setId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let unknown ids through so the service can answer not found")
+    void canViewSet_WithUnknownSet_ShouldAllow() {
+        // Given
+        given(workoutPlanGuard.findSet(setId)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThat(workoutAccess.canViewSet(principal(UUID.randomUUID(), Roles.LIFTER), setId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let the lifter and the coach of the snapshot's plan read lifter progress")
+    void canViewLifterProgress_AsLifterOrPlanCoach_ShouldAllow() {
+        // Given
+        UUID planId = UUID.randomUUID();
+        given(lifterProgressRepository.findPlanIdByLifterId(lifterId)).willReturn(Optional.of(planId));
+        given(workoutPlanGuard.findPlan(planId)).willReturn(Optional.of(scope()));
+
+        // When & Then
+        assertThat(workoutAccess.canViewLifterProgress(principal(lifterId, Roles.LIFTER), lifterId)).isTrue();
+        assertThat(workoutAccess.canViewLifterProgress(principal(coachId, Roles.COACH), lifterId)).isTrue();
+        then(lifterProgressRepository).should(times(1)).findPlanIdByLifterId(lifterId);
+    }
+
+    @Test
+    @DisplayName("Should deny lifter progress to other lifters and coaches but not to an admin")
+    void canViewLifterProgress_AsOtherUser_ShouldOnlyAllowAdmin() {
+        // Given
+        UUID planId = UUID.randomUUID();
+        given(lifterProgressRepository.findPlanIdByLifterId(lifterId)).willReturn(Optional.of(planId));
+        given(workoutPlanGuard.findPlan(planId)).willReturn(Optional.of(scope()));
+
+        // When & Then
+        assertThat(workoutAccess.canViewLifterProgress(principal(UUID.randomUUID(), Roles.COACH), lifterId)).isFalse();
+        assertThat(workoutAccess.canViewLifterProgress(principal(UUID.randomUUID(), Roles.LIFTER), lifterId)).isFalse();
+        assertThat(workoutAccess.canViewLifterProgress(principal(UUID.randomUUID(), Roles.ADMIN), lifterId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should authorize a whole batch from one bulk lookup")
+    void canLogSets_ShouldResolveBatchAtOnce() {
+        // Given
+        UUID otherSetId = UUID.randomUUID();
+        UUID unknownSetId = UUID.randomUUID();
+        List<SetCompletionBatchItem> items = List.of(item(setId), item(otherSetId), item(unknownSetId));
+        given(workoutPlanGuard.findSets(Set.of(setId, otherSetId, unknownSetId)))
+                .willReturn(Map.of(setId, scope(), otherSetId, scope()));
+
+        // When & Then
+        assertThat(workoutAccess.canLogSets(principal(lifterId, Roles.LIFTER), items)).isTrue();
+        assertThat(workoutAccess.canLogSets(principal(coachId, Roles.COACH), items)).isTrue();
+        then(workoutPlanGuard).should(times(2)).findSets(Set.of(setId, otherSetId, unknownSetId));
+        then(workoutPlanGuard).should(never()).findSet(setId);
+    }
+
+    @Test
+    @DisplayName("Should reject a batch when any set belongs to someone else's plan")
+    void canLogSets_WithForeignSet_ShouldDeny() {
+        // Given
+        UUID foreignSetId = UUID.randomUUID();
+        PlanScope foreign = new PlanScope(UUID.randomUUID(), true, UUID.randomUUID(), UUID.randomUUID());
+        given(workoutPlanGuard.findSets(Set.of(setId, foreignSetId)))
+                .willReturn(Map.of(setId, scope(), foreignSetId, foreign));
+        List<SetCompletionBatchItem> items = List.of(item(setId), item(foreignSetId));
+
+        // When & Then
+        assertThat(workoutAccess.canLogSets(principal(lifterId, Roles.LIFTER), items)).isFalse();
+        assertThat(workoutAccess.canLogSets(principal(UUID.randomUUID(), Roles.ADMIN), items)).isTrue();
+    }
+
+    private SetCompletionBatchItem item(UUID id) {
+        return SetCompletionBatchItem.builder()
+                .setId(id)
+                .completion(SetCompletionRequest.builder().actualReps(5).build())
+                .build();
+    }
+
+    private PlanScope scope() {
+        return new PlanScope(UUID.randomUUID(), true, coachId, lifterId);
+    }
+
+    private UserPrincipal principal(UUID userId, int roles) {
+        return new UserPrincipal(TokenClaims.builder()
+                .userId(userId)
+                .username("user")
+                .tokenType("access")
+                .roles(roles)
+                .build());
+    }
+}
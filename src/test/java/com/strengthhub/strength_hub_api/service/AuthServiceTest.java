@@ -13,16 +13,19 @@ import com.strengthhub.strength_hub_api.model.User;
 import com.strengthhub.strength_hub_api.repository.RefreshTokenRepository;
 import com.strengthhub.strength_hub_api.repository.UserRepository;
 import com.strengthhub.strength_hub_api.security.JwtUtil;
+import com.strengthhub.strength_hub_api.security.TokenHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -31,9 +34,12 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +58,9 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private AuthService authService;
 
@@ -89,7 +98,7 @@ class AuthServiceTest {
 
         testRefreshToken = RefreshToken.builder()
                 .tokenId(UUID.randomUUID())
-                .token("valid_refresh_token")
+                .tokenHash(TokenHasher.sha256("valid_refresh_token"))
                 .user(testUser)
                 .expiresAt(LocalDateTime.now().plusDays(30))
                 .isRevoked(false)
@@ -115,8 +124,6 @@ class AuthServiceTest {
         given(jwtUtil.generateAccessToken(testUser)).willReturn("access_token");
         given(jwtUtil.generateRefreshToken(testUser)).willReturn("refresh_token");
         given(jwtUtil.getAccessTokenExpirationTime()).willReturn(86400000L);
-        given(refreshTokenRepository.countActiveTokensByUserId(any(UUID.class), any(LocalDateTime.class))).willReturn(0L);
-        given(refreshTokenRepository.save(any(RefreshToken.class))).willReturn(testRefreshToken);
 
         // When
         JwtAuthenticationResponse result = authService.login(validLoginRequest);
@@ -132,7 +139,50 @@ class AuthServiceTest {
         assertThat(result.getIsAdmin()).isFalse();
         assertThat(result.getRoles()).containsExactly(UserType.LIFTER);
 
-        then(refreshTokenRepository).should().save(any(RefreshToken.class));
+        then(refreshTokenRepository).should().insertTokenAndTrimToLimit(
+                any(UUID.class), any(byte[].class), eq(testUserId),
+                any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should rehash password on login when stored work factor is outdated")
+    void login_WithOutdatedHashCost_ShouldRehashPassword() {
+        // Given
+        given(userRepository.findByUsername("testuser")).willReturn(Optional.of(testUser));
+        given(passwordEncoder.matches("password123", "encoded_password")).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("encoded_password")).willReturn(true);
+        given(passwordEncoder.encode("password123")).willReturn("rehashed_password");
+        given(jwtUtil.generateAccessToken(testUser)).willReturn("access_token");
+        given(jwtUtil.generateRefreshToken(testUser)).willReturn("refresh_token");
+        given(jwtUtil.getAccessTokenExpirationTime()).willReturn(86400000L);
+
+        // When
+        authService.login(validLoginRequest);
+
+        // Then
+        assertThat(testUser.getPasswordHash()).isEqualTo("rehashed_password");
+        then(transactionOperations).should(times(1)).executeWithoutResult(any());
+        then(userRepository).should().save(testUser);
+    }
+
+    @Test
+    @DisplayName("Should not rehash password on login when stored work factor is current")
+    void login_WithCurrentHashCost_ShouldNotRehashPassword() {
+        // Given
+        given(userRepository.findByUsername("testuser")).willReturn(Optional.of(testUser));
+        given(passwordEncoder.matches("password123", "encoded_password")).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("encoded_password")).willReturn(false);
+        given(jwtUtil.generateAccessToken(testUser)).willReturn("access_token");
+        given(jwtUtil.generateRefreshToken(testUser)).willReturn("refresh_token");
+        given(jwtUtil.getAccessTokenExpirationTime()).willReturn(86400000L);
+
+        // When
+        authService.login(validLoginRequest);
+
+        // Then
+        assertThat(testUser.getPasswordHash()).isEqualTo("encoded_password");
+        then(passwordEncoder).should(never()).encode(anyString());
+        then(userRepository).should(never()).save(any(User.class));
     }
 
     @Test
@@ -149,8 +199,6 @@ class AuthServiceTest {
         given(jwtUtil.generateAccessToken(testUser)).willReturn("access_token");
         given(jwtUtil.generateRefreshToken(testUser)).willReturn("refresh_token");
         given(jwtUtil.getAccessTokenExpirationTime()).willReturn(86400000L);
-        given(refreshTokenRepository.countActiveTokensByUserId(any(UUID.class), any(LocalDateTime.class))).willReturn(0L);
-        given(refreshTokenRepository.save(any(RefreshToken.class))).willReturn(testRefreshToken);
 
         // When
         JwtAuthenticationResponse result = authService.login(emailLoginRequest);
@@ -196,6 +244,27 @@ class AuthServiceTest {
                 .hasMessageContaining("Invalid username/email or password");
     }
 
+    @Test
+    @DisplayName("Should never open a write transaction when the password is rejected")
+    void login_WithInvalidPassword_ShouldNotOpenWriteTransaction() {
+        // Given
+        given(userRepository.findByUsername("testuser")).willReturn(Optional.of(testUser));
+        given(passwordEncoder.matches("wrongpassword", "encoded_password")).willReturn(false);
+
+        LoginRequest invalidRequest = LoginRequest.builder()
+                .usernameOrEmail("testuser")
+                .password("wrongpassword")
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(invalidRequest))
+                .isInstanceOf(BadCredentialsException.class);
+        then(transactionOperations).shouldHaveNoInteractions();
+        then(passwordEncoder).should(never()).encode(anyString());
+        then(userRepository).should(never()).save(any(User.class));
+        then(refreshTokenRepository).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("Should include both roles for user with both lifter and coach profiles")
     void login_WithUserHavingBothRoles_ShouldIncludeBothRoles() {
@@ -211,8 +280,6 @@ class AuthServiceTest {
         given(jwtUtil.generateAccessToken(testUser)).willReturn("access_token");
         given(jwtUtil.generateRefreshToken(testUser)).willReturn("refresh_token");
         given(jwtUtil.getAccessTokenExpirationTime()).willReturn(86400000L);
-        given(refreshTokenRepository.countActiveTokensByUserId(any(UUID.class), any(LocalDateTime.class))).willReturn(0L);
-        given(refreshTokenRepository.save(any(RefreshToken.class))).willReturn(testRefreshToken);
 
         // When
         JwtAuthenticationResponse result = authService.login(validLoginRequest);
@@ -225,12 +292,10 @@ class AuthServiceTest {
     @DisplayName("Should refresh token successfully with valid refresh token")
     void refreshToken_WithValidToken_ShouldReturnNewTokens() {
         // Given
-        given(refreshTokenRepository.findByToken("valid_refresh_token")).willReturn(Optional.of(testRefreshToken));
+        given(refreshTokenRepository.findByTokenHash(TokenHasher.sha256("valid_refresh_token"))).willReturn(Optional.of(testRefreshToken));
         given(jwtUtil.generateAccessToken(testUser)).willReturn("new_access_token");
         given(jwtUtil.generateRefreshToken(testUser)).willReturn("new_refresh_token");
         given(jwtUtil.getAccessTokenExpirationTime()).willReturn(86400000L);
-        given(refreshTokenRepository.countActiveTokensByUserId(any(UUID.class), any(LocalDateTime.class))).willReturn(0L);
-        given(refreshTokenRepository.save(any(RefreshToken.class))).willReturn(testRefreshToken);
 
         // When
         TokenRefreshResponse result = authService.refreshToken(validRefreshTokenRequest);
@@ -242,14 +307,16 @@ class AuthServiceTest {
         assertThat(result.getTokenType()).isEqualTo("Bearer");
         assertThat(result.getExpiresIn()).isEqualTo(86400000L);
 
-        then(refreshTokenRepository).should().save(any(RefreshToken.class));
+        then(refreshTokenRepository).should().insertTokenAndTrimToLimit(
+                any(UUID.class), any(byte[].class), eq(testUserId),
+                any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
     }
 
     @Test
     @DisplayName("Should throw exception when refresh token not found")
     void refreshToken_WithInvalidToken_ShouldThrowTokenRefreshException() {
         // Given
-        given(refreshTokenRepository.findByToken("invalid_token")).willReturn(Optional.empty());
+        given(refreshTokenRepository.findByTokenHash(TokenHasher.sha256("invalid_token"))).willReturn(Optional.empty());
 
         RefreshTokenRequest invalidRequest = RefreshTokenRequest.builder()
                 .refreshToken("invalid_token")
@@ -267,14 +334,14 @@ class AuthServiceTest {
         // Given
         RefreshToken expiredToken = RefreshToken.builder()
                 .tokenId(UUID.randomUUID())
-                .token("expired_token")
+                .tokenHash(TokenHasher.sha256("expired_token"))
                 .user(testUser)
                 .expiresAt(LocalDateTime.now().minusDays(1)) // Expired
                 .isRevoked(false)
                 .createdAt(LocalDateTime.now().minusDays(2))
                 .build();
 
-        given(refreshTokenRepository.findByToken("expired_token")).willReturn(Optional.of(expiredToken));
+        given(refreshTokenRepository.findByTokenHash(TokenHasher.sha256("expired_token"))).willReturn(Optional.of(expiredToken));
 
         RefreshTokenRequest expiredRequest = RefreshTokenRequest.builder()
                 .refreshToken("expired_token")
@@ -292,14 +359,14 @@ class AuthServiceTest {
         // Given
         RefreshToken revokedToken = RefreshToken.builder()
                 .tokenId(UUID.randomUUID())
-                .token("revoked_token")
+                .tokenHash(TokenHasher.sha256("revoked_token"))
                 .user(testUser)
                 .expiresAt(LocalDateTime.now().plusDays(30))
                 .isRevoked(true) // Revoked
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        given(refreshTokenRepository.findByToken("revoked_token")).willReturn(Optional.of(revokedToken));
+        given(refreshTokenRepository.findByTokenHash(TokenHasher.sha256("revoked_token"))).willReturn(Optional.of(revokedToken));
 
         RefreshTokenRequest revokedRequest = RefreshTokenRequest.builder()
                 .refreshToken("revoked_token")
@@ -315,13 +382,13 @@ class AuthServiceTest {
     @DisplayName("Should logout successfully with valid refresh token")
     void logout_WithValidToken_ShouldRevokeToken() {
         // Given
-        given(refreshTokenRepository.findByToken("valid_refresh_token")).willReturn(Optional.of(testRefreshToken));
+        given(refreshTokenRepository.findByTokenHash(TokenHasher.sha256("valid_refresh_token"))).willReturn(Optional.of(testRefreshToken));
 
         // When
         authService.logout("valid_refresh_token");
 
         // Then
-        then(refreshTokenRepository).should().revokeTokenByValue("valid_refresh_token");
+        then(refreshTokenRepository).should().revokeTokenByHash(TokenHasher.sha256("valid_refresh_token"));
     }
 
     @Test
@@ -346,7 +413,7 @@ class AuthServiceTest {
     @DisplayName("Should throw exception when logout token not found")
     void logout_WithInvalidToken_ShouldThrowTokenRefreshException() {
         // Given
-        given(refreshTokenRepository.findByToken("invalid_token")).willReturn(Optional.empty());
+        given(refreshTokenRepository.findByTokenHash(TokenHasher.sha256("invalid_token"))).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> authService.logout("invalid_token"))
@@ -364,16 +431,6 @@ class AuthServiceTest {
         then(refreshTokenRepository).should().revokeAllUserTokens(testUserId);
     }
 
-    @Test
-    @DisplayName("Should cleanup expired tokens successfully")
-    void cleanupExpiredTokens_ShouldDeleteExpiredAndRevokedTokens() {
-        // When
-        authService.cleanupExpiredTokens();
-
-        // Then
-        then(refreshTokenRepository).should().deleteExpiredAndRevokedTokens(any(LocalDateTime.class));
-    }
-
     @Test
     @DisplayName("Should enforce token limit when saving refresh token")
     void login_WhenUserExceedsTokenLimit_ShouldDeleteOldestToken() {
@@ -383,15 +440,14 @@ class AuthServiceTest {
         given(jwtUtil.generateAccessToken(testUser)).willReturn("access_token");
         given(jwtUtil.generateRefreshToken(testUser)).willReturn("refresh_token");
         given(jwtUtil.getAccessTokenExpirationTime()).willReturn(86400000L);
-        given(refreshTokenRepository.countActiveTokensByUserId(any(UUID.class), any(LocalDateTime.class))).willReturn(6L); // Exceeds limit of 5
-        given(refreshTokenRepository.save(any(RefreshToken.class))).willReturn(testRefreshToken);
 
         // When
         authService.login(validLoginRequest);
 
         // Then
-        then(refreshTokenRepository).should().deleteOldestTokenForUser(testUserId);
-        then(refreshTokenRepository).should().save(any(RefreshToken.class));
+        then(refreshTokenRepository).should().insertTokenAndTrimToLimit(
+                any(UUID.class), eq(TokenHasher.sha256("refresh_token")), eq(testUserId),
+                any(LocalDateTime.class), any(LocalDateTime.class), eq(4)); // Keeps 4 existing tokens plus the new one
     }
 
     @Test
@@ -417,8 +473,6 @@ class AuthServiceTest {
         given(jwtUtil.generateAccessToken(testUser)).willReturn("access_token");
         given(jwtUtil.generateRefreshToken(testUser)).willReturn("refresh_token");
         given(jwtUtil.getAccessTokenExpirationTime()).willReturn(86400000L);
-        given(refreshTokenRepository.countActiveTokensByUserId(any(UUID.class), any(LocalDateTime.class))).willReturn(0L);
-        given(refreshTokenRepository.save(any(RefreshToken.class))).willReturn(testRefreshToken);
 
         // When
         authService.login(emailRequest);
@@ -0,0 +1,71 @@
+package com.strengthhub.strength_hub_api.service;
+
+import com.strengthhub.strength_hub_api.model.Coach;
+import com.strengthhub.strength_hub_api.repository.CoachRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoachLifterCountService Tests")
+class CoachLifterCountServiceTest {
+
+    @Mock
+    private CoachRepository coachRepository;
+
+    @InjectMocks
+    private CoachLifterCountService coachLifterCountService;
+
+    private Coach previousCoach;
+    private Coach newCoach;
+
+    @BeforeEach
+    void setUp() {
+        previousCoach = Coach.builder().coachId(UUID.randomUUID()).build();
+        newCoach = Coach.builder().coachId(UUID.randomUUID()).build();
+    }
+
+    @Test
+    @DisplayName("Should move one lifter's worth of count from the old coach to the new one")
+    void lifterMoved_BetweenCoaches_ShouldAdjustBoth() {
+        // When
+        coachLifterCountService.lifterMoved(previousCoach, newCoach);
+
+        // Then
+        then(coachRepository).should().adjustLifterCount(previousCoach.getCoachId(), -1);
+        then(coachRepository).should().adjustLifterCount(newCoach.getCoachId(), 1);
+    }
+
+    @Test
+    @DisplayName("Should leave the count alone when a lifter is reassigned to the same coach")
+    void lifterMoved_ToSameCoach_ShouldNotAdjust() {
+        // When
+        coachLifterCountService.lifterMoved(newCoach, Coach.builder().coachId(newCoach.getCoachId()).build());
+
+        // Then
+        then(coachRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Should report how many coaches had drifted")
+    void repairLifterCounts_ShouldReturnDriftedCoaches() {
+        // Given
+        given(coachRepository.repairLifterCounts()).willReturn(2);
+
+        // When
+        int drifted = coachLifterCountService.repairLifterCounts();
+
+        // Then
+        assertThat(drifted).isEqualTo(2);
+    }
+}
@@ -2,6 +2,7 @@ package com.strengthhub.strength_hub_api.service;
 
 import com.strengthhub.strength_hub_api.dto.request.coach.CoachRegistrationRequest;
 import com.strengthhub.strength_hub_api.dto.request.coach.CoachUpdateRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachDetailResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachSummaryResponse;
@@ -16,7 +17,9 @@ import com.strengthhub.strength_hub_api.model.Coach;
 import com.strengthhub.strength_hub_api.model.Lifter;
 import com.strengthhub.strength_hub_api.model.User;
 import com.strengthhub.strength_hub_api.repository.CoachRepository;
+import com.strengthhub.strength_hub_api.repository.CoachRepository.CoachListView;
 import com.strengthhub.strength_hub_api.repository.LifterRepository;
+import com.strengthhub.strength_hub_api.repository.LifterRepository.LifterSummaryView;
 import com.strengthhub.strength_hub_api.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,11 +28,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -56,9 +63,14 @@ class CoachServiceTest {
     @Mock
     private CoachCodeService coachCodeService;
 
+    @Mock
+    private CoachLifterCountService coachLifterCountService;
+
     @InjectMocks
     private CoachService coachService;
 
+    private final ProjectionFactory projections = new SpelAwareProxyProjectionFactory();
+
     private User testUser;
     private Coach testCoach;
     private Lifter testLifter;
@@ -231,16 +243,18 @@ class CoachServiceTest {
                 .lifters(new ArrayList<>())
                 .build();
 
-        List<Coach> coaches = Arrays.asList(testCoach, coach2);
-        given(coachRepository.findAll()).willReturn(coaches);
+        List<CoachListView> coaches = Arrays.asList(listView(testCoach, 3), listView(coach2, 0));
+        given(coachRepository.findFirstPage(PageCursor.fetchLimit(20))).willReturn(coaches);
 
         // When
-        List<CoachResponse> result = coachService.getAllCoaches();
+        CursorPageResponse<CoachResponse> result = coachService.getAllCoaches(20, null);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getBio()).isEqualTo("Experienced powerlifting coach");
-        assertThat(result.get(1).getBio()).isEqualTo("Another coach");
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems().get(0).getBio()).isEqualTo("Experienced powerlifting coach");
+        assertThat(result.getItems().get(1).getBio()).isEqualTo("Another coach");
+        assertThat(result.getItems()).extracting(CoachResponse::getLifterCount).containsExactly(3, 0);
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
@@ -288,8 +302,14 @@ class CoachServiceTest {
     @DisplayName("Should get coach lifters successfully")
     void getCoachLifters_WithValidId_ShouldReturnLifters() {
         // Given
-        testCoach.getLifters().add(testLifter);
-        given(coachRepository.findById(testCoachId)).willReturn(Optional.of(testCoach));
+        Map<String, Object> row = new HashMap<>();
+        row.put("lifterId", testLifterId);
+        row.put("firstName", "Lifter");
+        row.put("lastName", "User");
+        row.put("username", "lifteruser");
+        given(coachRepository.existsById(testCoachId)).willReturn(true);
+        given(lifterRepository.findSummariesByCoachId(testCoachId)).willReturn(
+                List.of(projections.createProjection(LifterSummaryView.class, row)));
 
         // When
         List<LifterSummaryResponse> result = coachService.getCoachLifters(testCoachId);
@@ -315,6 +335,7 @@ class CoachServiceTest {
         then(coachRepository).should().save(testCoach);
         assertThat(testCoach.getLifters()).contains(testLifter);
         assertThat(testLifter.getCoach()).isEqualTo(testCoach);
+        then(coachLifterCountService).should().lifterMoved(null, testCoach);
     }
 
     @Test
@@ -341,6 +362,7 @@ class CoachServiceTest {
         assertThat(testLifter.getCoach()).isEqualTo(testCoach);
         assertThat(previousCoach.getLifters()).doesNotContain(testLifter);
         assertThat(testCoach.getLifters()).contains(testLifter);
+        then(coachLifterCountService).should().lifterMoved(previousCoach, testCoach);
     }
 
     @Test
@@ -374,6 +396,7 @@ class CoachServiceTest {
         // Then
         assertThat(testLifter.getCoach()).isNull();
         assertThat(testCoach.getLifters()).doesNotContain(testLifter);
+        then(coachLifterCountService).should().lifterMoved(testCoach, null);
     }
 
     @Test
@@ -459,4 +482,20 @@ class CoachServiceTest {
         assertThat(result.getBio()).isEqualTo("Only bio updated");
         assertThat(result.getCertifications()).isEqualTo("USAPL Certified");
     }
-}
\ No newline at end of file
+
+    // The listing reads a projection row with the maintained lifter count, not the entity
+    private CoachListView listView(Coach coach, int lifterCount) {
+        User user = coach.getApp_user();
+        Map<String, Object> row = new HashMap<>();
+        row.put("coachId", coach.getCoachId());
+        row.put("username", user.getUsername());
+        row.put("email", user.getEmail());
+        row.put("firstName", user.getFirstName());
+        row.put("lastName", user.getLastName());
+        row.put("createdAt", user.getCreatedAt());
+        row.put("bio", coach.getBio());
+        row.put("certifications", coach.getCertifications());
+        row.put("lifterCount", lifterCount);
+        return projections.createProjection(CoachListView.class, row);
+    }
+}
@@ -1,5 +1,6 @@
 package com.strengthhub.strength_hub_api.service;
 
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.coach.CoachSummaryResponse;
 import com.strengthhub.strength_hub_api.dto.response.lifter.LifterResponse;
 import com.strengthhub.strength_hub_api.exception.coach.CoachNotFoundException;
@@ -9,6 +10,7 @@ import com.strengthhub.strength_hub_api.model.Lifter;
 import com.strengthhub.strength_hub_api.model.User;
 import com.strengthhub.strength_hub_api.repository.CoachRepository;
 import com.strengthhub.strength_hub_api.repository.LifterRepository;
+import com.strengthhub.strength_hub_api.repository.LifterRepository.LifterListView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,11 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -44,6 +49,9 @@ class LifterServiceTest {
     @Mock
     private CoachService coachService;
 
+    @Mock
+    private CoachLifterCountService coachLifterCountService;
+
     @InjectMocks
     private LifterService lifterService;
 
@@ -168,16 +176,20 @@ class LifterServiceTest {
                         .build())
                 .build();
 
-        List<Lifter> lifters = Arrays.asList(testLifter, lifter2);
-        given(lifterRepository.findAll()).willReturn(lifters);
+        testLifter.setCoach(testCoach);
+        List<LifterListView> lifters = Arrays.asList(listView(testLifter), listView(lifter2));
+        given(lifterRepository.findFirstPage(PageCursor.fetchLimit(20))).willReturn(lifters);
 
         // When
-        List<LifterResponse> result = lifterService.getAllLifters();
+        CursorPageResponse<LifterResponse> result = lifterService.getAllLifters(20, null);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getUsername()).isEqualTo("lifteruser");
-        assertThat(result.get(1).getUsername()).isEqualTo("lifter2");
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems().get(0).getUsername()).isEqualTo("lifteruser");
+        assertThat(result.getItems().get(1).getUsername()).isEqualTo("lifter2");
+        assertThat(result.getItems().get(0).getCoach().getCoachId()).isEqualTo(testCoachId);
+        assertThat(result.getItems().get(1).getCoach()).isNull();
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
@@ -208,6 +220,7 @@ class LifterServiceTest {
         // Then
         assertThat(testCoach.getLifters()).doesNotContain(testLifter);
         then(lifterRepository).should().delete(testLifter);
+        then(coachLifterCountService).should().lifterMoved(testCoach, null);
     }
 
     @Test
@@ -243,6 +256,7 @@ class LifterServiceTest {
         assertThat(testLifter.getCoach()).isEqualTo(testCoach);
         assertThat(testCoach.getLifters()).contains(testLifter);
         then(lifterRepository).should().save(testLifter);
+        then(coachLifterCountService).should().lifterMoved(null, testCoach);
     }
 
     @Test
@@ -271,6 +285,7 @@ class LifterServiceTest {
         assertThat(previousCoach.getLifters()).doesNotContain(testLifter);
         assertThat(testCoach.getLifters()).contains(testLifter);
         assertThat(result.getCoach().getCoachId()).isEqualTo(testCoachId);
+        then(coachLifterCountService).should().lifterMoved(previousCoach, testCoach);
     }
 
     @Test
@@ -322,6 +337,7 @@ class LifterServiceTest {
         assertThat(testCoach.getLifters()).doesNotContain(testLifter);
         assertThat(result.getCoach()).isNull();
         then(lifterRepository).should().save(testLifter);
+        then(coachLifterCountService).should().lifterMoved(testCoach, null);
     }
 
     @Test
@@ -336,6 +352,7 @@ class LifterServiceTest {
         // Then
         assertThat(result.getCoach()).isNull();
         then(lifterRepository).should(never()).save(any(Lifter.class));
+        then(coachLifterCountService).shouldHaveNoInteractions();
     }
 
     @Test
@@ -368,21 +385,7 @@ class LifterServiceTest {
                 .coach(null)
                 .build();
 
-        Lifter lifterWithCoach = Lifter.builder()
-                .lifterId(UUID.randomUUID())
-                .app_user(User.builder()
-                        .userId(UUID.randomUUID())
-                        .username("coachedlifter")
-                        .email("coached@example.com")
-                        .firstName("Coached")
-                        .lastName("Lifter")
-                        .createdAt(LocalDateTime.now())
-                        .build())
-                .coach(testCoach)
-                .build();
-
-        List<Lifter> allLifters = Arrays.asList(lifterWithoutCoach, lifterWithCoach);
-        given(lifterRepository.findAll()).willReturn(allLifters);
+        given(lifterRepository.findViewsWithoutCoach()).willReturn(List.of(listView(lifterWithoutCoach)));
 
         // When
         List<LifterResponse> result = lifterService.getLiftersWithoutCoach();
@@ -391,6 +394,7 @@ class LifterServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getUsername()).isEqualTo("lonelifter");
         assertThat(result.get(0).getCoach()).isNull();
+        then(lifterRepository).should(never()).findAll();
     }
 
     @Test
@@ -398,10 +402,9 @@ class LifterServiceTest {
     void getLiftersByCoach_WithValidCoachId_ShouldReturnCoachLifters() {
         // Given
         testLifter.setCoach(testCoach);
-        testCoach.getLifters().add(testLifter);
 
-        given(coachRepository.findById(testCoachId)).willReturn(Optional.of(testCoach));
-        given(coachService.mapToSummaryResponse(testCoach)).willReturn(testCoachSummary);
+        given(coachRepository.existsById(testCoachId)).willReturn(true);
+        given(lifterRepository.findViewsByCoachId(testCoachId)).willReturn(List.of(listView(testLifter)));
 
         // When
         List<LifterResponse> result = lifterService.getLiftersByCoach(testCoachId);
@@ -417,7 +420,7 @@ class LifterServiceTest {
     void getLiftersByCoach_WithInvalidCoachId_ShouldThrowCoachNotFoundException() {
         // Given
         UUID invalidCoachId = UUID.randomUUID();
-        given(coachRepository.findById(invalidCoachId)).willReturn(Optional.empty());
+        given(coachRepository.existsById(invalidCoachId)).willReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> lifterService.getLiftersByCoach(invalidCoachId))
@@ -429,7 +432,8 @@ class LifterServiceTest {
     @DisplayName("Should return empty list when coach has no lifters")
     void getLiftersByCoach_WithCoachWithoutLifters_ShouldReturnEmptyList() {
         // Given
-        given(coachRepository.findById(testCoachId)).willReturn(Optional.of(testCoach));
+        given(coachRepository.existsById(testCoachId)).willReturn(true);
+        given(lifterRepository.findViewsByCoachId(testCoachId)).willReturn(List.of());
 
         // When
         List<LifterResponse> result = lifterService.getLiftersByCoach(testCoachId);
@@ -456,11 +460,10 @@ class LifterServiceTest {
                 .build();
 
         testLifter.setCoach(testCoach);
-        testCoach.getLifters().add(testLifter);
-        testCoach.getLifters().add(lifter2);
 
-        given(coachRepository.findById(testCoachId)).willReturn(Optional.of(testCoach));
-        given(coachService.mapToSummaryResponse(testCoach)).willReturn(testCoachSummary);
+        given(coachRepository.existsById(testCoachId)).willReturn(true);
+        given(lifterRepository.findViewsByCoachId(testCoachId))
+                .willReturn(Arrays.asList(listView(testLifter), listView(lifter2)));
 
         // When
         List<LifterResponse> result = lifterService.getLiftersByCoach(testCoachId);
@@ -491,4 +494,24 @@ class LifterServiceTest {
         assertThat(result.getLastName()).isEqualTo("User");
         assertThat(result.getCoach().getCoachId()).isEqualTo(testCoachId);
     }
-}
\ No newline at end of file
+
+    // The listings read a projection row with the coach's names joined in, not the entity
+    private LifterListView listView(Lifter lifter) {
+        User user = lifter.getApp_user();
+        Map<String, Object> row = new HashMap<>();
+        row.put("lifterId", lifter.getLifterId());
+        row.put("username", user.getUsername());
+        row.put("email", user.getEmail());
+        row.put("firstName", user.getFirstName());
+        row.put("lastName", user.getLastName());
+        row.put("createdAt", user.getCreatedAt());
+        if (lifter.getCoach() != null) {
+            User coachUser = lifter.getCoach().getApp_user();
+            row.put("coachId", lifter.getCoach().getCoachId());
+            row.put("coachFirstName", coachUser.getFirstName());
+            row.put("coachLastName", coachUser.getLastName());
+            row.put("coachUsername", coachUser.getUsername());
+        }
+        return new SpelAwareProxyProjectionFactory().createProjection(LifterListView.class, row);
+    }
+}
@@ -0,0 +1,47 @@
+package com.strengthhub.strength_hub_api.service;
+
+import com.strengthhub.strength_hub_api.exception.common.InvalidPageCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PageCursor Tests")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip the keyset through its opaque encoding")
+    void decode_WithEncodedCursor_ShouldReturnSameKeyset() {
+        // Given
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 3, 1, 9, 30, 0, 123456000), UUID.randomUUID());
+
+        // When
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("Should treat a missing cursor as the first page")
+    void decode_WithoutCursor_ShouldReturnNull() {
+        // When & Then
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject cursors this API did not issue")
+    void decode_WithTamperedCursor_ShouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidPageCursorException.class);
+        assertThatThrownBy(() -> PageCursor.decode("%%%"))
+                .isInstanceOf(InvalidPageCursorException.class);
+    }
+}
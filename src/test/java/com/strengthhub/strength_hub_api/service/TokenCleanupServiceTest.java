@@ -0,0 +1,148 @@
+package com.strengthhub.strength_hub_api.service;
+
+import com.strengthhub.strength_hub_api.repository.RefreshTokenRepository;
+import com.strengthhub.strength_hub_api.repository.RefreshTokenRepository.PurgeKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenCleanupService Tests")
+class TokenCleanupServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private TokenCleanupService tokenCleanupService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenCleanupService, "batchSize", 2);
+        ReflectionTestUtils.setField(tokenCleanupService, "pauseMs", 0L);
+        ReflectionTestUtils.setField(tokenCleanupService, "timeBudgetMs", 60000L);
+    }
+
+    @Test
+    @DisplayName("Should purge expired tokens in batches, resuming each batch after the previous keyset cursor")
+    void purge_WithSeveralBatches_ShouldFollowKeysetCursor() {
+        // Given
+        PurgeKey first = purgeKey(LocalDateTime.now().minusDays(3));
+        PurgeKey second = purgeKey(LocalDateTime.now().minusDays(2));
+        PurgeKey third = purgeKey(LocalDateTime.now().minusDays(1));
+
+        given(refreshTokenRepository.findFirstExpiredBatch(any(LocalDateTime.class), eq(Limit.of(2))))
+                .willReturn(List.of(first, second));
+        given(refreshTokenRepository.findNextExpiredBatch(any(LocalDateTime.class), eq(second.getExpiresAt()), eq(second.getTokenId()), eq(Limit.of(2))))
+                .willReturn(List.of(third));
+        given(refreshTokenRepository.deleteByTokenIds(List.of(first.getTokenId(), second.getTokenId()))).willReturn(2);
+        given(refreshTokenRepository.deleteByTokenIds(List.of(third.getTokenId()))).willReturn(1);
+        given(refreshTokenRepository.findFirstRevokedBatch(Limit.of(2))).willReturn(List.of());
+
+        // When
+        TokenCleanupService.PurgeReport report = tokenCleanupService.purgeExpiredAndRevokedTokens();
+
+        // Then
+        assertThat(report.rowsRemoved()).isEqualTo(3);
+        assertThat(report.batches()).isEqualTo(2);
+        assertThat(report.completed()).isTrue();
+        assertThat(report.duration()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should report nothing removed when there is nothing to purge")
+    void purge_WithNothingToPurge_ShouldNotDelete() {
+        // Given
+        given(refreshTokenRepository.findFirstExpiredBatch(any(LocalDateTime.class), any(Limit.class))).willReturn(List.of());
+        given(refreshTokenRepository.findFirstRevokedBatch(any(Limit.class))).willReturn(List.of());
+
+        // When
+        TokenCleanupService.PurgeReport report = tokenCleanupService.purgeExpiredAndRevokedTokens();
+
+        // Then
+        assertThat(report.rowsRemoved()).isZero();
+        assertThat(report.batches()).isZero();
+        assertThat(report.completed()).isTrue();
+        then(refreshTokenRepository).should(never()).deleteByTokenIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should stop after the current batch once the time budget is exhausted")
+    void purge_WhenTimeBudgetExhausted_ShouldStopEarly() {
+        // Given
+        ReflectionTestUtils.setField(tokenCleanupService, "timeBudgetMs", 0L);
+        PurgeKey first = purgeKey(LocalDateTime.now().minusDays(2));
+        PurgeKey second = purgeKey(LocalDateTime.now().minusDays(1));
+
+        given(refreshTokenRepository.findFirstExpiredBatch(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(first, second));
+        given(refreshTokenRepository.deleteByTokenIds(anyList())).willReturn(2);
+
+        // When
+        TokenCleanupService.PurgeReport report = tokenCleanupService.purgeExpiredAndRevokedTokens();
+
+        // Then
+        assertThat(report.rowsRemoved()).isEqualTo(2);
+        assertThat(report.batches()).isEqualTo(1);
+        assertThat(report.completed()).isFalse();
+        then(refreshTokenRepository).should(never())
+                .findNextExpiredBatch(any(LocalDateTime.class), any(LocalDateTime.class), any(UUID.class), any(Limit.class));
+        then(refreshTokenRepository).should(never()).findFirstRevokedBatch(any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Should purge revoked tokens in a second pass after the expired ones")
+    void purge_WithRevokedTokens_ShouldPurgeThemAfterExpiredPass() {
+        // Given
+        UUID firstRevoked = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID secondRevoked = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID thirdRevoked = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+        given(refreshTokenRepository.findFirstExpiredBatch(any(LocalDateTime.class), eq(Limit.of(2)))).willReturn(List.of());
+        given(refreshTokenRepository.findFirstRevokedBatch(Limit.of(2))).willReturn(List.of(firstRevoked, secondRevoked));
+        given(refreshTokenRepository.findNextRevokedBatch(secondRevoked, Limit.of(2))).willReturn(List.of(thirdRevoked));
+        given(refreshTokenRepository.deleteByTokenIds(List.of(firstRevoked, secondRevoked))).willReturn(2);
+        given(refreshTokenRepository.deleteByTokenIds(List.of(thirdRevoked))).willReturn(1);
+
+        // When
+        TokenCleanupService.PurgeReport report = tokenCleanupService.purgeExpiredAndRevokedTokens();
+
+        // Then
+        assertThat(report.rowsRemoved()).isEqualTo(3);
+        assertThat(report.batches()).isEqualTo(2);
+        assertThat(report.completed()).isTrue();
+    }
+
+    private static PurgeKey purgeKey(LocalDateTime expiresAt) {
+        UUID tokenId = UUID.randomUUID();
+        return new PurgeKey() {
+            @Override
+            public UUID getTokenId() {
+                return tokenId;
+            }
+
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.strengthhub.strength_hub_api.service;
 import com.strengthhub.strength_hub_api.dto.request.coach.CoachRegistrationRequest;
 import com.strengthhub.strength_hub_api.dto.request.user.UserRegistrationRequest;
 import com.strengthhub.strength_hub_api.dto.request.user.UserUpdateRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
 import com.strengthhub.strength_hub_api.dto.response.user.UserResponse;
 import com.strengthhub.strength_hub_api.enums.UserType;
 import com.strengthhub.strength_hub_api.exception.user.UserAlreadyExistsException;
@@ -12,18 +13,25 @@ import com.strengthhub.strength_hub_api.model.Lifter;
 import com.strengthhub.strength_hub_api.model.User;
 import com.strengthhub.strength_hub_api.repository.LifterRepository;
 import com.strengthhub.strength_hub_api.repository.UserRepository;
+import com.strengthhub.strength_hub_api.repository.UserRepository.UserSummaryView;
+import com.strengthhub.strength_hub_api.service.workout.LifterProgressService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -53,6 +61,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private LifterProgressService lifterProgressService;
+
+    @Mock
+    private CoachLifterCountService coachLifterCountService;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private UserService userService;
 
@@ -157,6 +174,8 @@ class UserServiceTest {
 
         then(userRepository).should(never()).save(any(User.class));
         then(lifterRepository).should(never()).save(any(Lifter.class));
+        then(passwordEncoder).shouldHaveNoInteractions();
+        then(transactionOperations).shouldHaveNoInteractions();
     }
 
     @Test
@@ -219,17 +238,45 @@ class UserServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        List<User> users = Arrays.asList(testUser, user2);
-        given(userRepository.findAll()).willReturn(users);
+        List<UserSummaryView> users = Arrays.asList(summaryView(testUser), summaryView(user2));
+        given(userRepository.findFirstPage(PageCursor.fetchLimit(20))).willReturn(users);
 
         // When
-        List<UserResponse> result = userService.getAllUsers();
+        CursorPageResponse<UserResponse> result = userService.getAllUsers(20, null);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getUsername()).isEqualTo("testuser");
-        assertThat(result.get(1).getUsername()).isEqualTo("testuser2");
-        assertThat(result.get(1).getIsAdmin()).isTrue();
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems().get(0).getUsername()).isEqualTo("testuser");
+        assertThat(result.getItems().get(1).getUsername()).isEqualTo("testuser2");
+        assertThat(result.getItems().get(1).getIsAdmin()).isTrue();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return a next cursor that resumes after the last user of the page")
+    void getAllUsers_WithMoreRows_ShouldSeekPastCursor() {
+        // Given
+        User user2 = User.builder()
+                .userId(UUID.randomUUID())
+                .username("testuser2")
+                .createdAt(testUser.getCreatedAt().plusSeconds(1))
+                .build();
+
+        given(userRepository.findFirstPage(PageCursor.fetchLimit(1)))
+                .willReturn(Arrays.asList(summaryView(testUser), summaryView(user2)));
+        given(userRepository.findPageAfter(testUser.getCreatedAt(), testUser.getUserId(), PageCursor.fetchLimit(1)))
+                .willReturn(List.of(summaryView(user2)));
+
+        // When
+        CursorPageResponse<UserResponse> firstPage = userService.getAllUsers(1, null);
+        CursorPageResponse<UserResponse> secondPage = userService.getAllUsers(1, firstPage.getNextCursor());
+
+        // Then
+        assertThat(firstPage.getItems()).extracting(UserResponse::getUsername).containsExactly("testuser");
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(secondPage.getItems()).extracting(UserResponse::getUsername).containsExactly("testuser2");
+        assertThat(secondPage.getNextCursor()).isNull();
+        then(userRepository).should(never()).findAll();
     }
 
     @Test
@@ -332,6 +379,23 @@ class UserServiceTest {
         then(userRepository).should().deleteById(testUserId);
     }
 
+    @Test
+    @DisplayName("Should take a deleted lifter off their coach's lifter count")
+    void deleteUser_WithCoachedLifter_ShouldDecrementCoachLifterCount() {
+        // Given
+        Coach coach = Coach.builder().coachId(UUID.randomUUID()).build();
+        Lifter lifter = Lifter.builder().lifterId(testUserId).app_user(testUser).coach(coach).build();
+        given(userRepository.existsById(testUserId)).willReturn(true);
+        given(lifterRepository.findById(testUserId)).willReturn(Optional.of(lifter));
+
+        // When
+        userService.deleteUser(testUserId);
+
+        // Then
+        then(coachLifterCountService).should().lifterMoved(coach, null);
+        then(userRepository).should().deleteById(testUserId);
+    }
+
     @Test
     @DisplayName("Should throw exception when deleting non-existent user")
     void deleteUser_WithInvalidId_ShouldThrowUserNotFoundException() {
@@ -421,4 +485,17 @@ class UserServiceTest {
         assertThat(result.getUsername()).isEqualTo("testuser"); // Unchanged
         assertThat(result.getEmail()).isEqualTo("test@example.com"); // Unchanged
     }
-}
\ No newline at end of file
+
+    // The listing reads a projection row, not the entity
+    private UserSummaryView summaryView(User user) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("userId", user.getUserId());
+        row.put("username", user.getUsername());
+        row.put("email", user.getEmail());
+        row.put("firstName", user.getFirstName());
+        row.put("lastName", user.getLastName());
+        row.put("isAdmin", user.getIsAdmin());
+        row.put("createdAt", user.getCreatedAt());
+        return new SpelAwareProxyProjectionFactory().createProjection(UserSummaryView.class, row);
+    }
+}
@@ -0,0 +1,201 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutProgressResponse;
+import com.strengthhub.strength_hub_api.exception.workout.WorkoutPlanNotFoundException;
+import com.strengthhub.strength_hub_api.model.Lifter;
+import com.strengthhub.strength_hub_api.model.User;
+import com.strengthhub.strength_hub_api.model.workout.LifterProgress;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutPlan;
+import com.strengthhub.strength_hub_api.repository.workout.LifterProgressRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository.DayCounterView;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LifterProgressService Tests")
+class LifterProgressServiceTest {
+
+    @Mock
+    private LifterProgressRepository lifterProgressRepository;
+
+    @Mock
+    private WorkoutDayRepository workoutDayRepository;
+
+    @Mock
+    private WorkoutPlanRepository workoutPlanRepository;
+
+    @InjectMocks
+    private LifterProgressService lifterProgressService;
+
+    private UUID testLifterId;
+    private UUID testPlanId;
+    private WorkoutPlan testWorkoutPlan;
+
+    @BeforeEach
+    void setUp() {
+        testLifterId = UUID.randomUUID();
+        testPlanId = UUID.randomUUID();
+
+        User lifterUser = User.builder()
+                .userId(testLifterId)
+                .username("lifter")
+                .firstName("Lifter")
+                .lastName("User")
+                .build();
+        Lifter lifter = Lifter.builder().lifterId(testLifterId).app_user(lifterUser).build();
+
+        testWorkoutPlan = WorkoutPlan.builder()
+                .planId(testPlanId)
+                .name("Test Plan")
+                .totalWeeks(8)
+                .assignedLifter(lifter)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should build snapshot from day counters for a newly assigned lifter")
+    void refresh_WithNewAssignment_ShouldBuildSnapshotFromDayCounters() {
+        // Given
+        given(lifterProgressRepository.findById(testLifterId)).willReturn(Optional.empty());
+        given(workoutDayRepository.findDayCountersByPlanId(testPlanId)).willReturn(List.of(
+                dayCounters(1, 1, 3, 3),
+                dayCounters(1, 2, 2, 2),
+                dayCounters(2, 1, 3, 1),
+                dayCounters(2, 2, 0, 0)));
+
+        // When
+        lifterProgressService.refresh(testWorkoutPlan, true);
+
+        // Then
+        ArgumentCaptor<LifterProgress> captor = ArgumentCaptor.forClass(LifterProgress.class);
+        then(lifterProgressRepository).should().deleteByPlanId(testPlanId);
+        then(lifterProgressRepository).should().save(captor.capture());
+
+        LifterProgress progress = captor.getValue();
+        assertThat(progress.getLifterId()).isEqualTo(testLifterId);
+        assertThat(progress.getPlanId()).isEqualTo(testPlanId);
+        assertThat(progress.getUsername()).isEqualTo("lifter");
+        assertThat(progress.getTotalSets()).isEqualTo(8);
+        assertThat(progress.getCompletedSets()).isEqualTo(6);
+        assertThat(progress.getCompletedWeeks()).isEqualTo(1);
+        assertThat(progress.getCurrentWeek()).isEqualTo(2);
+        assertThat(progress.getCurrentDay()).isEqualTo(1);
+        assertThat(progress.getLastActivity()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should drop snapshot when plan has no assigned lifter")
+    void refresh_WithUnassignedPlan_ShouldDeleteSnapshot() {
+        // Given
+        testWorkoutPlan.setAssignedLifter(null);
+
+        // When
+        lifterProgressService.refresh(testWorkoutPlan, false);
+
+        // Then
+        then(lifterProgressRepository).should().deleteByPlanId(testPlanId);
+        then(lifterProgressRepository).should(never()).save(any(LifterProgress.class));
+    }
+
+    @Test
+    @DisplayName("Should rebuild only the counters of an existing snapshot without loading the plan")
+    void refreshCounters_WithExistingSnapshot_ShouldNotLoadPlan() {
+        // Given
+        LifterProgress existing = LifterProgress.builder()
+                .lifterId(testLifterId)
+                .planId(testPlanId)
+                .planName("Test Plan")
+                .username("lifter")
+                .build();
+        given(lifterProgressRepository.findById(testLifterId)).willReturn(Optional.of(existing));
+        given(workoutDayRepository.findDayCountersByPlanId(testPlanId)).willReturn(List.of(dayCounters(1, 1, 3, 1)));
+
+        // When
+        lifterProgressService.refreshCounters(new PlanScope(testPlanId, true, UUID.randomUUID(), testLifterId), true);
+
+        // Then
+        assertThat(existing.getTotalSets()).isEqualTo(3);
+        assertThat(existing.getCompletedSets()).isEqualTo(1);
+        assertThat(existing.getLastActivity()).isNotNull();
+        then(lifterProgressRepository).should().save(existing);
+        then(workoutPlanRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Should serve progress from the snapshot row")
+    void getProgressByLifter_WithSnapshot_ShouldMapResponse() {
+        // Given
+        LocalDateTime lastActivity = LocalDateTime.now();
+        LifterProgress progress = LifterProgress.builder()
+                .lifterId(testLifterId)
+                .planId(testPlanId)
+                .planName("Test Plan")
+                .username("lifter")
+                .firstName("Lifter")
+                .lastName("User")
+                .totalWeeks(8)
+                .completedWeeks(2)
+                .currentWeek(3)
+                .currentDay(1)
+                .totalSets(40)
+                .completedSets(10)
+                .lastActivity(lastActivity)
+                .build();
+        given(lifterProgressRepository.findById(testLifterId)).willReturn(Optional.of(progress));
+
+        // When
+        WorkoutProgressResponse result = lifterProgressService.getProgressByLifter(testLifterId);
+
+        // Then
+        assertThat(result.getPlanId()).isEqualTo(testPlanId);
+        assertThat(result.getLifter().getLifterId()).isEqualTo(testLifterId);
+        assertThat(result.getCompletedWeeks()).isEqualTo(2);
+        assertThat(result.getCurrentWeek()).isEqualTo(3);
+        assertThat(result.getOverallProgress()).isEqualTo(25.0);
+        assertThat(result.getLastActivity()).isEqualTo(lastActivity);
+        assertThat(result.getIsPlanCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should throw exception when lifter has no active plan")
+    void getProgressByLifter_WithoutSnapshot_ShouldThrowException() {
+        // Given
+        given(lifterProgressRepository.findById(testLifterId)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> lifterProgressService.getProgressByLifter(testLifterId))
+                .isInstanceOf(WorkoutPlanNotFoundException.class)
+                .hasMessageContaining(testLifterId.toString());
+    }
+
+    private static DayCounterView dayCounters(int weekNumber, int dayNumber, int totalSets, int completedSets) {
+        return new DayCounterView() {
+            public Integer getWeekNumber() { return weekNumber; }
+            public Integer getDayNumber() { return dayNumber; }
+            public Integer getTotalSets() { return totalSets; }
+            public Integer getCompletedSets() { return completedSets; }
+        };
+    }
+}
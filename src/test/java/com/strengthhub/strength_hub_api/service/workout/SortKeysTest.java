@@ -0,0 +1,48 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SortKeys Tests")
+class SortKeysTest {
+
+    @Test
+    @DisplayName("Should place an item midway between its new neighbours")
+    void forPosition_BetweenSiblings_ShouldReturnMidpoint() {
+        // Given
+        List<Long> siblingKeys = List.of(1024L, 2048L, 3072L);
+
+        // When & Then
+        assertThat(SortKeys.forPosition(siblingKeys, 1)).isEqualTo(512L);
+        assertThat(SortKeys.forPosition(siblingKeys, 2)).isEqualTo(1536L);
+        assertThat(SortKeys.forPosition(siblingKeys, 4)).isEqualTo(4096L);
+        assertThat(SortKeys.forPosition(siblingKeys, 10)).isEqualTo(4096L);
+    }
+
+    @Test
+    @DisplayName("Should ask for a respace when neighbouring keys are adjacent")
+    void forPosition_WithAdjacentNeighbours_ShouldReturnNull() {
+        // Given
+        List<Long> siblingKeys = List.of(1L, 2L);
+
+        // When & Then
+        assertThat(SortKeys.forPosition(siblingKeys, 1)).isNull();
+        assertThat(SortKeys.forPosition(siblingKeys, 2)).isNull();
+        assertThat(SortKeys.forPosition(siblingKeys, 3)).isEqualTo(1026L);
+    }
+
+    @Test
+    @DisplayName("Should derive the 1-based position from the ordered keys")
+    void rank_ShouldReturnOneBasedPosition() {
+        // Given
+        List<Long> orderedKeys = List.of(512L, 1024L, 1536L);
+
+        // When & Then
+        assertThat(SortKeys.rank(orderedKeys, 512L)).isEqualTo(1);
+        assertThat(SortKeys.rank(orderedKeys, 1536L)).isEqualTo(3);
+    }
+}
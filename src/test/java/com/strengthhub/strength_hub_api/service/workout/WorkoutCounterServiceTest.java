@@ -0,0 +1,171 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import com.strengthhub.strength_hub_api.model.workout.Exercise;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutDay;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutPlan;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutWeek;
+import com.strengthhub.strength_hub_api.repository.workout.ExerciseRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutWeekRepository;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkoutCounterService Tests")
+class WorkoutCounterServiceTest {
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @Mock
+    private WorkoutDayRepository workoutDayRepository;
+
+    @Mock
+    private WorkoutWeekRepository workoutWeekRepository;
+
+    @Mock
+    private WorkoutPlanRepository workoutPlanRepository;
+
+    @Mock
+    private LifterProgressService lifterProgressService;
+
+    @InjectMocks
+    private WorkoutCounterService workoutCounterService;
+
+    private WorkoutPlan plan;
+    private WorkoutWeek week;
+    private WorkoutDay day;
+    private Exercise exercise;
+
+    @BeforeEach
+    void setUp() {
+        plan = WorkoutPlan.builder().planId(UUID.randomUUID()).build();
+        week = WorkoutWeek.builder().weekId(UUID.randomUUID()).workoutPlan(plan).build();
+        day = WorkoutDay.builder().dayId(UUID.randomUUID()).workoutWeek(week).totalSets(4).completedSets(3).build();
+        exercise = Exercise.builder().exerciseId(UUID.randomUUID()).workoutDay(day).totalSets(2).completedSets(1).build();
+    }
+
+    @Test
+    @DisplayName("Should apply a set delta to every level by id and bump the revision with the plan counters")
+    void recordSetChange_ShouldPropagateToAllLevelsById() {
+        // Given
+        UUID exerciseId = exercise.getExerciseId();
+        PlanScope scope = new PlanScope(plan.getPlanId(), true, UUID.randomUUID(), UUID.randomUUID());
+
+        // When
+        workoutCounterService.recordSetChange(scope, exerciseId, 0, 1);
+
+        // Then
+        then(exerciseRepository).should().adjustSetCounters(exerciseId, 0, 1);
+        then(workoutDayRepository).should().adjustSetCountersByExerciseId(exerciseId, 0, 1);
+        then(workoutWeekRepository).should().adjustSetCountersByExerciseId(exerciseId, 0, 1);
+        then(workoutPlanRepository).should().adjustSetCountersAndBumpRevision(plan.getPlanId(), 0, 1);
+        then(workoutPlanRepository).should(never()).bumpRevision(any(UUID.class));
+        then(lifterProgressService).should().refreshCounters(scope, true);
+    }
+
+    @Test
+    @DisplayName("Should only bump the revision when a set write leaves the counters unchanged")
+    void recordSetChange_WithoutDelta_ShouldOnlyBumpRevision() {
+        // Given
+        PlanScope scope = new PlanScope(plan.getPlanId(), true, UUID.randomUUID(), null);
+
+        // When
+        workoutCounterService.recordSetChange(scope, exercise.getExerciseId(), 0, 0);
+
+        // Then
+        then(workoutPlanRepository).should().adjustSetCountersAndBumpRevision(plan.getPlanId(), 0, 0);
+        then(exerciseRepository).shouldHaveNoInteractions();
+        then(workoutDayRepository).shouldHaveNoInteractions();
+        then(workoutWeekRepository).shouldHaveNoInteractions();
+        then(lifterProgressService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Should sum batch completion deltas so each ancestor is updated once, bumping the revision with the plan counters")
+    void adjustCompletedForExercises_ShouldUpdateEachAncestorOnce() {
+        // Given
+        Exercise secondExercise = Exercise.builder().exerciseId(UUID.randomUUID()).workoutDay(day).build();
+        Map<Exercise, Integer> completedDeltas = new LinkedHashMap<>();
+        completedDeltas.put(exercise, 2);
+        completedDeltas.put(secondExercise, 3);
+
+        // When
+        workoutCounterService.adjustCompletedForExercises(completedDeltas);
+
+        // Then
+        then(exerciseRepository).should().adjustSetCounters(exercise.getExerciseId(), 0, 2);
+        then(exerciseRepository).should().adjustSetCounters(secondExercise.getExerciseId(), 0, 3);
+        then(workoutDayRepository).should().adjustSetCounters(day.getDayId(), 0, 5);
+        then(workoutWeekRepository).should().adjustSetCounters(week.getWeekId(), 0, 5);
+        then(workoutPlanRepository).should().adjustSetCountersAndBumpRevision(plan.getPlanId(), 0, 5);
+        then(workoutPlanRepository).should(never()).bumpRevision(any(UUID.class));
+        then(lifterProgressService).should(times(1)).refresh(plan, true);
+    }
+
+    @Test
+    @DisplayName("Should still bump the revision of a plan whose batch completed nothing new")
+    void adjustCompletedForExercises_WithZeroDelta_ShouldOnlyBumpRevision() {
+        // When
+        workoutCounterService.adjustCompletedForExercises(Map.of(exercise, 0));
+
+        // Then
+        then(workoutPlanRepository).should().adjustSetCountersAndBumpRevision(plan.getPlanId(), 0, 0);
+        then(exerciseRepository).shouldHaveNoInteractions();
+        then(workoutDayRepository).shouldHaveNoInteractions();
+        then(workoutWeekRepository).shouldHaveNoInteractions();
+        then(lifterProgressService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Should subtract a deleted day's counters from its week and plan only")
+    void removeDay_ShouldSubtractFromAncestors() {
+        // When
+        workoutCounterService.removeDay(day);
+
+        // Then
+        then(workoutDayRepository).should(never()).adjustSetCounters(any(UUID.class), anyInt(), anyInt());
+        then(workoutWeekRepository).should().adjustSetCounters(week.getWeekId(), -4, -3);
+        then(workoutPlanRepository).should().adjustSetCounters(plan.getPlanId(), -4, -3);
+        then(lifterProgressService).should().refresh(plan, false);
+    }
+
+    @Test
+    @DisplayName("Should report per-level drift from the repair statements")
+    void repairCounters_ShouldReportDriftedRows() {
+        // Given
+        given(exerciseRepository.repairSetCounters()).willReturn(3);
+        given(workoutDayRepository.repairSetCounters()).willReturn(2);
+        given(workoutWeekRepository.repairSetCounters()).willReturn(1);
+        given(workoutPlanRepository.repairSetCounters()).willReturn(1);
+
+        // When
+        WorkoutCounterService.RepairReport report = workoutCounterService.repairCounters();
+
+        // Then
+        assertThat(report.exercises()).isEqualTo(3);
+        assertThat(report.days()).isEqualTo(2);
+        assertThat(report.weeks()).isEqualTo(1);
+        assertThat(report.plans()).isEqualTo(1);
+        assertThat(report.totalDrift()).isEqualTo(7);
+    }
+}
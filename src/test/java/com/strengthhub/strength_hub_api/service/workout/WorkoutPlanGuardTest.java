@@ -0,0 +1,173 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import com.strengthhub.strength_hub_api.exception.workout.WorkoutPlanInactiveException;
+import com.strengthhub.strength_hub_api.exception.workout.WorkoutSetNotFoundException;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository.PlanScopeView;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository.SetScopeView;
+import com.strengthhub.strength_hub_api.service.workout.WorkoutPlanGuard.PlanScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkoutPlanGuard Tests")
+class WorkoutPlanGuardTest {
+
+    @Mock
+    private WorkoutPlanRepository workoutPlanRepository;
+
+    private WorkoutPlanGuard workoutPlanGuard;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private UUID planId;
+    private UUID coachId;
+    private UUID setId;
+
+    @BeforeEach
+    void setUp() {
+        workoutPlanGuard = new WorkoutPlanGuard(workoutPlanRepository, 100, Duration.ofSeconds(5), now::get);
+        planId = UUID.randomUUID();
+        coachId = UUID.randomUUID();
+        setId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should resolve a set with one join query and serve repeats from the cache")
+    void requireActiveSet_WhenRepeated_ShouldQueryOnce() {
+        // Given
+        given(workoutPlanRepository.findScopeBySetId(setId)).willReturn(Optional.of(scope(true)));
+
+        // When
+        PlanScope first = workoutPlanGuard.requireActiveSet(setId);
+        PlanScope second = workoutPlanGuard.requireActiveSet(setId);
+
+        // Then
+        assertThat(first.planId()).isEqualTo(planId);
+        assertThat(first.coachId()).isEqualTo(coachId);
+        assertThat(first.lifterId()).isNull();
+        assertThat(second).isEqualTo(first);
+        then(workoutPlanRepository).should(times(1)).findScopeBySetId(setId);
+    }
+
+    @Test
+    @DisplayName("Should reject writes to an inactive plan")
+    void requireActiveSet_WithInactivePlan_ShouldThrowException() {
+        // Given
+        given(workoutPlanRepository.findScopeBySetId(setId)).willReturn(Optional.of(scope(false)));
+
+        // When & Then
+        assertThatThrownBy(() -> workoutPlanGuard.requireActiveSet(setId))
+                .isInstanceOf(WorkoutPlanInactiveException.class)
+                .hasMessageContaining(planId.toString());
+    }
+
+    @Test
+    @DisplayName("Should throw not found for an unknown set")
+    void requireActiveSet_WithUnknownSet_ShouldThrowException() {
+        // Given
+        given(workoutPlanRepository.findScopeBySetId(setId)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> workoutPlanGuard.requireActiveSet(setId))
+                .isInstanceOf(WorkoutSetNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should reload only the plan row after the plan is invalidated")
+    void invalidatePlan_ShouldReloadPlanStateWithoutChildJoin() {
+        // Given
+        given(workoutPlanRepository.findScopeBySetId(setId)).willReturn(Optional.of(scope(true)));
+        given(workoutPlanRepository.findScopeByPlanId(planId)).willReturn(Optional.of(scope(false)));
+        workoutPlanGuard.requireActiveSet(setId);
+
+        // When
+        workoutPlanGuard.invalidatePlan(planId);
+
+        // Then
+        assertThatThrownBy(() -> workoutPlanGuard.requireActiveSet(setId))
+                .isInstanceOf(WorkoutPlanInactiveException.class);
+        then(workoutPlanRepository).should(times(1)).findScopeBySetId(setId);
+        then(workoutPlanRepository).should(never()).findScopeByExerciseId(setId);
+    }
+
+    @Test
+    @DisplayName("Should reload a cached plan state once it expires, even without an invalidation")
+    void requireActiveSet_AfterStateTtl_ShouldReloadPlanState() {
+        // Given
+        given(workoutPlanRepository.findScopeBySetId(setId)).willReturn(Optional.of(scope(true)));
+        given(workoutPlanRepository.findScopeByPlanId(planId)).willReturn(Optional.of(scope(false)));
+        workoutPlanGuard.requireActiveSet(setId);
+
+        // When
+        now.addAndGet(4_999L);
+        PlanScope withinTtl = workoutPlanGuard.requireActiveSet(setId);
+        now.addAndGet(1L);
+
+        // Then
+        assertThat(withinTtl.active()).isTrue();
+        assertThatThrownBy(() -> workoutPlanGuard.requireActiveSet(setId))
+                .isInstanceOf(WorkoutPlanInactiveException.class);
+        then(workoutPlanRepository).should(times(1)).findScopeByPlanId(planId);
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch of sets with one query and serve cached sets without one")
+    void findSets_ShouldQueryOnlyUncachedSetsTogether() {
+        // Given
+        UUID otherSetId = UUID.randomUUID();
+        UUID unknownSetId = UUID.randomUUID();
+        given(workoutPlanRepository.findScopesBySetIdIn(List.of(setId, otherSetId, unknownSetId)))
+                .willReturn(List.of(setScope(setId), setScope(otherSetId)));
+
+        // When
+        Map<UUID, PlanScope> first = workoutPlanGuard.findSets(List.of(setId, otherSetId, unknownSetId));
+        Map<UUID, PlanScope> second = workoutPlanGuard.findSets(List.of(setId, otherSetId));
+
+        // Then
+        assertThat(first).containsOnlyKeys(setId, otherSetId);
+        assertThat(first.get(setId).coachId()).isEqualTo(coachId);
+        assertThat(second).isEqualTo(first);
+        assertThat(workoutPlanGuard.findSet(setId)).contains(first.get(setId));
+        then(workoutPlanRepository).should(times(1)).findScopesBySetIdIn(anyCollection());
+        then(workoutPlanRepository).should(never()).findScopeBySetId(setId);
+    }
+
+    private SetScopeView setScope(UUID id) {
+        return new SetScopeView() {
+            public UUID getSetId() { return id; }
+            public UUID getPlanId() { return planId; }
+            public Boolean getIsActive() { return true; }
+            public UUID getCoachId() { return coachId; }
+            public UUID getLifterId() { return null; }
+        };
+    }
+
+    private PlanScopeView scope(boolean active) {
+        return new PlanScopeView() {
+            public UUID getPlanId() { return planId; }
+            public Boolean getIsActive() { return active; }
+            public UUID getCoachId() { return coachId; }
+            public UUID getLifterId() { return null; }
+        };
+    }
+}
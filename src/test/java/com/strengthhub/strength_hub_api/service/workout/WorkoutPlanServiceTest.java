@@ -1,14 +1,25 @@
 package com.strengthhub.strength_hub_api.service.workout;
 
+import com.strengthhub.strength_hub_api.dto.request.workout.ExerciseTreeRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutDayTreeRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanAssignmentRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanCreateRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanInstantiateRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanTreeRequest;
 import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutPlanUpdateRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutSetTreeRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.WorkoutWeekTreeRequest;
+import com.strengthhub.strength_hub_api.dto.response.CursorPageResponse;
+import com.strengthhub.strength_hub_api.dto.response.workout.ExerciseResponse;
+import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutDayResponse;
 import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutPlanDetailResponse;
 import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutPlanResponse;
 import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutPlanSummaryResponse;
+import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutPlanTreeResponse;
 import com.strengthhub.strength_hub_api.dto.response.workout.WorkoutStatsResponse;
 import com.strengthhub.strength_hub_api.exception.coach.CoachNotFoundException;
 import com.strengthhub.strength_hub_api.exception.lifter.LifterNotFoundException;
+import com.strengthhub.strength_hub_api.exception.workout.DuplicateWorkoutStructureException;
 import com.strengthhub.strength_hub_api.exception.workout.InvalidWorkoutStructureException;
 import com.strengthhub.strength_hub_api.exception.workout.WorkoutPlanAlreadyAssignedException;
 import com.strengthhub.strength_hub_api.exception.workout.WorkoutPlanNotFoundException;
@@ -18,29 +29,40 @@ import com.strengthhub.strength_hub_api.model.User;
 import com.strengthhub.strength_hub_api.model.workout.Exercise;
 import com.strengthhub.strength_hub_api.model.workout.WorkoutDay;
 import com.strengthhub.strength_hub_api.model.workout.WorkoutPlan;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutSet;
 import com.strengthhub.strength_hub_api.model.workout.WorkoutWeek;
 import com.strengthhub.strength_hub_api.repository.CoachRepository;
 import com.strengthhub.strength_hub_api.repository.LifterRepository;
+import com.strengthhub.strength_hub_api.repository.workout.ExerciseRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutDayRepository;
 import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository.PlanSummaryView;
 import com.strengthhub.strength_hub_api.repository.workout.WorkoutSetRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutWeekRepository;
+import com.strengthhub.strength_hub_api.service.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -61,6 +83,21 @@ class WorkoutPlanServiceTest {
     @Mock
     private WorkoutSetRepository workoutSetRepository;
 
+    @Mock
+    private WorkoutWeekRepository workoutWeekRepository;
+
+    @Mock
+    private WorkoutDayRepository workoutDayRepository;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @Mock
+    private LifterProgressService lifterProgressService;
+
+    @Mock
+    private WorkoutPlanGuard workoutPlanGuard;
+
     @InjectMocks
     private WorkoutPlanService workoutPlanService;
 
@@ -234,8 +271,8 @@ class WorkoutPlanServiceTest {
     void getWorkoutPlanById_WithValidId_ShouldReturnDetailResponse() {
         // Given
         given(workoutPlanRepository.findById(testPlanId)).willReturn(Optional.of(testWorkoutPlan));
-        given(workoutSetRepository.countByPlanId(testPlanId)).willReturn(10L);
-        given(workoutSetRepository.countCompletedByPlanId(testPlanId)).willReturn(5L);
+        given(workoutPlanRepository.findStatsByPlanId(testPlanId))
+                .willReturn(Optional.of(statsView(8, 0, 0, 10, 5, 101, 101)));
 
         // When
         WorkoutPlanDetailResponse result = workoutPlanService.getWorkoutPlanById(testPlanId);
@@ -249,6 +286,179 @@ class WorkoutPlanServiceTest {
         assertThat(result.getStats().getCompletedSets()).isEqualTo(5);
     }
 
+    @Test
+    @DisplayName("Should assemble full plan tree from flat per-level queries")
+    void getWorkoutPlanTree_WithValidId_ShouldStitchNestedStructure() {
+        // Given
+        WorkoutWeek week = WorkoutWeek.builder().weekId(UUID.randomUUID()).weekNumber(1).workoutPlan(testWorkoutPlan).build();
+        WorkoutDay squatDay = WorkoutDay.builder().dayId(UUID.randomUUID()).dayNumber(1).name("Squat").workoutWeek(week).build();
+        WorkoutDay restDay = WorkoutDay.builder().dayId(UUID.randomUUID()).dayNumber(2).name("Rest").workoutWeek(week).build();
+        Exercise squat = Exercise.builder().exerciseId(UUID.randomUUID()).name("Squat").sortKey(1024L).workoutDay(squatDay).build();
+        WorkoutSet firstSet = WorkoutSet.builder().setId(UUID.randomUUID()).sortKey(1024L).targetReps(5).isCompleted(true).exercise(squat).build();
+        WorkoutSet secondSet = WorkoutSet.builder().setId(UUID.randomUUID()).sortKey(2048L).targetReps(5).isCompleted(true).exercise(squat).build();
+
+        given(workoutPlanRepository.findByIdWithCoachAndLifter(testPlanId)).willReturn(Optional.of(testWorkoutPlan));
+        given(workoutWeekRepository.findByWorkoutPlan_PlanIdOrderByWeekNumber(testPlanId)).willReturn(List.of(week));
+        given(workoutDayRepository.findByPlanIdOrderByWeekAndDay(testPlanId)).willReturn(List.of(squatDay, restDay));
+        given(exerciseRepository.findByPlanIdOrderByWeekDayAndOrder(testPlanId)).willReturn(List.of(squat));
+        given(workoutSetRepository.findByPlanIdOrderByWeekDayExerciseAndSet(testPlanId)).willReturn(List.of(firstSet, secondSet));
+
+        // When
+        WorkoutPlanTreeResponse result = workoutPlanService.getWorkoutPlanTree(testPlanId);
+
+        // Then
+        assertThat(result.getPlanId()).isEqualTo(testPlanId);
+        assertThat(result.getWeeks()).hasSize(1);
+        assertThat(result.getWeeks().get(0).getDays()).extracting("name").containsExactly("Squat", "Rest");
+        assertThat(result.getWeeks().get(0).getDays().get(0).getExercises()).hasSize(1);
+        assertThat(result.getWeeks().get(0).getDays().get(0).getExercises().get(0).getSets())
+                .extracting("setNumber").containsExactly(1, 2);
+        assertThat(result.getWeeks().get(0).getDays().get(0).getIsCompleted()).isTrue();
+        assertThat(result.getWeeks().get(0).getDays().get(1).getExercises()).isEmpty();
+        assertThat(result.getWeeks().get(0).getIsCompleted()).isFalse();
+        then(workoutPlanRepository).should(never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when plan tree requested for missing plan")
+    void getWorkoutPlanTree_WithInvalidId_ShouldThrowWorkoutPlanNotFoundException() {
+        // Given
+        given(workoutPlanRepository.findByIdWithCoachAndLifter(testPlanId)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> workoutPlanService.getWorkoutPlanTree(testPlanId))
+                .isInstanceOf(WorkoutPlanNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should create nested plan tree in one save with counters filled in")
+    void createWorkoutPlanTree_WithValidRequest_ShouldPersistWholeTree() {
+        // Given
+        WorkoutPlanTreeRequest request = WorkoutPlanTreeRequest.builder()
+                .name("Test Plan")
+                .totalWeeks(8)
+                .coachId(testCoachId)
+                .weeks(List.of(WorkoutWeekTreeRequest.builder()
+                        .weekNumber(1)
+                        .days(List.of(
+                                dayTree(2, exerciseTree(1, 3)),
+                                dayTree(1, exerciseTree(2, 1), exerciseTree(1, 2))))
+                        .build()))
+                .build();
+        given(coachRepository.findById(testCoachId)).willReturn(Optional.of(testCoach));
+        given(workoutPlanRepository.saveAndFlush(any(WorkoutPlan.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        WorkoutPlanTreeResponse result = workoutPlanService.createWorkoutPlanTree(request);
+
+        // Then
+        ArgumentCaptor<WorkoutPlan> captor = ArgumentCaptor.forClass(WorkoutPlan.class);
+        then(workoutPlanRepository).should().saveAndFlush(captor.capture());
+        WorkoutPlan saved = captor.getValue();
+        assertThat(saved.getTotalSets()).isEqualTo(6);
+        assertThat(saved.getWeeks().get(0).getTotalSets()).isEqualTo(6);
+        assertThat(saved.getWeeks().get(0).getDays().get(0).getTotalSets()).isEqualTo(3);
+
+        assertThat(result.getWeeks()).hasSize(1);
+        assertThat(result.getWeeks().get(0).getDays()).extracting(WorkoutDayResponse::getDayNumber).containsExactly(1, 2);
+        assertThat(result.getWeeks().get(0).getDays().get(0).getExercises())
+                .extracting(ExerciseResponse::getExerciseOrder).containsExactly(1, 2);
+        then(workoutWeekRepository).shouldHaveNoInteractions();
+        then(lifterProgressService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Should reject nested plan tree with duplicate day numbers before saving")
+    void createWorkoutPlanTree_WithDuplicateDayNumber_ShouldThrowDuplicateWorkoutStructureException() {
+        // Given
+        WorkoutPlanTreeRequest request = WorkoutPlanTreeRequest.builder()
+                .name("Test Plan")
+                .totalWeeks(8)
+                .coachId(testCoachId)
+                .weeks(List.of(WorkoutWeekTreeRequest.builder()
+                        .weekNumber(1)
+                        .days(List.of(dayTree(1), dayTree(1)))
+                        .build()))
+                .build();
+        given(coachRepository.findById(testCoachId)).willReturn(Optional.of(testCoach));
+
+        // When & Then
+        assertThatThrownBy(() -> workoutPlanService.createWorkoutPlanTree(request))
+                .isInstanceOf(DuplicateWorkoutStructureException.class)
+                .hasMessageContaining("Day 1");
+        then(workoutPlanRepository).should(never()).saveAndFlush(any(WorkoutPlan.class));
+    }
+
+    @Test
+    @DisplayName("Should instantiate template by copying each level with one statement")
+    void instantiateTemplate_WithTemplate_ShouldCopyTreeWithoutLoadingIt() {
+        // Given
+        testWorkoutPlan.setIsTemplate(true);
+        UUID newPlanId = UUID.randomUUID();
+        UUID callingCoachId = UUID.randomUUID();
+        Coach callingCoach = Coach.builder()
+                .coachId(callingCoachId)
+                .app_user(User.builder()
+                        .userId(callingCoachId)
+                        .username("othercoach")
+                        .firstName("Other")
+                        .lastName("Coach")
+                        .build())
+                .build();
+        given(workoutPlanRepository.findById(testPlanId)).willReturn(Optional.of(testWorkoutPlan));
+        given(coachRepository.findById(callingCoachId)).willReturn(Optional.of(callingCoach));
+        given(lifterRepository.findById(testLifterId)).willReturn(Optional.of(testLifter));
+        given(workoutPlanRepository.findActiveByLifterId(testLifterId)).willReturn(Optional.empty());
+        given(workoutPlanRepository.saveAndFlush(any(WorkoutPlan.class))).willAnswer(invocation -> {
+            WorkoutPlan plan = invocation.getArgument(0);
+            plan.setPlanId(newPlanId);
+            return plan;
+        });
+
+        // When
+        WorkoutPlanSummaryResponse result = workoutPlanService.instantiateTemplate(testPlanId, callingCoachId,
+                WorkoutPlanInstantiateRequest.builder().assignedLifterId(testLifterId).build());
+
+        // Then
+        assertThat(result.getPlanId()).isEqualTo(newPlanId);
+        assertThat(result.getCoach().getCoachId()).isEqualTo(callingCoachId);
+        assertThat(result.getName()).isEqualTo("Test Plan");
+        assertThat(result.getIsTemplate()).isFalse();
+        assertThat(result.getAssignedLifter().getLifterId()).isEqualTo(testLifterId);
+
+        then(workoutWeekRepository).should().copyWeeksToPlan(testPlanId, newPlanId);
+        then(workoutDayRepository).should().copyDaysToPlan(testPlanId, newPlanId);
+        then(exerciseRepository).should().copyExercisesToPlan(testPlanId, newPlanId);
+        then(workoutSetRepository).should().copySetsToPlan(testPlanId, newPlanId);
+        then(lifterProgressService).should().refresh(any(WorkoutPlan.class), eq(false));
+    }
+
+    @Test
+    @DisplayName("Should refuse to instantiate a plan that is not a template")
+    void instantiateTemplate_WithRegularPlan_ShouldThrowInvalidWorkoutStructureException() {
+        // Given
+        given(workoutPlanRepository.findById(testPlanId)).willReturn(Optional.of(testWorkoutPlan));
+
+        // When & Then
+        assertThatThrownBy(() -> workoutPlanService.instantiateTemplate(testPlanId, null, new WorkoutPlanInstantiateRequest()))
+                .isInstanceOf(InvalidWorkoutStructureException.class)
+                .hasMessageContaining("not a template");
+        then(workoutPlanRepository).should(never()).saveAndFlush(any(WorkoutPlan.class));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when revision requested for missing plan")
+    void getWorkoutPlanRevision_WithInvalidId_ShouldThrowWorkoutPlanNotFoundException() {
+        // Given
+        given(workoutPlanRepository.findRevisionByPlanId(testPlanId)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> workoutPlanService.getWorkoutPlanRevision(testPlanId))
+                .isInstanceOf(WorkoutPlanNotFoundException.class)
+                .hasMessageContaining(testPlanId.toString());
+        then(workoutPlanRepository).should(never()).findById(any());
+    }
+
     @Test
     @DisplayName("Should throw exception when workout plan not found")
     void getWorkoutPlanById_WithInvalidId_ShouldThrowWorkoutPlanNotFoundException() {
@@ -273,18 +483,19 @@ class WorkoutPlanServiceTest {
                 .weeks(new ArrayList<>())
                 .build();
 
-        List<WorkoutPlan> plans = Arrays.asList(testWorkoutPlan, plan2);
+        List<PlanSummaryView> plans = Arrays.asList(summaryView(testWorkoutPlan), summaryView(plan2));
 
-        given(coachRepository.findById(testCoachId)).willReturn(Optional.of(testCoach));
-        given(workoutPlanRepository.findByCoach_CoachId(testCoachId)).willReturn(plans);
+        given(coachRepository.existsById(testCoachId)).willReturn(true);
+        given(workoutPlanRepository.findFirstPageByCoachId(testCoachId, PageCursor.fetchLimit(20))).willReturn(plans);
 
         // When
-        List<WorkoutPlanSummaryResponse> result = workoutPlanService.getWorkoutPlansByCoach(testCoachId);
+        CursorPageResponse<WorkoutPlanSummaryResponse> result = workoutPlanService.getWorkoutPlansByCoach(testCoachId, 20, null);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getName()).isEqualTo("Test Plan");
-        assertThat(result.get(1).getName()).isEqualTo("Plan 2");
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems().get(0).getName()).isEqualTo("Test Plan");
+        assertThat(result.getItems().get(1).getName()).isEqualTo("Plan 2");
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
@@ -292,10 +503,10 @@ class WorkoutPlanServiceTest {
     void getWorkoutPlansByLifter_WithValidLifterId_ShouldReturnPlans() {
         // Given
         testWorkoutPlan.setAssignedLifter(testLifter);
-        List<WorkoutPlan> plans = Arrays.asList(testWorkoutPlan);
+        List<PlanSummaryView> plans = List.of(summaryView(testWorkoutPlan));
 
-        given(lifterRepository.findById(testLifterId)).willReturn(Optional.of(testLifter));
-        given(workoutPlanRepository.findByAssignedLifter_LifterId(testLifterId)).willReturn(plans);
+        given(lifterRepository.existsById(testLifterId)).willReturn(true);
+        given(workoutPlanRepository.findSummariesByLifterId(testLifterId)).willReturn(plans);
 
         // When
         List<WorkoutPlanSummaryResponse> result = workoutPlanService.getWorkoutPlansByLifter(testLifterId);
@@ -303,6 +514,7 @@ class WorkoutPlanServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getAssignedLifter().getLifterId()).isEqualTo(testLifterId);
+        assertThat(result.get(0).getCoach().getCoachId()).isEqualTo(testCoachId);
     }
 
     @Test
@@ -330,6 +542,8 @@ class WorkoutPlanServiceTest {
 
         given(workoutPlanRepository.findById(testPlanId)).willReturn(Optional.of(testWorkoutPlan));
         given(workoutPlanRepository.save(any(WorkoutPlan.class))).willReturn(updatedPlan);
+        given(workoutPlanRepository.findStatsByPlanId(testPlanId))
+                .willReturn(Optional.of(statsView(8, 12, 36, 144, 20, 301, 407)));
 
         // When
         WorkoutPlanResponse result = workoutPlanService.updateWorkoutPlan(testPlanId, updateRequest);
@@ -339,6 +553,9 @@ class WorkoutPlanServiceTest {
         assertThat(result.getDescription()).isEqualTo("Updated Description");
         assertThat(result.getIsActive()).isFalse();
         assertThat(result.getIsTemplate()).isTrue();
+        assertThat(result.getTotalDays()).isEqualTo(12);
+        assertThat(result.getTotalExercises()).isEqualTo(36);
+        then(workoutPlanGuard).should().invalidatePlan(testPlanId);
     }
 
     @Test
@@ -359,6 +576,7 @@ class WorkoutPlanServiceTest {
 
         // Then
         then(workoutPlanRepository).should().save(testWorkoutPlan);
+        then(workoutPlanGuard).should().invalidatePlan(testPlanId);
     }
 
     @Test
@@ -394,6 +612,7 @@ class WorkoutPlanServiceTest {
 
         // Then
         then(workoutPlanRepository).should().save(testWorkoutPlan);
+        then(workoutPlanGuard).should().invalidatePlan(testPlanId);
     }
 
     @Test
@@ -415,50 +634,38 @@ class WorkoutPlanServiceTest {
     @DisplayName("Should delete workout plan successfully")
     void deleteWorkoutPlan_WithValidId_ShouldDeletePlan() {
         // Given
-        given(workoutPlanRepository.findById(testPlanId)).willReturn(Optional.of(testWorkoutPlan));
+        given(workoutPlanRepository.existsById(testPlanId)).willReturn(true);
 
         // When
         workoutPlanService.deleteWorkoutPlan(testPlanId);
 
         // Then
-        then(workoutPlanRepository).should().delete(testWorkoutPlan);
+        then(lifterProgressService).should().removeForPlan(testPlanId);
+        then(workoutPlanGuard).should().invalidatePlan(testPlanId);
+        then(workoutPlanRepository).should().deleteByPlanId(testPlanId);
+        then(workoutPlanRepository).should(never()).delete(any(WorkoutPlan.class));
     }
 
     @Test
-    @DisplayName("Should get workout plan stats successfully")
-    void getWorkoutPlanStats_WithValidId_ShouldReturnStats() {
+    @DisplayName("Should throw exception when deleting non-existent workout plan")
+    void deleteWorkoutPlan_WithInvalidId_ShouldThrowException() {
         // Given
-        // Create a plan with nested structure for stats calculation
-        WorkoutWeek week1 = WorkoutWeek.builder()
-                .weekId(UUID.randomUUID())
-                .weekNumber(1)
-                .workoutPlan(testWorkoutPlan)
-                .days(new ArrayList<>())
-                .build();
-
-        WorkoutDay day1 = WorkoutDay.builder()
-                .dayId(UUID.randomUUID())
-                .dayNumber(1)
-                .name("Day 1")
-                .workoutWeek(week1)
-                .exercises(new ArrayList<>())
-                .build();
+        given(workoutPlanRepository.existsById(testPlanId)).willReturn(false);
 
-        Exercise exercise1 = Exercise.builder()
-                .exerciseId(UUID.randomUUID())
-                .name("Squat")
-                .exerciseOrder(1)
-                .workoutDay(day1)
-                .sets(new ArrayList<>())
-                .build();
+        // When & Then
+        assertThatThrownBy(() -> workoutPlanService.deleteWorkoutPlan(testPlanId))
+                .isInstanceOf(WorkoutPlanNotFoundException.class);
 
-        day1.getExercises().add(exercise1);
-        week1.getDays().add(day1);
-        testWorkoutPlan.getWeeks().add(week1);
+        then(workoutPlanRepository).should(never()).deleteByPlanId(any(UUID.class));
+    }
 
-        given(workoutPlanRepository.findById(testPlanId)).willReturn(Optional.of(testWorkoutPlan));
-        given(workoutSetRepository.countByPlanId(testPlanId)).willReturn(20L);
-        given(workoutSetRepository.countCompletedByPlanId(testPlanId)).willReturn(15L);
+    @Test
+    @DisplayName("Should get workout plan stats successfully")
+    void getWorkoutPlanStats_WithValidId_ShouldReturnStats() {
+        // Given
+        // 15 of 20 sets done; first open set is in week 2, day 3
+        given(workoutPlanRepository.findStatsByPlanId(testPlanId))
+                .willReturn(Optional.of(statsView(8, 1, 1, 20, 15, 203, 405)));
 
         // When
         WorkoutStatsResponse result = workoutPlanService.getWorkoutPlanStats(testPlanId);
@@ -471,21 +678,67 @@ class WorkoutPlanServiceTest {
         assertThat(result.getTotalSets()).isEqualTo(20);
         assertThat(result.getCompletedSets()).isEqualTo(15);
         assertThat(result.getCompletionPercentage()).isEqualTo(75.0);
+        assertThat(result.getCurrentWeek()).isEqualTo(2);
+        assertThat(result.getCurrentDay()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should report last day as current once every set is completed")
+    void getWorkoutPlanStats_WithAllSetsCompleted_ShouldStayOnLastDay() {
+        // Given
+        given(workoutPlanRepository.findStatsByPlanId(testPlanId))
+                .willReturn(Optional.of(statsView(8, 32, 96, 480, 480, null, 804)));
+
+        // When
+        WorkoutStatsResponse result = workoutPlanService.getWorkoutPlanStats(testPlanId);
+
+        // Then
+        assertThat(result.getCompletionPercentage()).isEqualTo(100.0);
+        assertThat(result.getCurrentWeek()).isEqualTo(8);
+        assertThat(result.getCurrentDay()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should decode day keys of plans longer than nine weeks")
+    void getWorkoutPlanStats_WithDoubleDigitWeek_ShouldDecodeWeekAndDay() {
+        // Given
+        // First open set is in week 12, day 3
+        given(workoutPlanRepository.findStatsByPlanId(testPlanId))
+                .willReturn(Optional.of(statsView(16, 80, 240, 1200, 700, 1203, 1607)));
+
+        // When
+        WorkoutStatsResponse result = workoutPlanService.getWorkoutPlanStats(testPlanId);
+
+        // Then
+        assertThat(result.getCurrentWeek()).isEqualTo(12);
+        assertThat(result.getCurrentDay()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when getting stats for non-existent plan")
+    void getWorkoutPlanStats_WithInvalidId_ShouldThrowException() {
+        // Given
+        given(workoutPlanRepository.findStatsByPlanId(testPlanId)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> workoutPlanService.getWorkoutPlanStats(testPlanId))
+                .isInstanceOf(WorkoutPlanNotFoundException.class);
     }
 
     @Test
     @DisplayName("Should handle zero sets in stats calculation")
     void getWorkoutPlanStats_WithZeroSets_ShouldReturnZeroCompletion() {
         // Given
-        given(workoutPlanRepository.findById(testPlanId)).willReturn(Optional.of(testWorkoutPlan));
-        given(workoutSetRepository.countByPlanId(testPlanId)).willReturn(0L);
-        given(workoutSetRepository.countCompletedByPlanId(testPlanId)).willReturn(0L);
+        given(workoutPlanRepository.findStatsByPlanId(testPlanId))
+                .willReturn(Optional.of(statsView(8, 0, 0, 0, 0, null, null)));
 
         // When
         WorkoutStatsResponse result = workoutPlanService.getWorkoutPlanStats(testPlanId);
 
         // Then
         assertThat(result.getCompletionPercentage()).isEqualTo(0.0);
+        assertThat(result.getCurrentWeek()).isNull();
+        assertThat(result.getCurrentDay()).isNull();
     }
 
     @Test
@@ -531,6 +784,8 @@ class WorkoutPlanServiceTest {
         given(lifterRepository.findById(testLifterId)).willReturn(Optional.of(testLifter));
         given(workoutPlanRepository.findActiveByLifterId(testLifterId)).willReturn(Optional.of(testWorkoutPlan)); // Same plan
         given(workoutPlanRepository.save(any(WorkoutPlan.class))).willReturn(updatedPlan);
+        given(workoutPlanRepository.findStatsByPlanId(testPlanId))
+                .willReturn(Optional.of(statsView(8, 0, 0, 0, 0, null, null)));
 
         // When
         WorkoutPlanResponse result = workoutPlanService.updateWorkoutPlan(testPlanId, updateRequest);
@@ -539,4 +794,61 @@ class WorkoutPlanServiceTest {
         assertThat(result.getName()).isEqualTo("Updated Name");
         assertThat(result.getAssignedLifter().getLifterId()).isEqualTo(testLifterId);
     }
-}
\ No newline at end of file
+
+    private static WorkoutPlanRepository.PlanStatsView statsView(int totalWeeks, long totalDays, long totalExercises,
+                                                                 long totalSets, long completedSets,
+                                                                 Integer firstOpenDayKey, Integer lastDayKey) {
+        return new WorkoutPlanRepository.PlanStatsView() {
+            public Integer getTotalWeeks() { return totalWeeks; }
+            public Long getTotalDays() { return totalDays; }
+            public Long getTotalExercises() { return totalExercises; }
+            public Long getTotalSets() { return totalSets; }
+            public Long getCompletedSets() { return completedSets; }
+            public Integer getFirstOpenDayKey() { return firstOpenDayKey; }
+            public Integer getLastDayKey() { return lastDayKey; }
+        };
+    }
+
+    private static WorkoutDayTreeRequest dayTree(int dayNumber, ExerciseTreeRequest... exercises) {
+        return WorkoutDayTreeRequest.builder()
+                .dayNumber(dayNumber)
+                .name("Day " + dayNumber)
+                .exercises(List.of(exercises))
+                .build();
+    }
+
+    private static ExerciseTreeRequest exerciseTree(int exerciseOrder, int setCount) {
+        List<WorkoutSetTreeRequest> sets = new ArrayList<>();
+        for (int setNumber = 1; setNumber <= setCount; setNumber++) {
+            sets.add(WorkoutSetTreeRequest.builder().setNumber(setNumber).targetReps(5).build());
+        }
+        return ExerciseTreeRequest.builder()
+                .name("Exercise " + exerciseOrder)
+                .exerciseOrder(exerciseOrder)
+                .sets(sets)
+                .build();
+    }
+
+    // The listings read a projection row with coach and lifter names joined in, not the entity
+    private PlanSummaryView summaryView(WorkoutPlan plan) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("planId", plan.getPlanId());
+        row.put("name", plan.getName());
+        row.put("description", plan.getDescription());
+        row.put("totalWeeks", plan.getTotalWeeks());
+        row.put("isActive", plan.getIsActive());
+        row.put("isTemplate", plan.getIsTemplate());
+        row.put("createdAt", plan.getCreatedAt());
+        row.put("coachId", plan.getCoach().getCoachId());
+        row.put("coachFirstName", plan.getCoach().getApp_user().getFirstName());
+        row.put("coachLastName", plan.getCoach().getApp_user().getLastName());
+        row.put("coachUsername", plan.getCoach().getApp_user().getUsername());
+        if (plan.getAssignedLifter() != null) {
+            row.put("lifterId", plan.getAssignedLifter().getLifterId());
+            row.put("lifterFirstName", plan.getAssignedLifter().getApp_user().getFirstName());
+            row.put("lifterLastName", plan.getAssignedLifter().getApp_user().getLastName());
+            row.put("lifterUsername", plan.getAssignedLifter().getApp_user().getUsername());
+        }
+        return new SpelAwareProxyProjectionFactory().createProjection(PlanSummaryView.class, row);
+    }
+}
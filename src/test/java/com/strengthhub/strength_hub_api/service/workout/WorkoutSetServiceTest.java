@@ -0,0 +1,203 @@
+package com.strengthhub.strength_hub_api.service.workout;
+
+import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionBatchItem;
+import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionBatchRequest;
+import com.strengthhub.strength_hub_api.dto.request.workout.SetCompletionRequest;
+import com.strengthhub.strength_hub_api.dto.response.workout.SetCompletionBatchResponse;
+import com.strengthhub.strength_hub_api.dto.response.workout.SetCompletionResult;
+import com.strengthhub.strength_hub_api.enums.SetCompletionStatus;
+import com.strengthhub.strength_hub_api.model.workout.Exercise;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutDay;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutPlan;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutSet;
+import com.strengthhub.strength_hub_api.model.workout.WorkoutWeek;
+import com.strengthhub.strength_hub_api.repository.workout.ExerciseRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutPlanRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutSetRepository;
+import com.strengthhub.strength_hub_api.repository.workout.WorkoutSetRepository.SetSortKeyView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkoutSetService Tests")
+class WorkoutSetServiceTest {
+
+    @Mock
+    private WorkoutSetRepository workoutSetRepository;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @Mock
+    private WorkoutPlanRepository workoutPlanRepository;
+
+    @Mock
+    private WorkoutPlanGuard workoutPlanGuard;
+
+    @Mock
+    private WorkoutCounterService workoutCounterService;
+
+    @InjectMocks
+    private WorkoutSetService workoutSetService;
+
+    private Exercise squat;
+    private Exercise bench;
+    private Exercise inactiveExercise;
+    private SetCompletionRequest completion;
+
+    @BeforeEach
+    void setUp() {
+        squat = exercise(plan(true));
+        bench = exercise(squat.getWorkoutDay().getWorkoutWeek().getWorkoutPlan());
+        inactiveExercise = exercise(plan(false));
+
+        completion = SetCompletionRequest.builder()
+                .actualReps(5)
+                .actualWeight(new BigDecimal("100.0"))
+                .actualRpe(new BigDecimal("8.0"))
+                .lifterNotes("Moved well")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should report each item's outcome and count only newly completed sets")
+    void completeWorkoutSets_WithMixedItems_ShouldReportEachItem() {
+        // Given
+        WorkoutSet newSquatSet = set(squat, 1024L, false);
+        WorkoutSet doneSquatSet = set(squat, 2048L, true);
+        WorkoutSet doneBenchSet = set(bench, 1024L, true);
+        WorkoutSet inactiveSet = set(inactiveExercise, 1024L, false);
+        UUID missingSetId = UUID.randomUUID();
+
+        given(workoutSetRepository.findAllWithPlanBySetIdIn(anyCollection()))
+                .willReturn(List.of(newSquatSet, doneSquatSet, doneBenchSet, inactiveSet));
+        given(workoutSetRepository.findSortKeysByExerciseIdIn(anyCollection())).willReturn(List.of(
+                sortKey(squat, 1024L), sortKey(squat, 2048L),
+                sortKey(bench, 1024L),
+                sortKey(inactiveExercise, 1024L)));
+
+        SetCompletionBatchRequest request = SetCompletionBatchRequest.builder()
+                .sets(List.of(
+                        item(newSquatSet.getSetId()),
+                        item(doneSquatSet.getSetId()),
+                        item(doneBenchSet.getSetId()),
+                        item(newSquatSet.getSetId()),
+                        item(missingSetId),
+                        item(inactiveSet.getSetId())))
+                .build();
+
+        // When
+        SetCompletionBatchResponse response = workoutSetService.completeWorkoutSets(request);
+
+        // Then
+        assertThat(response.getRequested()).isEqualTo(6);
+        assertThat(response.getCompleted()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults())
+                .extracting(SetCompletionResult::getStatus)
+                .containsExactly(
+                        SetCompletionStatus.COMPLETED,
+                        SetCompletionStatus.COMPLETED,
+                        SetCompletionStatus.COMPLETED,
+                        SetCompletionStatus.DUPLICATE,
+                        SetCompletionStatus.NOT_FOUND,
+                        SetCompletionStatus.PLAN_INACTIVE);
+        assertThat(response.getResults().get(1).getSet().getSetNumber()).isEqualTo(2);
+        assertThat(response.getResults().get(4).getMessage()).contains(missingSetId.toString());
+
+        assertThat(newSquatSet.getIsCompleted()).isTrue();
+        assertThat(newSquatSet.getActualReps()).isEqualTo(5);
+        assertThat(inactiveSet.getIsCompleted()).isFalse();
+        assertThat(inactiveSet.getActualReps()).isNull();
+
+        then(workoutSetRepository).should().saveAll(List.of(newSquatSet, doneSquatSet, doneBenchSet));
+        then(workoutCounterService).should().adjustCompletedForExercises(Map.of(squat, 1, bench, 0));
+        then(workoutPlanRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Should fail every item without touching counters when no set can be completed")
+    void completeWorkoutSets_WithNoApplicableItems_ShouldReportFailures() {
+        // Given
+        WorkoutSet inactiveSet = set(inactiveExercise, 1024L, false);
+        given(workoutSetRepository.findAllWithPlanBySetIdIn(anyCollection())).willReturn(List.of(inactiveSet));
+        given(workoutSetRepository.findSortKeysByExerciseIdIn(anyCollection()))
+                .willReturn(List.of(sortKey(inactiveExercise, 1024L)));
+
+        SetCompletionBatchRequest request = SetCompletionBatchRequest.builder()
+                .sets(List.of(item(inactiveSet.getSetId()), item(UUID.randomUUID())))
+                .build();
+
+        // When
+        SetCompletionBatchResponse response = workoutSetService.completeWorkoutSets(request);
+
+        // Then
+        assertThat(response.getRequested()).isEqualTo(2);
+        assertThat(response.getCompleted()).isZero();
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(SetCompletionResult::getStatus)
+                .containsExactly(SetCompletionStatus.PLAN_INACTIVE, SetCompletionStatus.NOT_FOUND);
+        then(workoutCounterService).should().adjustCompletedForExercises(Map.of());
+    }
+
+    private SetCompletionBatchItem item(UUID setId) {
+        return SetCompletionBatchItem.builder()
+                .setId(setId)
+                .completion(completion)
+                .build();
+    }
+
+    private static WorkoutPlan plan(boolean active) {
+        return WorkoutPlan.builder()
+                .planId(UUID.randomUUID())
+                .name("Plan")
+                .isActive(active)
+                .build();
+    }
+
+    private static Exercise exercise(WorkoutPlan plan) {
+        WorkoutWeek week = WorkoutWeek.builder().weekId(UUID.randomUUID()).weekNumber(1).workoutPlan(plan).build();
+        WorkoutDay day = WorkoutDay.builder().dayId(UUID.randomUUID()).dayNumber(1).workoutWeek(week).build();
+        return Exercise.builder().exerciseId(UUID.randomUUID()).sortKey(1024L).workoutDay(day).build();
+    }
+
+    private static WorkoutSet set(Exercise exercise, long sortKey, boolean completed) {
+        return WorkoutSet.builder()
+                .setId(UUID.randomUUID())
+                .sortKey(sortKey)
+                .targetReps(5)
+                .isCompleted(completed)
+                .exercise(exercise)
+                .build();
+    }
+
+    private static SetSortKeyView sortKey(Exercise exercise, long sortKey) {
+        return new SetSortKeyView() {
+            @Override
+            public UUID getExerciseId() {
+                return exercise.getExerciseId();
+            }
+
+            @Override
+            public Long getSortKey() {
+                return sortKey;
+            }
+        };
+    }
+}
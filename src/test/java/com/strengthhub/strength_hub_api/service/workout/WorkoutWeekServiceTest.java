@@ -45,6 +45,9 @@ class WorkoutWeekServiceTest {
     @Mock
     private WorkoutPlanRepository workoutPlanRepository;
 
+    @Mock
+    private WorkoutCounterService workoutCounterService;
+
     @InjectMocks
     private WorkoutWeekService workoutWeekService;
 
@@ -121,6 +124,7 @@ class WorkoutWeekServiceTest {
         assertThat(result.getDayCount()).isEqualTo(0);
 
         then(workoutWeekRepository).should().save(any(WorkoutWeek.class));
+        then(workoutPlanRepository).should().bumpRevision(testPlanId);
     }
 
     @Test
@@ -377,7 +381,35 @@ class WorkoutWeekServiceTest {
         workoutWeekService.deleteWorkoutWeek(testWeekId);
 
         // Then
-        then(workoutWeekRepository).should().delete(testWorkoutWeek);
+        then(workoutCounterService).should().removeWeek(testWorkoutWeek);
+        then(workoutWeekRepository).should().deleteByWeekId(testWeekId);
+        then(workoutPlanRepository).should().bumpRevision(testPlanId);
+    }
+
+    @Test
+    @DisplayName("Should resolve the owning plan's revision for a week")
+    void getPlanRevisionForWeek_WithValidId_ShouldReturnPlanRevision() {
+        // Given
+        given(workoutWeekRepository.findPlanRevisionByWeekId(testWeekId)).willReturn(Optional.of(7L));
+
+        // When
+        long revision = workoutWeekService.getPlanRevisionForWeek(testWeekId);
+
+        // Then
+        assertThat(revision).isEqualTo(7L);
+        then(workoutWeekRepository).should(never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when resolving revision of a missing week")
+    void getPlanRevisionForWeek_WithInvalidId_ShouldThrowException() {
+        // Given
+        given(workoutWeekRepository.findPlanRevisionByWeekId(testWeekId)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> workoutWeekService.getPlanRevisionForWeek(testWeekId))
+                .isInstanceOf(WorkoutWeekNotFoundException.class)
+                .hasMessageContaining(testWeekId.toString());
     }
 
     @Test
@@ -391,7 +423,7 @@ class WorkoutWeekServiceTest {
         assertThatThrownBy(() -> workoutWeekService.deleteWorkoutWeek(testWeekId))
                 .isInstanceOf(WorkoutPlanInactiveException.class);
 
-        then(workoutWeekRepository).should(never()).delete(any(WorkoutWeek.class));
+        then(workoutWeekRepository).should(never()).deleteByWeekId(any(UUID.class));
     }
 
     @Test
@@ -432,19 +464,21 @@ class WorkoutWeekServiceTest {
                 .name("Day 1")
                 .workoutWeek(testWorkoutWeek)
                 .exercises(new ArrayList<>())
+                .totalSets(2)
+                .completedSets(1)
                 .build();
 
         Exercise exercise1 = Exercise.builder()
                 .exerciseId(UUID.randomUUID())
                 .name("Squat")
-                .exerciseOrder(1)
+                .sortKey(1024L)
                 .workoutDay(day1)
                 .sets(new ArrayList<>())
                 .build();
 
         WorkoutSet set1 = WorkoutSet.builder()
                 .setId(UUID.randomUUID())
-                .setNumber(1)
+                .sortKey(1024L)
                 .targetReps(5)
                 .isCompleted(true)
                 .exercise(exercise1)
@@ -452,7 +486,7 @@ class WorkoutWeekServiceTest {
 
         WorkoutSet set2 = WorkoutSet.builder()
                 .setId(UUID.randomUUID())
-                .setNumber(2)
+                .sortKey(2048L)
                 .targetReps(5)
                 .isCompleted(false)
                 .exercise(exercise1)
@@ -474,6 +508,41 @@ class WorkoutWeekServiceTest {
         assertThat(result.getDays().get(0).getExerciseCount()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("Should read day completion from maintained set counters")
+    void mapToResponse_WithAllDaySetsCompleted_ShouldMarkDayCompleted() {
+        // Given
+        WorkoutDay completedDay = WorkoutDay.builder()
+                .dayId(UUID.randomUUID())
+                .dayNumber(1)
+                .name("Day 1")
+                .workoutWeek(testWorkoutWeek)
+                .exercises(new ArrayList<>())
+                .totalSets(6)
+                .completedSets(6)
+                .build();
+
+        WorkoutDay emptyDay = WorkoutDay.builder()
+                .dayId(UUID.randomUUID())
+                .dayNumber(2)
+                .name("Day 2")
+                .workoutWeek(testWorkoutWeek)
+                .exercises(new ArrayList<>())
+                .build();
+
+        testWorkoutWeek.getDays().add(completedDay);
+        testWorkoutWeek.getDays().add(emptyDay);
+
+        given(workoutWeekRepository.findById(testWeekId)).willReturn(Optional.of(testWorkoutWeek));
+
+        // When
+        WorkoutWeekResponse result = workoutWeekService.getWorkoutWeekById(testWeekId);
+
+        // Then
+        assertThat(result.getDays().get(0).getIsCompleted()).isTrue();
+        assertThat(result.getDays().get(1).getIsCompleted()).isFalse(); // No sets yet
+    }
+
     @Test
     @DisplayName("Should handle empty week correctly")
     void mapToResponse_WithEmptyWeek_ShouldReturnZeroCounts() {